@@ -0,0 +1,102 @@
+/*
+ * Copyright 2026 Bang Jun-young
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions
+ * are met:
+ * 1. Redistributions of source code must retain the above copyright
+ *    notice, this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright
+ *    notice, this list of conditions and the following disclaimer in the
+ *    documentation and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE AUTHOR ``AS IS'' AND ANY EXPRESS OR
+ * IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES
+ * OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED.
+ * IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY DIRECT, INDIRECT,
+ * INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT
+ * NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF
+ * THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.github.bangjunyoung;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * {@link KoreanCharApproxMatcher#isMatch}의 처리량과 메모리 할당량을 패턴 문자의
+ * 종류별로 측정하는 벤치마크.
+ *
+ * @author 방준영 &lt;bang.junyoung@gmail.com&gt;
+ */
+@State(Scope.Thread)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class KoreanCharApproxMatcherBenchmark {
+
+    static final int PAIR_COUNT = 1024;
+
+    /**
+     * 패턴 문자의 종류. {@code syllable}은 완성된 음절, {@code partial}은 초성과
+     * 중성만 있는 음절, {@code choseong}은 호환 자모 초성, {@code latin}은 영문자다.
+     */
+    @Param({"syllable", "partial", "choseong", "latin"})
+    public String patternKind;
+
+    private final char[] _text = new char[PAIR_COUNT];
+    private final char[] _pattern = new char[PAIR_COUNT];
+
+    @Setup
+    public void setUp() {
+        final Random random = new Random(42);
+        for (int i = 0; i < PAIR_COUNT; i++) {
+            final char t = (char)('가' + random.nextInt('힣' - '가' + 1));
+            _text[i] = t;
+
+            //
+            // Half the pairs match, so that neither outcome dominates.
+            //
+            final char source = random.nextBoolean() ? t : (char)('가' + random.nextInt('힣' - '가' + 1));
+            switch (patternKind) {
+            case "syllable":
+                _pattern[i] = source;
+                break;
+            case "partial":
+                _pattern[i] = KoreanChar.compose(KoreanChar.getCompatChoseong(source),
+                    KoreanChar.getCompatJungseong(source));
+                break;
+            case "choseong":
+                _pattern[i] = KoreanChar.getCompatChoseong(source);
+                break;
+            default:
+                _text[i] = (char)('a' + random.nextInt(26));
+                _pattern[i] = random.nextBoolean() ? _text[i] : (char)('a' + random.nextInt(26));
+                break;
+            }
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(PAIR_COUNT)
+    public int isMatch() {
+        int count = 0;
+        for (int i = 0; i < PAIR_COUNT; i++) {
+            if (KoreanCharApproxMatcher.isMatch(_text[i], _pattern[i]))
+                count++;
+        }
+
+        return count;
+    }
+}
@@ -0,0 +1,79 @@
+/*
+ * Copyright 2026 Bang Jun-young
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions
+ * are met:
+ * 1. Redistributions of source code must retain the above copyright
+ *    notice, this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright
+ *    notice, this list of conditions and the following disclaimer in the
+ *    documentation and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE AUTHOR ``AS IS'' AND ANY EXPRESS OR
+ * IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES
+ * OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED.
+ * IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY DIRECT, INDIRECT,
+ * INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT
+ * NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF
+ * THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.github.bangjunyoung;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * {@link KoreanChar#decomposeToCompat}의 처리량과 메모리 할당량을 측정하는
+ * 벤치마크.
+ *
+ * @author 방준영 &lt;bang.junyoung@gmail.com&gt;
+ */
+@State(Scope.Thread)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class KoreanCharBenchmark {
+
+    static final int SYLLABLE_COUNT = 1024;
+
+    private final char[] _syllables = new char[SYLLABLE_COUNT];
+    private final StringBuilder _destination = new StringBuilder();
+
+    @Setup
+    public void setUp() {
+        final Random random = new Random(42);
+        for (int i = 0; i < _syllables.length; i++)
+            _syllables[i] = (char)('가' + random.nextInt('힣' - '가' + 1));
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SYLLABLE_COUNT)
+    public void decomposeToCompat(Blackhole blackhole) {
+        for (char syllable : _syllables)
+            blackhole.consume(KoreanChar.decomposeToCompat(syllable));
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SYLLABLE_COUNT)
+    public int decomposeToCompatStringBuilder() {
+        int length = 0;
+        for (char syllable : _syllables) {
+            _destination.setLength(0);
+            length += KoreanChar.decomposeToCompat(syllable, _destination);
+        }
+
+        return length;
+    }
+}
@@ -0,0 +1,105 @@
+/*
+ * Copyright 2026 Bang Jun-young
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions
+ * are met:
+ * 1. Redistributions of source code must retain the above copyright
+ *    notice, this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright
+ *    notice, this list of conditions and the following disclaimer in the
+ *    documentation and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE AUTHOR ``AS IS'' AND ANY EXPRESS OR
+ * IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES
+ * OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED.
+ * IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY DIRECT, INDIRECT,
+ * INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT
+ * NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF
+ * THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package io.github.bangjunyoung;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import io.github.bangjunyoung.KoreanTextMatcher.MatchingOptions;
+
+/**
+ * 자모 단위의 편집을 허용하는 {@link KoreanTextMatcher}의 처리량을 편집 횟수에
+ * 따라 측정하는 벤치마크.
+ * <p>
+ * 긴 문서를 검색하는 {@link #matches()}와, 연락처 이름 목록을 한 글자 입력할
+ * 때마다 거르는 상황을 흉내낸 {@link #filter()}를 측정한다. 편집 횟수가 {@code 0}이면
+ * 기존 매칭과 같으므로 비교 기준이 되며, {@link #jamoStream}을 켜면 편집 없이
+ * 자모열로 매칭하는 {@link MatchingOptions#JamoStream}을 측정한다.
+ *
+ * @author 방준영 &lt;bang.junyoung@gmail.com&gt;
+ */
+@State(Scope.Thread)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class KoreanEditsBenchmark {
+
+    static final String[] NAMES = {
+        "김민수", "김미나", "박민수", "이소민", "한국어", "한글날", "대한민국", "Kim Minsu"
+    };
+
+    @Param({"한굴", "대한밍국", "kim국민"})
+    public String pattern;
+
+    @Param({"0", "1", "2", "3"})
+    public int maxEdits;
+
+    /** {@link MatchingOptions#JamoStream}을 지정할지 여부. */
+    @Param({"false", "true"})
+    public boolean jamoStream;
+
+    @Param({"1000000"})
+    public int textLength;
+
+    @Param({"10000"})
+    public int corpusSize;
+
+    private KoreanTextMatcher _matcher;
+    private String _text;
+    private String[] _corpus;
+    private long[] _bitmap;
+
+    @Setup
+    public void setUp() {
+        final Random random = new Random(42);
+        _matcher = jamoStream
+            ? new KoreanTextMatcher(pattern, maxEdits, MatchingOptions.JamoStream)
+            : new KoreanTextMatcher(pattern, maxEdits);
+        _text = KoreanTextMatcherBenchmark.buildText(textLength, random);
+        _corpus = new String[corpusSize];
+        for (int i = 0; i < corpusSize; i++)
+            _corpus[i] = NAMES[random.nextInt(NAMES.length)] + " " + NAMES[random.nextInt(NAMES.length)];
+        _bitmap = new long[(corpusSize + 63) / 64];
+    }
+
+    @Benchmark
+    public int matches() {
+        int count = 0;
+        for (KoreanTextMatch match : _matcher.matches(_text))
+            count += match.length();
+
+        return count;
+    }
+
+    @Benchmark
+    public int filter() {
+        return _matcher.filter(_corpus, _bitmap);
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * Copyright 2026 Bang Jun-young
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions
+ * are met:
+ * 1. Redistributions of source code must retain the above copyright
+ *    notice, this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright
+ *    notice, this list of conditions and the following disclaimer in the
+ *    documentation and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE AUTHOR ``AS IS'' AND ANY EXPRESS OR
+ * IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES
+ * OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED.
+ * IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY DIRECT, INDIRECT,
+ * INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT
+ * NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF
+ * THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.github.bangjunyoung;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import io.github.bangjunyoung.KoreanTextMatcher.MatchingOptions;
+
+/**
+ * 정적 메소드 {@link KoreanTextMatcher#isMatch(String, String, MatchingOptions...)}의
+ * 처리량과 메모리 할당량을 공유 캐시를 쓸 때와 쓰지 않을 때로 나누어 측정하는
+ * 벤치마크.
+ * <p>
+ * 템플릿 엔진처럼 몇 개 안 되는 패턴을 짧은 문자열에 반복해서 검색하는 경우를
+ * 흉내낸다.
+ *
+ * @author 방준영 &lt;bang.junyoung@gmail.com&gt;
+ */
+@State(Scope.Thread)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class KoreanMatcherCacheBenchmark {
+
+    static final String[] PATTERNS = { "ㄱㅁ", "^김", "국민", "한국", "kim" };
+    static final String[] TEXTS = { "김국민", "대한민국 국민", "Kim Minsu", "한구기", "헌법 제1조" };
+
+    /** 공유 캐시의 크기. {@code 0}이면 캐시를 사용하지 않는다. */
+    @Param({"0", "256"})
+    public int capacity;
+
+    private int _previousCapacity;
+    private int _next;
+
+    @Setup
+    public void setUp() {
+        _previousCapacity = KoreanTextMatcher.cache().capacity();
+        KoreanTextMatcher.cache().setCapacity(capacity);
+    }
+
+    @TearDown
+    public void tearDown() {
+        KoreanTextMatcher.cache().setCapacity(_previousCapacity);
+    }
+
+    @Benchmark
+    public boolean isMatch() {
+        final int i = _next++;
+        return KoreanTextMatcher.isMatch(TEXTS[i % TEXTS.length], PATTERNS[i % PATTERNS.length],
+            MatchingOptions.DubeolsikInput, MatchingOptions.IgnoreCase);
+    }
+}
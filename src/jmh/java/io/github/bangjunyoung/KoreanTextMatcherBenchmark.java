@@ -0,0 +1,149 @@
+/*
+ * Copyright 2026 Bang Jun-young
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions
+ * are met:
+ * 1. Redistributions of source code must retain the above copyright
+ *    notice, this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright
+ *    notice, this list of conditions and the following disclaimer in the
+ *    documentation and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE AUTHOR ``AS IS'' AND ANY EXPRESS OR
+ * IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES
+ * OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED.
+ * IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY DIRECT, INDIRECT,
+ * INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT
+ * NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF
+ * THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.github.bangjunyoung;
+
+import java.util.EnumSet;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import io.github.bangjunyoung.KoreanTextMatcher.MatchingOptions;
+
+/**
+ * {@link KoreanTextMatcher#match(String)}와 {@link KoreanTextMatcher#matches(String)}의
+ * 처리량과 메모리 할당량을 측정하는 벤치마크.
+ * <p>
+ * 텍스트에는 패턴과 앞부분만 같은 단어들을 채우고 패턴의 유일한 출현을 맨 끝에
+ * 두므로, 두 메소드 모두 텍스트 전체를 훑는다. 시작 앵커가 있는 패턴은 출현을 맨
+ * 앞에 둔다. {@link MatchingOptions}의 모든 조합과 앵커의 유무, 그리고 10자 남짓한
+ * 연락처 이름에서 1천만 자짜리 문서에 이르는 텍스트 크기에 대해 측정한다.
+ * {@link MatchingOptions#JamoStream}에는 {@link MatchingOptions#DubeolsikInput}이
+ * 영향이 없으므로 그 조합은 뺀다.
+ * <p>
+ * 전체 조합은 오래 걸리므로 {@code -Pjmh.quick}을 주면 앵커 없는 패턴과 1천 자,
+ * 10만 자의 텍스트만 측정한다.
+ *
+ * @author 방준영 &lt;bang.junyoung@gmail.com&gt;
+ */
+@State(Scope.Thread)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class KoreanTextMatcherBenchmark {
+
+    static final String PATTERN = "kim국민";
+
+    //
+    // Words the text is made of. Some of them follow the pattern for a
+    // while only with particular options, so that every option has
+    // something to do, but none of them matches with any options.
+    //
+    static final String[] WORDS = {
+        "대한민국", "헌법", "제1조", "모든", "국민은", "인간으로서의", "존엄과", "가치를", "가진다.",
+        "kim국가", "KIM국어", "kim국미", "kim 국 가", "김국민", "ㄱㅁ", "Korean", "text"
+    };
+
+    @Param({
+        "Default",
+        "DubeolsikInput",
+        "IgnoreCase",
+        "IgnoreWhitespace",
+        "DubeolsikInput,IgnoreCase",
+        "DubeolsikInput,IgnoreWhitespace",
+        "IgnoreCase,IgnoreWhitespace",
+        "DubeolsikInput,IgnoreCase,IgnoreWhitespace",
+        "JamoStream",
+        "JamoStream,IgnoreCase",
+        "JamoStream,IgnoreWhitespace",
+        "JamoStream,IgnoreCase,IgnoreWhitespace"
+    })
+    public String options;
+
+    /** {@code none}, 시작 앵커 {@code ^}를 붙이는 {@code start}, 끝 앵커 {@code $}를 붙이는 {@code end}. */
+    @Param({"none", "start", "end"})
+    public String anchor;
+
+    @Param({"10", "1000", "100000", "10000000"})
+    public int textLength;
+
+    private KoreanTextMatcher _matcher;
+    private String _text;
+
+    @Setup
+    public void setUp() {
+        final EnumSet<MatchingOptions> optionSet = EnumSet.noneOf(MatchingOptions.class);
+        for (String option : options.split(",")) {
+            if (!option.equals("Default"))
+                optionSet.add(MatchingOptions.valueOf(option));
+        }
+
+        final String filler = buildText(Math.max(0, textLength - PATTERN.length()), new Random(42));
+        switch (anchor) {
+        case "start":
+            _matcher = new KoreanTextMatcher("^" + PATTERN, optionSet);
+            _text = PATTERN + filler;
+            break;
+        case "end":
+            _matcher = new KoreanTextMatcher(PATTERN + "$", optionSet);
+            _text = filler + PATTERN;
+            break;
+        default:
+            _matcher = new KoreanTextMatcher(PATTERN, optionSet);
+            _text = filler + PATTERN;
+            break;
+        }
+    }
+
+    static String buildText(int length, Random random) {
+        final StringBuilder builder = new StringBuilder(length + 16);
+        while (builder.length() < length) {
+            if (builder.length() > 0)
+                builder.append(random.nextInt(8) == 0 ? "\n" : " ");
+            builder.append(WORDS[random.nextInt(WORDS.length)]);
+        }
+        builder.setLength(length);
+
+        return builder.toString();
+    }
+
+    @Benchmark
+    public KoreanTextMatch match() {
+        return _matcher.match(_text);
+    }
+
+    @Benchmark
+    public int matches() {
+        int count = 0;
+        for (KoreanTextMatch match : _matcher.matches(_text))
+            count += match.length();
+
+        return count;
+    }
+}
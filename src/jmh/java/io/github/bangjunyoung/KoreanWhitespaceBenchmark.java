@@ -0,0 +1,107 @@
+/*
+ * Copyright 2026 Bang Jun-young
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions
+ * are met:
+ * 1. Redistributions of source code must retain the above copyright
+ *    notice, this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright
+ *    notice, this list of conditions and the following disclaimer in the
+ *    documentation and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE AUTHOR ``AS IS'' AND ANY EXPRESS OR
+ * IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES
+ * OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED.
+ * IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY DIRECT, INDIRECT,
+ * INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT
+ * NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF
+ * THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.github.bangjunyoung;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import io.github.bangjunyoung.KoreanTextMatcher.MatchingOptions;
+
+/**
+ * {@link MatchingOptions#IgnoreWhitespace}로 검색할 때의 처리량을 텍스트 속
+ * 공백의 비율과 공백이 이어지는 길이에 따라 측정하는 벤치마크.
+ * <p>
+ * 표 모양으로 정렬한 문서나 줄바꿈이 많은 OCR 결과처럼 공백이 길게, 또는
+ * 촘촘히 섞여 있는 텍스트를 흉내낸다.
+ *
+ * @author 방준영 &lt;bang.junyoung@gmail.com&gt;
+ */
+@State(Scope.Thread)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class KoreanWhitespaceBenchmark {
+
+    static final String WHITESPACE = " \t\n";
+
+    @Param({"ㄱㄴㄷ", "대한민국", "ㄱㄱㄱㄱㄱㄱㄱㄱ"})
+    public String pattern;
+
+    /** 텍스트에서 공백이 차지하는 비율(%). */
+    @Param({"0", "25", "50", "90", "97"})
+    public int whitespacePercent;
+
+    /** 한 번에 이어지는 공백의 평균 길이. */
+    @Param({"1", "64"})
+    public int runLength;
+
+    @Param({"1000000"})
+    public int textLength;
+
+    private KoreanTextMatcher _matcher;
+    private String _text;
+
+    @Setup
+    public void setUp() {
+        _matcher = new KoreanTextMatcher(pattern, MatchingOptions.IgnoreWhitespace);
+        _text = buildText(textLength, whitespacePercent, runLength, new Random(42));
+    }
+
+    static String buildText(int length, int whitespacePercent, int runLength, Random random) {
+        final StringBuilder builder = new StringBuilder(length + 2 * runLength);
+        while (builder.length() < length) {
+            //
+            // Runs of whitespace and of syllables alternate with lengths
+            // chosen so that whitespace makes up whitespacePercent of the
+            // text on average.
+            //
+            final boolean whitespace = random.nextInt(100) < whitespacePercent;
+            final int count = 1 + random.nextInt(2 * runLength);
+            for (int i = 0; i < count; i++) {
+                builder.append(whitespace
+                    ? WHITESPACE.charAt(random.nextInt(WHITESPACE.length()))
+                    : (char) (0xAC00 + random.nextInt(11172)));
+            }
+        }
+        builder.setLength(length);
+
+        return builder.toString();
+    }
+
+    @Benchmark
+    public int matches() {
+        int count = 0;
+        for (KoreanTextMatch match : _matcher.matches(_text))
+            count += match.length();
+
+        return count;
+    }
+}
@@ -0,0 +1,88 @@
+/*
+ * Copyright 2026 Bang Jun-young
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions
+ * are met:
+ * 1. Redistributions of source code must retain the above copyright
+ *    notice, this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright
+ *    notice, this list of conditions and the following disclaimer in the
+ *    documentation and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE AUTHOR ``AS IS'' AND ANY EXPRESS OR
+ * IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES
+ * OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED.
+ * IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY DIRECT, INDIRECT,
+ * INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT
+ * NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF
+ * THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.github.bangjunyoung;
+
+/**
+ * 문자 배열의 일부 영역을 복사하지 않고 {@link CharSequence}로 보여주는 클래스.
+ * <p>
+ * 인덱스는 영역의 시작을 {@code 0}으로 하는 상대 위치다. 배열의 내용이 바뀌면
+ * 이 인스턴스의 내용도 함께 바뀐다.
+ *
+ * @author 방준영 &lt;bang.junyoung@gmail.com&gt;
+ */
+final class CharArraySequence implements CharSequence {
+
+    private final char[] _buffer;
+    private final int _offset;
+    private final int _length;
+
+    CharArraySequence(char[] buffer, int offset, int length) {
+        if (buffer == null)
+            throw new IllegalArgumentException("buffer: null");
+        if (offset < 0 || offset > buffer.length)
+            throw new IllegalArgumentException("offset: " + offset + " is out of range 0 .. " + buffer.length);
+        if (length < 0 || length > buffer.length - offset)
+            throw new IllegalArgumentException("length: " + length + " is out of range 0 .. " + (buffer.length - offset));
+
+        _buffer = buffer;
+        _offset = offset;
+        _length = length;
+    }
+
+    char[] buffer() {
+        return _buffer;
+    }
+
+    int offset() {
+        return _offset;
+    }
+
+    @Override
+    public int length() {
+        return _length;
+    }
+
+    @Override
+    public char charAt(int index) {
+        if (index < 0 || index >= _length)
+            throw new IndexOutOfBoundsException("index: " + index + " is out of range 0 .. " + (_length - 1));
+
+        return _buffer[_offset + index];
+    }
+
+    @Override
+    public CharSequence subSequence(int start, int end) {
+        if (start < 0 || end > _length || start > end)
+            throw new IndexOutOfBoundsException("start: " + start + ", end: " + end + ", length: " + _length);
+
+        return new CharArraySequence(_buffer, _offset + start, end - start);
+    }
+
+    @Override
+    public String toString() {
+        return new String(_buffer, _offset, _length);
+    }
+}
@@ -0,0 +1,147 @@
+/*
+ * Copyright 2026 Bang Jun-young
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions
+ * are met:
+ * 1. Redistributions of source code must retain the above copyright
+ *    notice, this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright
+ *    notice, this list of conditions and the following disclaimer in the
+ *    documentation and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE AUTHOR ``AS IS'' AND ANY EXPRESS OR
+ * IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES
+ * OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED.
+ * IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY DIRECT, INDIRECT,
+ * INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT
+ * NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF
+ * THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.github.bangjunyoung;
+
+import java.util.Arrays;
+
+/**
+ * 텍스트에서 패턴의 첫 문자에 부합할 수 있는 위치만 골라내는 선별기.
+ * <p>
+ * 텍스트의 대부분의 위치에서는 매치가 시작될 수 없다. 예를 들어 {@code '한'}으로
+ * 시작하는 패턴은 {@code '한'}, {@code '핝'}, {@code '핞'}에서만,
+ * {@code 'ㅎ'}으로 시작하는 패턴은 {@code '하'} ~ {@code '힣'}과 {@code 'ㅎ'},
+ * {@code 'ᄒ'}에서만 시작될 수 있다. 이처럼 첫 문자에 부합하는 문자들은 몇 개의
+ * 연속된 범위로 나타낼 수 있으므로, 여러 문자를 한꺼번에 범위와 비교하는 SIMD
+ * 명령으로 후보 위치를 빠르게 찾을 수 있다.
+ * <p>
+ * 구현은 {@code jdk.incubator.vector} 모듈을 사용하는 별도의 jar로 제공되며,
+ * 그 jar가 클래스 경로에 있고 {@code --add-modules jdk.incubator.vector}로
+ * 모듈이 활성화되어 있을 때만 {@link #INSTANCE}가 {@code null}이 아니다. 그 외의
+ * 환경, 예를 들어 안드로이드에서는 선별기 없이 기존 방법으로 검색한다.
+ *
+ * @author 방준영 &lt;bang.junyoung@gmail.com&gt;
+ */
+abstract class KoreanCandidateScanner {
+
+    /**
+     * 한 번에 비교할 수 있는 범위의 최대 개수.
+     */
+    static final int MAX_RANGES = 4;
+
+    static final String IMPLEMENTATION_NAME = "io.github.bangjunyoung.KoreanVectorCandidateScanner";
+
+    /**
+     * 사용할 수 있는 선별기. 없으면 {@code null}.
+     */
+    static final KoreanCandidateScanner INSTANCE = load();
+
+    /**
+     * {@code text[from .. to)}에서 주어진 범위 중 하나에 속하는 첫번째 문자의
+     * 위치를 찾는다.
+     *
+     * @param ranges 각 범위의 처음과 마지막 문자를 차례로 담은 배열
+     * @return 찾은 위치. 없으면 {@code to}.
+     */
+    abstract int next(char[] text, int from, int to, char[] ranges);
+
+    private static KoreanCandidateScanner load() {
+        try {
+            return (KoreanCandidateScanner)Class.forName(IMPLEMENTATION_NAME)
+                .getDeclaredConstructor()
+                .newInstance();
+        } catch (ReflectiveOperationException | LinkageError | ClassCastException e) {
+            //
+            // The vector jar isn't on the class path, or the incubator module
+            // isn't enabled, so that its classes fail to link.
+            //
+            return null;
+        }
+    }
+
+    /**
+     * 패턴의 첫 문자에 부합하는 문자들을 범위로 나타낸다.
+     *
+     * @param pattern 패턴
+     * @param splitPattern 두벌식 입력으로 마지막 음절을 나눈 패턴. 없으면 {@code null}.
+     * @return 각 범위의 처음과 마지막 문자를 차례로 담은 배열. 범위가
+     *         {@value #MAX_RANGES}개보다 많으면 {@code null}.
+     */
+    static char[] ranges(KoreanTextPattern pattern, KoreanTextPattern splitPattern) {
+        final char[] ranges = new char[MAX_RANGES * 2];
+        int count = 0;
+
+        //
+        // Only Hangul syllables and jamo take part in approximate matching,
+        // and besides them, a pattern char can match only itself or, with
+        // IgnoreCase, its other case. Walking these in ascending order lets
+        // adjacent chars merge into ranges as they come.
+        //
+        final char first = pattern.charAt(0);
+        final char[] blocks = {
+            0, 0,
+            'ᄀ', 'ᄒ',
+            'ㄱ', 'ㅎ',
+            '가', '힣',
+        };
+        if (KoreanTextPattern.isLatinAlphabet(first)) {
+            blocks[0] = (char)Math.min(first, first ^ 0x20);
+            blocks[1] = (char)Math.max(first, first ^ 0x20);
+        } else
+            blocks[0] = blocks[1] = first;
+        sortFirstBlock(blocks);
+
+        int last = -2;
+        for (int b = 0; b < blocks.length; b += 2) {
+            for (int c = Math.max(blocks[b], last + 1); c <= blocks[b + 1]; c++) {
+                if (!pattern.isMatch(0, (char)c)
+                    && (splitPattern == null || !splitPattern.isMatch(0, (char)c)))
+                    continue;
+
+                if (count > 0 && ranges[count * 2 - 1] == c - 1)
+                    ranges[count * 2 - 1] = (char)c;
+                else {
+                    if (count == MAX_RANGES)
+                        return null;
+                    ranges[count * 2] = ranges[count * 2 + 1] = (char)c;
+                    count++;
+                }
+            }
+            last = Math.max(last, blocks[b + 1]);
+        }
+
+        return (count == 0) ? null : Arrays.copyOf(ranges, count * 2);
+    }
+
+    private static void sortFirstBlock(char[] blocks) {
+        for (int b = 0; b + 2 < blocks.length && blocks[b] > blocks[b + 2]; b += 2) {
+            final char start = blocks[b], end = blocks[b + 1];
+            blocks[b] = blocks[b + 2];
+            blocks[b + 1] = blocks[b + 3];
+            blocks[b + 2] = start;
+            blocks[b + 3] = end;
+        }
+    }
+}
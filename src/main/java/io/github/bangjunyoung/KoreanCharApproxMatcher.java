@@ -49,10 +49,58 @@ package io.github.bangjunyoung;
 public final class KoreanCharApproxMatcher {
     private KoreanCharApproxMatcher() {} // Can never be instantiated.
 
-    private static final ThreadLocal<StringBuilder> T_BUFFER_HOLDER =
-        ThreadLocal.withInitial(() -> new StringBuilder(6));
-    private static final ThreadLocal<StringBuilder> P_BUFFER_HOLDER =
-        ThreadLocal.withInitial(() -> new StringBuilder(6));
+    //
+    // Every character that takes part in approximate matching is encoded into
+    // a 30-bit code made of up to six 5-bit jamo slots, filled from the most
+    // significant slot. Compound jamos are split into simple ones first, so
+    // that '밝' becomes ㅂㅏㄹㄱ and 'ㄲ' becomes ㄱㄱ. Comparing two characters
+    // then boils down to checking whether one code is a prefix of the other.
+    //
+    private static final String SIMPLE_JAMOS = "ㄱㄴㄷㄹㅁㅂㅅㅇㅈㅊㅋㅌㅍㅎㅏㅐㅑㅒㅓㅔㅕㅖㅗㅛㅜㅠㅡㅣ";
+    static final int JAMO_BITS = 5;
+    static final int MAX_JAMO_COUNT = 6;
+
+    private static final int SYLLABLES_BASE = 0xAC00;
+    private static final int SYLLABLE_COUNT = 11172;
+    private static final int CHOSEONG_BASE = 0x1100;
+    private static final int CHOSEONG_COUNT = 19;
+    private static final int COMPAT_CONSONANTS_BASE = 0x3131;
+    private static final int COMPAT_CONSONANT_COUNT = 30;
+    private static final int COMPAT_JAMO_COUNT = 51;
+
+    private static final int[] SYLLABLE_CODES = new int[SYLLABLE_COUNT];
+    private static final int[] CHOSEONG_CODES = new int[CHOSEONG_COUNT];
+    private static final int[] COMPAT_CONSONANT_CODES = new int[COMPAT_CONSONANT_COUNT];
+    private static final int[] COMPAT_JAMO_CODES = new int[COMPAT_JAMO_COUNT];
+
+    static {
+        final StringBuilder buffer = new StringBuilder(MAX_JAMO_COUNT);
+
+        for (int i = 0; i < SYLLABLE_COUNT; i++) {
+            KoreanChar.decomposeToCompat((char)(SYLLABLES_BASE + i), buffer);
+            SYLLABLE_CODES[i] = encode(buffer);
+        }
+
+        for (int i = 0; i < COMPAT_CONSONANT_COUNT; i++) {
+            final char c = (char)(COMPAT_CONSONANTS_BASE + i);
+            if (KoreanChar.isCompatChoseong(c)) {
+                buffer.setLength(0);
+                buffer.append(KoreanChar.splitJamo(c));
+                COMPAT_CONSONANT_CODES[i] = encode(buffer);
+            }
+        }
+
+        for (int i = 0; i < CHOSEONG_COUNT; i++) {
+            final char c = KoreanChar.convertChoseongToCompat((char)(CHOSEONG_BASE + i));
+            CHOSEONG_CODES[i] = COMPAT_CONSONANT_CODES[c - COMPAT_CONSONANTS_BASE];
+        }
+
+        for (int i = 0; i < COMPAT_JAMO_COUNT; i++) {
+            buffer.setLength(0);
+            buffer.append(KoreanChar.splitJamo((char)(COMPAT_CONSONANTS_BASE + i)));
+            COMPAT_JAMO_CODES[i] = encode(buffer);
+        }
+    }
 
     /**
      * 주어진 두 문자를 음절 근사 매칭으로 비교한다.
@@ -63,41 +111,81 @@ public final class KoreanCharApproxMatcher {
      *
      * @param t 비교할 첫번째 문자.
      * @param p 비교할 두번째 문자.
-     * @return 매칭이 성공하면 {@code true}, 실패하면 {@code false}.
+     * @return 매칭이 성공하면 {@code true}, 아니면 {@code false}.
      */
     public static boolean isMatch(char t, char p) {
         if (t == p)
             return true;
 
-        final StringBuilder tBuffer = T_BUFFER_HOLDER.get();
-        final StringBuilder pBbuffer = P_BUFFER_HOLDER.get();
+        final int pCode = jamoCode(p);
+        if (pCode == 0)
+            return false;
 
-        final int tLength = decompose(t, tBuffer);
-        final int pLength = decompose(p, pBbuffer);
+        return (jamoCode(t) & jamoMask(pCode)) == pCode;
+    }
 
-        if (tLength < pLength)
-            return false;
+    /**
+     * 주어진 문자의 자모 코드를 구한다.
+     *
+     * 자모 코드는 한글 음절, 한글 자모 초성, 한글 호환 자모 초성에 대해서만 정의되며
+     * 그 외의 문자는 {@code 0}을 반환한다.
+     */
+    static int jamoCode(char c) {
+        int index = c - SYLLABLES_BASE;
+        if (0 <= index && index < SYLLABLE_COUNT)
+            return SYLLABLE_CODES[index];
 
-        for (int i = 0; i < pLength; i++) {
-            if (tBuffer.charAt(i) != pBbuffer.charAt(i))
-                return false;
-        }
+        index = c - COMPAT_CONSONANTS_BASE;
+        if (0 <= index && index < COMPAT_CONSONANT_COUNT)
+            return COMPAT_CONSONANT_CODES[index];
+
+        index = c - CHOSEONG_BASE;
+        if (0 <= index && index < CHOSEONG_COUNT)
+            return CHOSEONG_CODES[index];
+
+        return 0;
+    }
+
+    /**
+     * 주어진 문자를 단자모로 분해한 자모 코드를 구한다.
+     *
+     * {@link #jamoCode(char)}와 같지만 초성으로 쓰이지 않는 한글 호환 자모, 즉
+     * 모음과 {@code 'ㄳ'} 같은 겹받침도 단자모로 분해해서 자모 코드로 나타낸다.
+     * 그 외의 문자는 {@code 0}을 반환한다.
+     */
+    static int streamCode(char c) {
+        int index = c - SYLLABLES_BASE;
+        if (0 <= index && index < SYLLABLE_COUNT)
+            return SYLLABLE_CODES[index];
+
+        index = c - COMPAT_CONSONANTS_BASE;
+        if (0 <= index && index < COMPAT_JAMO_COUNT)
+            return COMPAT_JAMO_CODES[index];
 
-        return true;
+        index = c - CHOSEONG_BASE;
+        if (0 <= index && index < CHOSEONG_COUNT)
+            return CHOSEONG_CODES[index];
+
+        return 0;
     }
 
-    private static int decompose(char c, StringBuilder destination) {
-        destination.setLength(0);
+    /**
+     * 주어진 자모 코드가 차지하는 슬롯들만 남기는 마스크를 구한다.
+     *
+     * {@code (jamoCode(t) & jamoMask(code)) == code}이면 {@code code}가
+     * {@code t}의 자모 코드의 접두어라는 뜻이다.
+     */
+    static int jamoMask(int code) {
+        return -1 << (Integer.numberOfTrailingZeros(code) / JAMO_BITS * JAMO_BITS);
+    }
 
-        if (KoreanChar.isSyllable(c))
-            KoreanChar.decomposeToCompat(c, destination);
-        else if (KoreanChar.isCompatChoseong(c))
-            destination.append(KoreanChar.splitJamo(c));
-        else if (KoreanChar.isChoseong(c))
-            destination.append(KoreanChar.splitJamo(KoreanChar.convertChoseongToCompat(c)));
-        else
-            destination.append(c);
+    private static int encode(CharSequence jamos) {
+        int code = 0;
+        for (int i = 0; i < jamos.length(); i++) {
+            final int index = SIMPLE_JAMOS.indexOf(jamos.charAt(i)) + 1;
+            code |= index << ((MAX_JAMO_COUNT - 1 - i) * JAMO_BITS);
+        }
 
-        return destination.length();
+        return code;
     }
 }
@@ -0,0 +1,162 @@
+/*
+ * Copyright 2026 Bang Jun-young
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions
+ * are met:
+ * 1. Redistributions of source code must retain the above copyright
+ *    notice, this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright
+ *    notice, this list of conditions and the following disclaimer in the
+ *    documentation and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE AUTHOR ``AS IS'' AND ANY EXPRESS OR
+ * IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES
+ * OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED.
+ * IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY DIRECT, INDIRECT,
+ * INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT
+ * NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF
+ * THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.github.bangjunyoung;
+
+/**
+ * 여러 패턴으로 반복해서 검색할 문자열을 미리 분석해 둔 클래스.
+ * <p>
+ * 음절 근사 매칭은 텍스트의 각 문자를 자모 코드로 바꿔서 패턴과 비교하는데,
+ * 같은 텍스트를 여러 패턴으로 검색하면 같은 문자를 매번 다시 바꾸게 된다. 이
+ * 클래스는 각 문자의 자모 코드와, 각 위치에서 공백을 건너뛴 다음 문자의
+ * 위치를 처음 필요할 때 한 번만 계산해 둔다. 인스턴스는 {@link CharSequence}이므로
+ * {@link KoreanTextMatcher#match(CharSequence)},
+ * {@link KoreanTextMatcher#matches(CharSequence)} 등에 그대로 넘기면 되며,
+ * 검색 결과의 위치는 원래 문자열에서의 위치와 같다.
+ * <pre>{@code
+ * KoreanCompiledText text = new KoreanCompiledText(record);
+ * for (KoreanTextMatcher matcher : savedSearches) {
+ *     if (matcher.match(text).success())
+ *         ...
+ * }
+ * }</pre>
+ * 미리 계산한 값은 256자 미만의 범위를 검색할 때만 쓰인다. 그보다 긴 범위는
+ * 어차피 문자마다 한 번씩만 분해하는 검색 엔진이 원래 문자열을 그대로 읽으며,
+ * 64자(두벌식 입력이면 62자)를 넘는 패턴으로
+ * {@link KoreanTextMatcher.MatchingOptions#IgnoreWhitespace} 검색을 할 때만
+ * 예외적으로 이 값을 사용한다. {@link KoreanTextMatcher.MatchingOptions#JamoStream}과
+ * 오타 허용 검색에는 쓰이지 않는다. 이 값이 쓰이는 검색을 하지 않으면 계산하지
+ * 않으므로 메모리도 차지하지 않는다.
+ * <p>
+ * 이 클래스의 인스턴스는 불변이며 여러 스레드에서 공유할 수 있다.
+ *
+ * @author 방준영 &lt;bang.junyoung@gmail.com&gt;
+ */
+public final class KoreanCompiledText implements CharSequence {
+
+    private static final int[] NO_WHITESPACE = new int[0];
+
+    private final String _text;
+
+    //
+    // Both tables are built on first use, as searches of long ranges never
+    // read them. A race can only build one more than once.
+    //
+    private volatile int[] _jamoCodes;
+
+    // nextNonWhitespace[i] is the first i' >= i where text[i'] isn't
+    // whitespace, or the text length. NO_WHITESPACE if the text has none.
+    private volatile int[] _nextNonWhitespace;
+
+    /**
+     * {@link KoreanCompiledText} 클래스의 새 인스턴스를 초기화한다.
+     *
+     * @param text 분석할 문자열
+     * @throws IllegalArgumentException {@code text}가 {@code null}일 때.
+     */
+    public KoreanCompiledText(String text) {
+        if (text == null)
+            throw new IllegalArgumentException("text: null");
+
+        _text = text;
+    }
+
+    @Override
+    public int length() {
+        return _text.length();
+    }
+
+    @Override
+    public char charAt(int index) {
+        return _text.charAt(index);
+    }
+
+    @Override
+    public CharSequence subSequence(int start, int end) {
+        return _text.subSequence(start, end);
+    }
+
+    /**
+     * 분석한 원래 문자열을 구한다.
+     */
+    @Override
+    public String toString() {
+        return _text;
+    }
+
+    int jamoCodeAt(int index) {
+        int[] jamoCodes = _jamoCodes;
+        if (jamoCodes == null) {
+            jamoCodes = buildJamoCodes(_text);
+            _jamoCodes = jamoCodes;
+        }
+
+        return jamoCodes[index];
+    }
+
+    int nextNonWhitespace(int index) {
+        int[] nextNonWhitespace = _nextNonWhitespace;
+        if (nextNonWhitespace == null) {
+            nextNonWhitespace = buildNextNonWhitespace(_text);
+            _nextNonWhitespace = nextNonWhitespace;
+        }
+
+        return (nextNonWhitespace != NO_WHITESPACE) ? nextNonWhitespace[index] : index;
+    }
+
+    boolean hasTables() {
+        return _jamoCodes != null || _nextNonWhitespace != null;
+    }
+
+    private static int[] buildJamoCodes(String text) {
+        final int length = text.length();
+
+        final int[] jamoCodes = new int[length];
+        for (int i = 0; i < length; i++)
+            jamoCodes[i] = KoreanCharApproxMatcher.jamoCode(text.charAt(i));
+
+        return jamoCodes;
+    }
+
+    private static int[] buildNextNonWhitespace(String text) {
+        final int length = text.length();
+
+        boolean hasWhitespace = false;
+        for (int i = 0; i < length && !hasWhitespace; i++)
+            hasWhitespace = KoreanTextMatcher.isWhitespace(text.charAt(i));
+        if (!hasWhitespace)
+            return NO_WHITESPACE;
+
+        final int[] nextNonWhitespace = new int[length + 1];
+        nextNonWhitespace[length] = length;
+        for (int i = length - 1; i >= 0; i--) {
+            nextNonWhitespace[i] = KoreanTextMatcher.isWhitespace(text.charAt(i))
+                ? nextNonWhitespace[i + 1]
+                : i;
+        }
+
+        return nextNonWhitespace;
+    }
+}
@@ -0,0 +1,265 @@
+/*
+ * Copyright 2026 Bang Jun-young
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions
+ * are met:
+ * 1. Redistributions of source code must retain the above copyright
+ *    notice, this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright
+ *    notice, this list of conditions and the following disclaimer in the
+ *    documentation and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE AUTHOR ``AS IS'' AND ANY EXPRESS OR
+ * IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES
+ * OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED.
+ * IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY DIRECT, INDIRECT,
+ * INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT
+ * NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF
+ * THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.github.bangjunyoung;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * UTF-8로 인코딩된 큰 파일을 힙으로 읽어들이지 않고 메모리에 매핑해서 검색하는
+ * 클래스.
+ * <p>
+ * 파일을 페이지 크기의 배수인 창(window)으로 나누어 차례로 {@link FileChannel#map}으로
+ * 매핑하고, 매핑된 바이트를 UTF-16으로 디코딩하지 않고 그 자리에서 검색한다.
+ * 매칭 상태는 창을 넘어 이어지므로 창의 경계에 걸친 매치도 빠짐없이 찾으며,
+ * 다음 창은 아직 읽지 않은 바이트가 속한 페이지부터 매핑하므로 경계에 걸친
+ * UTF-8 바이트열은 두 창에 겹쳐 매핑된다.
+ * <p>
+ * 찾는 매치는 파일 전체를 문자열로 읽어 {@link KoreanTextMatcher#matches(String)}로
+ * 찾는 것과 같지만, 위치와 길이는 바이트 단위이며 매치가 시작하는 줄의 번호를
+ * 함께 알려준다. 줄은 {@code '\n'}으로 구분하며 첫 줄의 번호는 {@code 1}이다.
+ * 앵커는 {@link KoreanTextMatcher#findUtf8(java.nio.ByteBuffer, int, KoreanMatchCursor)}와
+ * 마찬가지로 파일의 처음과 끝에 적용된다.
+ * <p>
+ * 이 클래스의 인스턴스는 불변이며 여러 스레드에서 공유할 수 있다.
+ *
+ * @author 방준영 &lt;bang.junyoung@gmail.com&gt;
+ */
+public final class KoreanFileSearcher {
+
+    /**
+     * 매칭 결과를 하나씩 전달받는 콜백.
+     */
+    @FunctionalInterface
+    public interface MatchListener {
+        /**
+         * 패턴의 출현을 찾을 때마다 호출된다.
+         *
+         * @param offset 출현의 파일 내 위치 (바이트 단위)
+         * @param length 출현의 길이 (바이트 단위)
+         * @param lineNumber 출현이 시작하는 줄의 번호
+         */
+        void onMatch(long offset, long length, long lineNumber);
+    }
+
+    /** 창의 크기를 맞추는 단위 (바이트). */
+    public static final int PAGE_SIZE = 4096;
+
+    /** 한 번에 매핑하는 창의 기본 크기 (바이트). */
+    public static final int DEFAULT_WINDOW_SIZE = 64 * 1024 * 1024;
+
+    private final KoreanTextMatcher _matcher;
+    private final int _windowSize;
+
+    /**
+     * {@link KoreanFileSearcher} 클래스의 새 인스턴스를 초기화한다.
+     *
+     * @param matcher 검색에 사용할 {@link KoreanTextMatcher}
+     * @throws IllegalArgumentException {@code matcher}가 {@code null}일 때,
+     *         패턴이 너무 길 때, 또는 {@code matcher}가 편집을 허용하거나 자모열로
+     *         매칭할 때.
+     */
+    public KoreanFileSearcher(KoreanTextMatcher matcher) {
+        this(matcher, DEFAULT_WINDOW_SIZE);
+    }
+
+    /**
+     * {@link KoreanFileSearcher} 클래스의 새 인스턴스를 초기화한다.
+     *
+     * @param matcher 검색에 사용할 {@link KoreanTextMatcher}
+     * @param windowSize 한 번에 매핑할 창의 크기 (바이트 단위). {@link #PAGE_SIZE}의
+     *        배수로 올림하며, 두 페이지보다 작으면 두 페이지로 늘린다.
+     * @throws IllegalArgumentException {@code matcher}가 {@code null}일 때,
+     *         {@code windowSize}가 {@code 1}보다 작을 때, 패턴이 너무 길 때,
+     *         또는 {@code matcher}가 편집을 허용하거나 자모열로 매칭할 때.
+     */
+    public KoreanFileSearcher(KoreanTextMatcher matcher, int windowSize) {
+        if (matcher == null)
+            throw new IllegalArgumentException("matcher: null");
+        if (windowSize < 1)
+            throw new IllegalArgumentException("windowSize: " + windowSize + " is less than 1");
+        if (!matcher.isBitParallel())
+            throw new IllegalArgumentException("pattern: too long to match against UTF-8 input");
+        if (matcher.hasJamoPattern())
+            throw new IllegalArgumentException("matcher: edits or jamo streams are not supported on UTF-8 input");
+
+        _matcher = matcher;
+        //
+        // A window spans at least two pages so that the next one, which starts
+        // at the page of the first unread byte, always moves forward.
+        //
+        _windowSize = (int)Math.min(Math.max(((long)windowSize + PAGE_SIZE - 1) & -PAGE_SIZE, 2 * PAGE_SIZE),
+            Integer.MAX_VALUE & -PAGE_SIZE);
+    }
+
+    /**
+     * 주어진 파일에서 패턴의 모든 출현을 찾는다.
+     *
+     * @param file 검색할 UTF-8 파일
+     * @param listener 매칭 결과를 전달받을 콜백
+     * @return 찾은 출현의 개수
+     * @throws IllegalArgumentException {@code file} 또는 {@code listener}가
+     *         {@code null}일 때.
+     * @throws IOException 파일을 열거나 매핑하는 도중 오류가 발생했을 때.
+     */
+    public long search(Path file, MatchListener listener) throws IOException {
+        if (file == null)
+            throw new IllegalArgumentException("file: null");
+        if (listener == null)
+            throw new IllegalArgumentException("listener: null");
+
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            return search(channel, listener);
+        }
+    }
+
+    /**
+     * 주어진 파일 채널의 처음부터 끝까지 패턴의 모든 출현을 찾는다. 채널의 현재
+     * 위치는 사용하지도 바꾸지도 않으며, 검색이 끝나도 채널은 닫지 않는다.
+     *
+     * @param channel 검색할 UTF-8 파일의 채널
+     * @param listener 매칭 결과를 전달받을 콜백
+     * @return 찾은 출현의 개수
+     * @throws IllegalArgumentException {@code channel} 또는 {@code listener}가
+     *         {@code null}일 때.
+     * @throws IOException 파일을 매핑하는 도중 오류가 발생했을 때.
+     */
+    public long search(FileChannel channel, MatchListener listener) throws IOException {
+        if (channel == null)
+            throw new IllegalArgumentException("channel: null");
+        if (listener == null)
+            throw new IllegalArgumentException("listener: null");
+
+        final long size = channel.size();
+
+        if (_matcher.patternLength() == 0)
+            return searchEmptyPattern(channel, size, listener);
+
+        final KoreanUtf8Scanner scanner = new KoreanUtf8Scanner(_matcher);
+        long count = 0;
+        long offset = 0;
+        boolean endOfInput;
+        do {
+            //
+            // Maps the page holding the first unread byte onwards. The scanner
+            // leaves a UTF-8 sequence cut off by the end of a window unread,
+            // so it is mapped again at the start of the next one.
+            //
+            final long windowStart = offset & -PAGE_SIZE;
+            final long windowEnd = Math.min(size, windowStart + _windowSize);
+            final MappedByteBuffer window =
+                channel.map(FileChannel.MapMode.READ_ONLY, windowStart, windowEnd - windowStart);
+            final int to = (int)(windowEnd - windowStart);
+            endOfInput = windowEnd == size;
+
+            int from = (int)(offset - windowStart);
+            while (scanner.scan(window, from, to, windowStart, endOfInput)) {
+                listener.onMatch(scanner.matchIndex(), scanner.matchLength(), scanner.matchLine() + 1);
+                count++;
+                from = scanner.position();
+            }
+            offset = windowStart + scanner.position();
+        } while (!endOfInput);
+
+        return count;
+    }
+
+    //
+    // An empty pattern matches at the start of every char and at the end of
+    // the file, as findUtf8() and findNextUtf8() would report.
+    //
+    private long searchEmptyPattern(FileChannel channel, long size, MatchListener listener)
+            throws IOException {
+        final boolean hasStartAnchor = _matcher.hasStartAnchor();
+        final boolean hasEndAnchor = _matcher.hasEndAnchor();
+
+        if (hasEndAnchor || size == 0) {
+            if (hasStartAnchor && size != 0)
+                return 0;
+
+            listener.onMatch(size, 0, countLines(channel, size) + 1);
+            return 1;
+        }
+
+        if (hasStartAnchor) {
+            listener.onMatch(0, 0, 1);
+            return 1;
+        }
+
+        //
+        // Walks every byte to count lines, including those a malformed
+        // sequence skips over.
+        //
+        long count = 0;
+        long lineCount = 0;
+        long next = 0;
+        for (long windowStart = 0; windowStart < size; windowStart += _windowSize) {
+            final int length = (int)Math.min(_windowSize, size - windowStart);
+            final MappedByteBuffer window =
+                channel.map(FileChannel.MapMode.READ_ONLY, windowStart, length);
+
+            for (int i = 0; i < length; i++) {
+                final byte b = window.get(i);
+                if (windowStart + i == next) {
+                    listener.onMatch(next, 0, lineCount + 1);
+                    count++;
+                    next += KoreanUtf8Scanner.sequenceLength(b);
+                }
+                if (b == '\n')
+                    lineCount++;
+            }
+        }
+
+        //
+        // A sequence cut off by the end of the file leaves no room for the
+        // match at the end.
+        //
+        if (next == size) {
+            listener.onMatch(size, 0, lineCount + 1);
+            count++;
+        }
+
+        return count;
+    }
+
+    private long countLines(FileChannel channel, long size) throws IOException {
+        long lineCount = 0;
+        for (long windowStart = 0; windowStart < size; windowStart += _windowSize) {
+            final int length = (int)Math.min(_windowSize, size - windowStart);
+            final MappedByteBuffer window =
+                channel.map(FileChannel.MapMode.READ_ONLY, windowStart, length);
+            for (int i = 0; i < length; i++) {
+                if (window.get(i) == '\n')
+                    lineCount++;
+            }
+        }
+
+        return lineCount;
+    }
+}
@@ -0,0 +1,360 @@
+/*
+ * Copyright 2026 Bang Jun-young
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions
+ * are met:
+ * 1. Redistributions of source code must retain the above copyright
+ *    notice, this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright
+ *    notice, this list of conditions and the following disclaimer in the
+ *    documentation and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE AUTHOR ``AS IS'' AND ANY EXPRESS OR
+ * IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES
+ * OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED.
+ * IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY DIRECT, INDIRECT,
+ * INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT
+ * NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF
+ * THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.github.bangjunyoung;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 검색 패턴을 단자모의 열로 풀어서 텍스트의 자모열과 비교하는 클래스.
+ * <p>
+ * 한글 음절과 자모는 패턴과 텍스트 모두 {@link KoreanChar#decomposeToCompat(char)}와
+ * 같이 단자모로 분해하고, 그 밖의 문자는 한 문자를 자모 하나처럼 다룬다. 예를 들어
+ * {@code "한글"}은 {@code ㅎㅏㄴㄱㅡㄹ}의 여섯 자모가 되므로 {@code "한굴"}과는
+ * 자모 하나만 다르다.
+ * <p>
+ * 자모 하나를 바꾸거나, 텍스트에 더 있거나, 텍스트에서 빠진 것을 각각 한 번의
+ * 편집으로 세며, 패턴의 각 문자가 끝난 뒤 텍스트 문자에 남은 자모는 편집 없이
+ * 건너뛴다. 그래서 {@code "하"}는 {@code "한"}에, {@code "ㅎㄱ"}은 {@code "한글"}에
+ * 편집 없이 부합한다. 매치가 시작하는 문자의 앞쪽 자모는 텍스트에 더 있는 것으로
+ * 세므로 편집을 한 번 허용하면 {@code "ㅘ"}는 {@code "곽"}에 부합한다. 자모열은
+ * 음절 경계와 상관없이 이어지므로 두벌식 입력으로 받침이 다음 음절로 넘어간
+ * 텍스트도 따로 처리할 필요가 없다.
+ * <p>
+ * 편집 횟수마다 그 횟수 이내로 도달할 수 있는 패턴 위치의 집합을 비트 벡터 하나에
+ * 담아 한꺼번에 갱신하는 Wu-Manber 방식의 비트 병렬 검색이므로, 텍스트의 각 자모를
+ * 한 번씩만 읽으며 검색 중에 메모리를 할당하지 않는다. 텍스트의 자모열은 문자마다
+ * 미리 계산해 둔 자모 코드 테이블에서 읽으므로 분해한 문자열을 만들지 않고, 각
+ * 자모가 어느 문자에서 나왔는지 항상 알고 있으므로 매치의 위치는 원래 텍스트의
+ * 문자 단위로 구한다.
+ * <p>
+ * 이 클래스의 인스턴스는 불변이며 여러 스레드에서 공유할 수 있다.
+ *
+ * @author 방준영 &lt;bang.junyoung@gmail.com&gt;
+ */
+final class KoreanJamoPattern {
+
+    static final int MAX_LENGTH = Long.SIZE;
+
+    private static final int ASCII_COUNT = 128;
+    private static final int JAMO_COUNT = 1 << KoreanCharApproxMatcher.JAMO_BITS;
+    private static final int JAMO_INDEX_MASK = JAMO_COUNT - 1;
+    private static final int FIRST_JAMO_SHIFT =
+        (KoreanCharApproxMatcher.MAX_JAMO_COUNT - 1) * KoreanCharApproxMatcher.JAMO_BITS;
+
+    private static final int NO_MATCH = Integer.MAX_VALUE;
+
+    private final int _length;
+    private final int _maxEdits;
+    private final boolean _ignoreWhitespace;
+
+    private final long[] _jamoMasks = new long[JAMO_COUNT];
+    private final long[] _asciiMasks = new long[ASCII_COUNT];
+    private final char[] _otherChars;
+    private final long[] _otherMasks;
+    private final long _boundaryBits;
+
+    KoreanJamoPattern(String pattern, int maxEdits, boolean ignoreCase, boolean ignoreWhitespace) {
+        _maxEdits = maxEdits;
+        _ignoreWhitespace = ignoreWhitespace;
+
+        final TreeMap<Character, Long> otherMasks = new TreeMap<>();
+        long boundaryBits = 0;
+        int length = 0;
+        for (int i = 0; i < pattern.length(); i++) {
+            final char c = pattern.charAt(i);
+            if (ignoreWhitespace && KoreanTextMatcher.isWhitespace(c))
+                continue;
+
+            final int code = KoreanCharApproxMatcher.streamCode(c);
+            if (code == 0) {
+                length = checkLength(length + 1);
+                otherMasks.merge(c, 1L << (length - 1), (x, y) -> x | y);
+                if (ignoreCase && KoreanTextPattern.isLatinAlphabet(c))
+                    otherMasks.merge((char)(c ^ 0x20), 1L << (length - 1), (x, y) -> x | y);
+            } else {
+                for (int shift = FIRST_JAMO_SHIFT; shift >= 0; shift -= KoreanCharApproxMatcher.JAMO_BITS) {
+                    final int jamo = (code >>> shift) & JAMO_INDEX_MASK;
+                    if (jamo == 0)
+                        break;
+                    length = checkLength(length + 1);
+                    _jamoMasks[jamo] |= 1L << (length - 1);
+                }
+            }
+
+            if (length > 0)
+                boundaryBits |= 1L << (length - 1);
+        }
+
+        _length = length;
+        _boundaryBits = boundaryBits;
+
+        int otherCount = 0;
+        for (Map.Entry<Character, Long> entry : otherMasks.entrySet()) {
+            if (entry.getKey() < ASCII_COUNT)
+                _asciiMasks[entry.getKey()] = entry.getValue();
+            else
+                otherCount++;
+        }
+
+        _otherChars = new char[otherCount];
+        _otherMasks = new long[otherCount];
+        int k = 0;
+        for (Map.Entry<Character, Long> entry : otherMasks.entrySet()) {
+            if (entry.getKey() >= ASCII_COUNT) {
+                _otherChars[k] = entry.getKey();
+                _otherMasks[k] = entry.getValue();
+                k++;
+            }
+        }
+    }
+
+    private static int checkLength(int length) {
+        if (length > MAX_LENGTH)
+            throw new IllegalArgumentException("pattern: longer than " + MAX_LENGTH + " jamos");
+
+        return length;
+    }
+
+    /**
+     * 패턴을 이루는 자모의 개수를 구한다.
+     */
+    int length() {
+        return _length;
+    }
+
+    /**
+     * {@code text[startIndex .. textEnd)} 안에서 패턴에 부합하는 첫번째 매치를 찾는다.
+     * <p>
+     * 끝나는 위치가 가장 앞선 매치를 찾되, 뒤따르는 편집 횟수만큼의 문자 안에서
+     * 편집이 더 적은 매치가 끝나면 그쪽으로 늘인다. 시작 위치는 그 끝에서 끝나는
+     * 매치 중 편집이 가장 적은 것, 그 중에서도 가장 앞선 것으로 정한다.
+     *
+     * @return 찾은 매치의 위치와 길이를 {@link KoreanTextMatcher#pack(int, int)}로
+     *         묶은 값. 찾지 못하면 {@link KoreanTextMatcher#NOT_FOUND}.
+     */
+    long search(final CharSequence text, final int startIndex, final int textEnd,
+            final boolean hasStartAnchor, final boolean hasEndAnchor) {
+        int from = startIndex;
+        if (hasStartAnchor) {
+            while (from < textEnd && _ignoreWhitespace && KoreanTextMatcher.isWhitespace(KoreanTextMatcher.charAt(text, from)))
+                from++;
+        }
+
+        final long end = scan(text, from, textEnd, hasStartAnchor ? from + 1 : textEnd, !hasEndAnchor);
+        if (end == KoreanTextMatcher.NOT_FOUND)
+            return KoreanTextMatcher.NOT_FOUND;
+
+        final int endIndex = KoreanTextMatcher.unpackIndex(end);
+        final int index = hasStartAnchor ? from : matchStart(text, from, endIndex);
+        return KoreanTextMatcher.pack(index, endIndex - index + 1);
+    }
+
+    //
+    // Every char of a match contributes at least its first jamo, either
+    // matched against the pattern or counted as an edit, so a match ending
+    // at text[endIndex] starts no more than _length + _maxEdits chars back.
+    // Each of those is tried on its own.
+    //
+    private int matchStart(final CharSequence text, final int from, final int endIndex) {
+        int index = endIndex;
+        for (int count = 1; index > from && count < _length + _maxEdits; ) {
+            index--;
+            if (!(_ignoreWhitespace && KoreanTextMatcher.isWhitespace(KoreanTextMatcher.charAt(text, index))))
+                count++;
+        }
+
+        int bestIndex = endIndex;
+        int bestEdits = NO_MATCH;
+        for (; index <= endIndex; index++) {
+            if (_ignoreWhitespace && KoreanTextMatcher.isWhitespace(KoreanTextMatcher.charAt(text, index)))
+                continue;
+
+            final long result = scan(text, index, endIndex + 1, index + 1, false);
+            if (result != KoreanTextMatcher.NOT_FOUND && KoreanTextMatcher.unpackLength(result) < bestEdits) {
+                bestIndex = index;
+                bestEdits = KoreanTextMatcher.unpackLength(result);
+                if (bestEdits == 0)
+                    break;
+            }
+        }
+
+        return bestIndex;
+    }
+
+    //
+    // Runs the automaton over text[from .. to), letting matches start at the
+    // chars before startEnd, and returns the index of the char where a match
+    // ends packed with the number of edits it takes. With first, that is
+    // the first match found, moved on past at most _maxEdits more chars for
+    // one with fewer edits. Otherwise it is the best match ending at the
+    // last char.
+    //
+    // Bit i of editStates[d] is set when the first i + 1 jamos of the pattern
+    // match the text read so far with d edits or fewer. Each of them is the
+    // Shift-And state of the level below extended by one edit: the jamo
+    // read replaces a pattern jamo, is left over in the text, or comes after
+    // a pattern jamo missing from the text. A pattern position that ends a
+    // pattern char also moves to skipStates[d] at a jamo that doesn't start
+    // a char, and stays there until the next char starts. A match may start
+    // at the k-th jamo of a char at levels k and above, with the jamos before
+    // it left over.
+    //
+    // The levels are kept in local variables rather than arrays, so that
+    // nothing is allocated and the unused ones cost a predictable branch.
+    //
+    private long scan(final CharSequence text, final int from, final int to, final int startEnd,
+            final boolean first) {
+        final int maxEdits = _maxEdits;
+        final boolean ignoreWhitespace = _ignoreWhitespace;
+        final long acceptBit = 1L << (_length - 1);
+        final long boundaryBits = _boundaryBits;
+        final boolean stats = KoreanSearchStats.ENABLED;
+        final KoreanSearchStats counters = stats ? KoreanSearchStats.current() : null;
+
+        long r0 = 0, r1 = 0, r2 = 0, r3 = 0;
+        long s0 = 0, s1 = 0, s2 = 0, s3 = 0;
+
+        int bestIndex = -1, bestEdits = NO_MATCH, patience = 0;
+        int lastIndex = -1, lastEdits = NO_MATCH;
+
+        for (int i = from; i < to; i++) {
+            final char c = KoreanTextMatcher.charAt(text, i);
+            if (ignoreWhitespace && KoreanTextMatcher.isWhitespace(c)) {
+                if (stats) counters._whitespaceCount++;
+                continue;
+            }
+            if (stats) counters._positionCount++;
+            if (first && bestIndex >= 0 && --patience < 0)
+                return KoreanTextMatcher.pack(bestIndex, bestEdits);
+
+            final int code = KoreanCharApproxMatcher.streamCode(c);
+            final long start = (i < startEnd) ? 1 : 0;
+            int charEdits = NO_MATCH;
+            int shift = FIRST_JAMO_SHIFT;
+            long mask = (code == 0) ? otherMask(c) : _jamoMasks[code >>> shift];
+
+            //
+            // A new char resumes the skipped positions, and where a match may
+            // start, leaves out up to d leading pattern jamos at level d.
+            //
+            r0 |= s0;
+            if (maxEdits > 0) {
+                r1 |= s1 | (r0 << 1) | start;
+                if (maxEdits > 1) {
+                    r2 |= s2 | (r1 << 1) | start;
+                    if (maxEdits > 2)
+                        r3 |= s3 | (r2 << 1) | start;
+                }
+            }
+            s0 = s1 = s2 = s3 = 0;
+
+            long carry0 = start;
+            long carry1 = (maxEdits > 0) ? start : 0;
+            long carry2 = (maxEdits > 1) ? start : 0;
+            long carry3 = (maxEdits > 2) ? start : 0;
+            while (true) {
+                if (stats) counters._comparisonCount++;
+
+                final long n0 = ((r0 << 1) | carry0) & mask;
+                int edits = ((n0 & acceptBit) != 0) ? 0 : NO_MATCH;
+                if (maxEdits > 0) {
+                    final long n1 = (((r1 << 1) | carry1) & mask) | r0 | (r0 << 1) | carry0 | (n0 << 1);
+                    if (edits == NO_MATCH && (n1 & acceptBit) != 0)
+                        edits = 1;
+                    if (maxEdits > 1) {
+                        final long n2 = (((r2 << 1) | carry2) & mask) | r1 | (r1 << 1) | carry1 | (n1 << 1);
+                        if (edits == NO_MATCH && (n2 & acceptBit) != 0)
+                            edits = 2;
+                        if (maxEdits > 2) {
+                            r3 = (((r3 << 1) | carry3) & mask) | r2 | (r2 << 1) | carry2 | (n2 << 1);
+                            if (edits == NO_MATCH && (r3 & acceptBit) != 0)
+                                edits = 3;
+                        }
+                        r2 = n2;
+                    }
+                    r1 = n1;
+                }
+                r0 = n0;
+
+                if (first) {
+                    if (edits < bestEdits) {
+                        if (edits == 0)
+                            return KoreanTextMatcher.pack(i, 0);
+                        bestIndex = i;
+                        bestEdits = edits;
+                        patience = maxEdits;
+                    }
+                } else if (edits < charEdits)
+                    charEdits = edits;
+
+                shift -= KoreanCharApproxMatcher.JAMO_BITS;
+                if (code == 0 || shift < 0 || ((code >>> shift) & JAMO_INDEX_MASK) == 0)
+                    break;
+
+                //
+                // The rest of the jamos of a char start a match only at the
+                // levels that count the jamos before them as left over in
+                // the text. With no position alive and no level left to
+                // start at, they can neither start a match nor move one on.
+                //
+                carry3 = carry2;
+                carry2 = carry1;
+                carry1 = carry0;
+                carry0 = 0;
+                if ((r0 | r1 | r2 | r3 | carry1 | carry2 | carry3) == 0)
+                    break;
+
+                //
+                // They may also be skipped by a position that ends a pattern
+                // char.
+                //
+                mask = _jamoMasks[(code >>> shift) & JAMO_INDEX_MASK];
+                s0 = (s0 | r0) & boundaryBits;
+                s1 = (s1 | r1) & boundaryBits;
+                s2 = (s2 | r2) & boundaryBits;
+                s3 = (s3 | r3) & boundaryBits;
+            }
+
+            lastIndex = i;
+            lastEdits = charEdits;
+        }
+
+        if (first)
+            return (bestIndex >= 0) ? KoreanTextMatcher.pack(bestIndex, bestEdits) : KoreanTextMatcher.NOT_FOUND;
+
+        return (lastEdits != NO_MATCH) ? KoreanTextMatcher.pack(lastIndex, lastEdits) : KoreanTextMatcher.NOT_FOUND;
+    }
+
+    private long otherMask(char c) {
+        if (c < ASCII_COUNT)
+            return _asciiMasks[c];
+
+        final int k = Arrays.binarySearch(_otherChars, c);
+        return (k >= 0) ? _otherMasks[k] : 0;
+    }
+}
@@ -0,0 +1,93 @@
+/*
+ * Copyright 2026 Bang Jun-young
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions
+ * are met:
+ * 1. Redistributions of source code must retain the above copyright
+ *    notice, this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright
+ *    notice, this list of conditions and the following disclaimer in the
+ *    documentation and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE AUTHOR ``AS IS'' AND ANY EXPRESS OR
+ * IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES
+ * OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED.
+ * IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY DIRECT, INDIRECT,
+ * INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT
+ * NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF
+ * THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.github.bangjunyoung;
+
+/**
+ * {@link KoreanTextMatcher#find(CharSequence, int, KoreanMatchCursor)}의 검색 결과를
+ * 담는 재사용 가능한 클래스.
+ * <p>
+ * {@link KoreanTextMatch}와 달리 검색할 때마다 새로 만들 필요 없이 호출자가
+ * 하나를 만들어 두고 계속 재사용하도록 설계되었다. 매치 문자열을 만들지 않고
+ * 시작 위치와 길이만 기록하므로 매치가 많은 텍스트를 검색할 때 메모리 할당을
+ * 줄일 수 있다.
+ * <p>
+ * 이 클래스의 인스턴스는 스레드 안전하지 않다.
+ *
+ * @author 방준영 &lt;bang.junyoung@gmail.com&gt;
+ */
+public final class KoreanMatchCursor {
+
+    private int _index;
+    private int _length;
+    private boolean _success;
+
+    /**
+     * {@link KoreanMatchCursor} 클래스의 새 인스턴스를 초기화한다.
+     *
+     * 새 인스턴스의 {@link #success()}는 {@code false}다.
+     */
+    public KoreanMatchCursor() {
+    }
+
+    /**
+     * 마지막 검색이 성공했는지 여부를 조사한다.
+     *
+     * @return 성공했으면 {@code true}, 아니면 {@code false}.
+     */
+    public boolean success() {
+        return _success;
+    }
+
+    /**
+     * 매치의 시작 위치를 구한다. {@link #success()}가 {@code true}일 때만 유효하다.
+     *
+     * @return 검색 대상 문자열 내 패턴의 시작 위치
+     */
+    public int index() {
+        return _index;
+    }
+
+    /**
+     * 매치의 길이를 구한다. {@link #success()}가 {@code true}일 때만 유효하다.
+     *
+     * @return 검색 대상 문자열 내 매치의 길이
+     */
+    public int length() {
+        return _length;
+    }
+
+    void set(int index, int length) {
+        _index = index;
+        _length = length;
+        _success = true;
+    }
+
+    void clear() {
+        _index = 0;
+        _length = 0;
+        _success = false;
+    }
+}
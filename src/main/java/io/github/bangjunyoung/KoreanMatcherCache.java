@@ -0,0 +1,307 @@
+/*
+ * Copyright 2026 Bang Jun-young
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions
+ * are met:
+ * 1. Redistributions of source code must retain the above copyright
+ *    notice, this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright
+ *    notice, this list of conditions and the following disclaimer in the
+ *    documentation and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE AUTHOR ``AS IS'' AND ANY EXPRESS OR
+ * IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES
+ * OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED.
+ * IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY DIRECT, INDIRECT,
+ * INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT
+ * NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF
+ * THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.github.bangjunyoung;
+
+import java.util.EnumSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import io.github.bangjunyoung.KoreanTextMatcher.MatchingOptions;
+
+/**
+ * 패턴과 검색 옵션별로 컴파일한 {@link KoreanTextMatcher}를 재사용하는 캐시.
+ * <p>
+ * {@link KoreanTextMatcher#isMatch(String, String, MatchingOptions...)} 같은
+ * 정적 메소드는 호출할 때마다 패턴을 새로 컴파일하는 대신
+ * {@link KoreanTextMatcher#cache()}가 돌려주는 공유 캐시를 사용한다. 같은 패턴을
+ * 반복해서 검색하는 코드는 별도의 캐시를 만들어 쓸 수도 있다.
+ * <p>
+ * 캐시의 크기는 {@link #capacity()}개로 제한되며, 넘치면 CLOCK 알고리즘으로
+ * 최근에 사용되지 않은 항목부터 내보낸다. 캐시에서 찾는 동안에는 잠금을 쓰지
+ * 않으며, 새 항목을 넣고 내보내는 동안에만 잠금을 쓴다. 크기를 {@code 0}으로
+ * 설정하면 캐시를 사용하지 않는다.
+ * <p>
+ * 이 클래스의 인스턴스는 여러 스레드에서 공유할 수 있다.
+ *
+ * @author 방준영 &lt;bang.junyoung@gmail.com&gt;
+ */
+public final class KoreanMatcherCache {
+
+    /**
+     * 공유 캐시의 기본 크기.
+     */
+    public static final int DEFAULT_CAPACITY = 256;
+
+    private final ConcurrentHashMap<Key, Entry> _entries = new ConcurrentHashMap<>();
+    private final LongAdder _hitCount = new LongAdder();
+    private final LongAdder _missCount = new LongAdder();
+    private final LongAdder _evictionCount = new LongAdder();
+
+    private volatile int _capacity;
+
+    // The CLOCK hand, advanced only while holding the lock on this.
+    private Iterator<Map.Entry<Key, Entry>> _hand;
+
+    /**
+     * {@link KoreanMatcherCache} 클래스의 새 인스턴스를 초기화한다.
+     *
+     * @param capacity 캐시에 담을 {@link KoreanTextMatcher}의 최대 개수.
+     *        {@code 0}이면 캐시를 사용하지 않는다.
+     * @throws IllegalArgumentException {@code capacity}가 {@code 0}보다 작을 때.
+     */
+    public KoreanMatcherCache(int capacity) {
+        checkCapacity(capacity);
+
+        _capacity = capacity;
+    }
+
+    /**
+     * 주어진 패턴과 검색 옵션으로 컴파일한 {@link KoreanTextMatcher}를 구한다.
+     * 캐시에 없으면 새로 만들어서 캐시에 넣는다.
+     *
+     * @param pattern 검색할 패턴
+     * @param options 검색 옵션
+     * @return 컴파일된 {@link KoreanTextMatcher}
+     * @throws IllegalArgumentException {@code pattern}이 {@code null}일 때.
+     */
+    public KoreanTextMatcher get(String pattern, MatchingOptions... options) {
+        if (pattern == null)
+            throw new IllegalArgumentException("pattern: null");
+
+        int bits = 0;
+        for (MatchingOptions option : options)
+            bits |= optionBit(option);
+
+        return get(pattern, bits);
+    }
+
+    /**
+     * 주어진 패턴과 검색 옵션으로 컴파일한 {@link KoreanTextMatcher}를 구한다.
+     * 캐시에 없으면 새로 만들어서 캐시에 넣는다.
+     *
+     * @param pattern 검색할 패턴
+     * @param options 검색 옵션
+     * @return 컴파일된 {@link KoreanTextMatcher}
+     * @throws IllegalArgumentException {@code pattern}이 {@code null}일 때.
+     */
+    public KoreanTextMatcher get(String pattern, EnumSet<MatchingOptions> options) {
+        if (pattern == null)
+            throw new IllegalArgumentException("pattern: null");
+
+        int bits = 0;
+        for (MatchingOptions option : options)
+            bits |= optionBit(option);
+
+        return get(pattern, bits);
+    }
+
+    private KoreanTextMatcher get(String pattern, int bits) {
+        if (_capacity == 0) {
+            _missCount.increment();
+            return new KoreanTextMatcher(pattern, toEnumSet(bits));
+        }
+
+        final Key key = new Key(pattern, bits);
+        final Entry entry = _entries.get(key);
+        if (entry != null) {
+            //
+            // Only write the bit when it isn't already set, so that hits on
+            // a hot entry don't keep invalidating its cache line.
+            //
+            if (!entry._referenced)
+                entry._referenced = true;
+            _hitCount.increment();
+            return entry._matcher;
+        }
+
+        _missCount.increment();
+        final KoreanTextMatcher matcher = new KoreanTextMatcher(pattern, toEnumSet(bits));
+        synchronized (this) {
+            final Entry existing = _entries.putIfAbsent(key, new Entry(matcher));
+            if (existing != null)
+                return existing._matcher;
+
+            evict(_capacity);
+        }
+
+        return matcher;
+    }
+
+    /**
+     * 캐시에 담을 {@link KoreanTextMatcher}의 최대 개수를 구한다.
+     *
+     * @return 캐시의 최대 개수. 캐시를 사용하지 않으면 {@code 0}.
+     */
+    public int capacity() {
+        return _capacity;
+    }
+
+    /**
+     * 캐시에 담을 {@link KoreanTextMatcher}의 최대 개수를 바꾼다. 캐시에 이미
+     * 그보다 많은 항목이 있으면 넘치는 만큼 내보낸다.
+     *
+     * @param capacity 새 최대 개수. {@code 0}이면 캐시를 비우고 더 이상 사용하지
+     *        않는다.
+     * @throws IllegalArgumentException {@code capacity}가 {@code 0}보다 작을 때.
+     */
+    public synchronized void setCapacity(int capacity) {
+        checkCapacity(capacity);
+
+        _capacity = capacity;
+        evict(capacity);
+    }
+
+    /**
+     * 캐시에 담긴 {@link KoreanTextMatcher}의 개수를 구한다.
+     *
+     * @return 캐시에 담긴 항목의 개수
+     */
+    public int size() {
+        return _entries.size();
+    }
+
+    /**
+     * 캐시를 비운다. 통계는 그대로 남는다.
+     */
+    public synchronized void clear() {
+        _entries.clear();
+        _hand = null;
+    }
+
+    /**
+     * {@link #get(String, MatchingOptions...)}가 캐시에서 찾은 횟수를 구한다.
+     *
+     * @return {@link #resetStats()}를 마지막으로 호출한 뒤 캐시에서 찾은 횟수
+     */
+    public long hitCount() {
+        return _hitCount.sum();
+    }
+
+    /**
+     * {@link #get(String, MatchingOptions...)}가 캐시에서 찾지 못해서
+     * {@link KoreanTextMatcher}를 새로 만든 횟수를 구한다.
+     *
+     * @return {@link #resetStats()}를 마지막으로 호출한 뒤 새로 만든 횟수
+     */
+    public long missCount() {
+        return _missCount.sum();
+    }
+
+    /**
+     * 캐시가 넘쳐서 내보낸 항목의 개수를 구한다.
+     *
+     * @return {@link #resetStats()}를 마지막으로 호출한 뒤 내보낸 항목의 개수
+     */
+    public long evictionCount() {
+        return _evictionCount.sum();
+    }
+
+    /**
+     * 통계를 {@code 0}으로 되돌린다.
+     */
+    public void resetStats() {
+        _hitCount.reset();
+        _missCount.reset();
+        _evictionCount.reset();
+    }
+
+    //
+    // CLOCK: the hand sweeps the entries round and round, giving every entry
+    // used since the hand last passed it a second chance, and evicting the
+    // first one that wasn't. Two sweeps at most find a victim.
+    //
+    private void evict(int capacity) {
+        while (_entries.size() > capacity) {
+            if (_hand == null || !_hand.hasNext())
+                _hand = _entries.entrySet().iterator();
+
+            final Entry entry = _hand.next().getValue();
+            if (entry._referenced)
+                entry._referenced = false;
+            else {
+                _hand.remove();
+                _evictionCount.increment();
+            }
+        }
+    }
+
+    private static void checkCapacity(int capacity) {
+        if (capacity < 0)
+            throw new IllegalArgumentException("capacity: " + capacity + " is less than 0");
+    }
+
+    private static int optionBit(MatchingOptions option) {
+        return (option == MatchingOptions.Default) ? 0 : 1 << option.ordinal();
+    }
+
+    private static EnumSet<MatchingOptions> toEnumSet(int bits) {
+        final EnumSet<MatchingOptions> options = EnumSet.noneOf(MatchingOptions.class);
+        for (MatchingOptions option : MatchingOptions.values()) {
+            if ((bits & optionBit(option)) != 0)
+                options.add(option);
+        }
+
+        return options;
+    }
+
+    private static final class Key {
+        private final String _pattern;
+        private final int _options;
+
+        Key(String pattern, int options) {
+            _pattern = pattern;
+            _options = options;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            return obj instanceof Key other
+                && _options == other._options && _pattern.equals(other._pattern);
+        }
+
+        @Override
+        public int hashCode() {
+            return _pattern.hashCode() * 31 + _options;
+        }
+    }
+
+    private static final class Entry {
+        private final KoreanTextMatcher _matcher;
+        private volatile boolean _referenced;
+
+        //
+        // A new entry starts out referenced, so that the hand doesn't take it
+        // right back out on the next miss before it has had a chance to be
+        // used.
+        //
+        Entry(KoreanTextMatcher matcher) {
+            _matcher = matcher;
+            _referenced = true;
+        }
+    }
+}
@@ -0,0 +1,494 @@
+/*
+ * Copyright 2026 Bang Jun-young
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions
+ * are met:
+ * 1. Redistributions of source code must retain the above copyright
+ *    notice, this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright
+ *    notice, this list of conditions and the following disclaimer in the
+ *    documentation and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE AUTHOR ``AS IS'' AND ANY EXPRESS OR
+ * IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES
+ * OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED.
+ * IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY DIRECT, INDIRECT,
+ * INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT
+ * NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF
+ * THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.github.bangjunyoung;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import io.github.bangjunyoung.KoreanTextMatcher.MatchingOptions;
+
+/**
+ * 여러 개의 패턴을 한 번에 검색하는 한글 음절 근사 매칭 클래스.
+ * <p>
+ * 생성시 주어진 모든 패턴을 하나의 트라이로 컴파일해 두고, 텍스트를 한 번만
+ * 훑으면서 모든 패턴의 모든 출현을 찾는다. 각 패턴의 매칭 규칙은
+ * {@link KoreanTextMatcher}와 같아서, 패턴 {@code "ㄱㅊ"}는 {@code "김치"}에,
+ * {@code "한국"}은 {@code "한국어"}에 부합한다. {@link MatchingOptions}와
+ * 정규식 앵커 {@code ^}, {@code $}도 같은 의미로 지원한다.
+ * <p>
+ * {@link KoreanTextMatcher#matches(String)}가 겹치지 않는 출현만 찾는 것과
+ * 달리 이 클래스는 서로 겹치는 출현을 포함하여, 패턴마다 부합하는 모든 시작
+ * 위치를 보고한다.
+ * <p>
+ * 이 클래스의 인스턴스는 불변이며 여러 스레드에서 공유할 수 있다.
+ *
+ * @author 방준영 &lt;bang.junyoung@gmail.com&gt;
+ */
+public final class KoreanMultiMatcher {
+
+    /**
+     * 매칭 결과를 하나씩 전달받는 콜백.
+     */
+    @FunctionalInterface
+    public interface MatchHandler {
+        /**
+         * 패턴의 출현을 찾을 때마다 호출된다.
+         *
+         * @param patternId 찾은 패턴의 생성자 인자 내 위치
+         * @param index 출현의 텍스트 내 시작 위치
+         * @param length 출현의 길이
+         */
+        void onMatch(int patternId, int index, int length);
+    }
+
+    /**
+     * 매칭 결과.
+     *
+     * @param patternId 찾은 패턴의 생성자 인자 내 위치
+     * @param index 출현의 텍스트 내 시작 위치
+     * @param length 출현의 길이
+     */
+    public record Match(int patternId, int index, int length) {}
+
+    private final String[] _patterns;
+    private final KoreanTextPattern[] _compiledPatterns;
+    private final boolean[] _startAnchors, _endAnchors;
+    private final boolean[] _splitPatterns;
+    private final boolean _ignoreCase, _ignoreWhitespace;
+    private final int _maxDepth;
+
+    //
+    // Trie edges, stored in a single open-addressing table keyed on
+    // (node + 1, label). A slot whose key is 0 is empty.
+    //
+    private final long[] _edgeKeys;
+    private final int[] _edgeChildren;
+    private final int _edgeMask;
+
+    private final int[] _depths;
+    private final int[][] _outputs;
+
+    private static final int ROOT = 0;
+    private static final int SPLIT_FLAG = 1;
+
+    /**
+     * {@link KoreanMultiMatcher} 클래스의 새 인스턴스를 초기화한다.
+     *
+     * @param patterns 검색할 패턴 목록. 목록 내 위치가 각 패턴의 ID가 된다.
+     * @param options 모든 패턴에 공통으로 적용할 검색 옵션
+     * @throws IllegalArgumentException {@code patterns} 또는 그 원소가
+     *         {@code null}일 때, 앵커를 제외한 패턴이 빈 문자열일 때, 또는
+     *         {@link MatchingOptions#JamoStream}을 지정했을 때.
+     */
+    public KoreanMultiMatcher(List<String> patterns, MatchingOptions... options) {
+        this(patterns, KoreanTextMatcher.toEnumSet(options));
+    }
+
+    /**
+     * {@link KoreanMultiMatcher} 클래스의 새 인스턴스를 초기화한다.
+     *
+     * @param patterns 검색할 패턴 목록. 목록 내 위치가 각 패턴의 ID가 된다.
+     * @param options 모든 패턴에 공통으로 적용할 검색 옵션
+     * @throws IllegalArgumentException {@code patterns} 또는 그 원소가
+     *         {@code null}일 때, 앵커를 제외한 패턴이 빈 문자열일 때, 또는
+     *         {@link MatchingOptions#JamoStream}을 지정했을 때.
+     */
+    public KoreanMultiMatcher(List<String> patterns, EnumSet<MatchingOptions> options) {
+        if (patterns == null)
+            throw new IllegalArgumentException("patterns: null");
+        if (options.contains(MatchingOptions.JamoStream))
+            throw new IllegalArgumentException("options: JamoStream is not supported");
+
+        _ignoreCase = options.contains(MatchingOptions.IgnoreCase);
+        _ignoreWhitespace = options.contains(MatchingOptions.IgnoreWhitespace);
+        final boolean dubeolsikInput = options.contains(MatchingOptions.DubeolsikInput);
+
+        final int patternCount = patterns.size();
+        _patterns = new String[patternCount];
+        _compiledPatterns = new KoreanTextPattern[patternCount];
+        _startAnchors = new boolean[patternCount];
+        _endAnchors = new boolean[patternCount];
+        _splitPatterns = new boolean[patternCount];
+
+        final TrieBuilder builder = new TrieBuilder();
+        for (int id = 0; id < patternCount; id++) {
+            final String pattern = patterns.get(id);
+            if (pattern == null)
+                throw new IllegalArgumentException("patterns[" + id + "]: null");
+
+            final boolean hasStartAnchor = pattern.length() > 0 && pattern.charAt(0) == '^';
+            final boolean hasEndAnchor = pattern.length() > (hasStartAnchor ? 1 : 0) && pattern.charAt(pattern.length() - 1) == '$';
+            final String stripped = pattern.substring(
+                hasStartAnchor ? 1 : 0, pattern.length() - (hasEndAnchor ? 1 : 0));
+            if (stripped.length() == 0)
+                throw new IllegalArgumentException("patterns[" + id + "]: empty");
+
+            _patterns[id] = pattern;
+            _startAnchors[id] = hasStartAnchor;
+            _endAnchors[id] = hasEndAnchor;
+            _compiledPatterns[id] = new KoreanTextPattern(stripped, _ignoreCase);
+            builder.add(stripped, id << 1);
+
+            if (dubeolsikInput) {
+                final KoreanTextPattern split = KoreanTextPattern.splitLastSyllable(stripped, _ignoreCase);
+                if (split != null) {
+                    _splitPatterns[id] = true;
+                    builder.add(split, id << 1 | SPLIT_FLAG);
+                }
+            }
+        }
+
+        _maxDepth = builder.maxDepth();
+        _depths = builder.depths();
+        _outputs = builder.outputs();
+
+        final Map<Long, Integer> edges = builder.edges();
+        final int capacity = Integer.highestOneBit(Math.max(1, edges.size()) * 2) * 2;
+        _edgeKeys = new long[capacity];
+        _edgeChildren = new int[capacity];
+        _edgeMask = capacity - 1;
+        for (Map.Entry<Long, Integer> edge : edges.entrySet()) {
+            int slot = hash(edge.getKey()) & _edgeMask;
+            while (_edgeKeys[slot] != 0)
+                slot = (slot + 1) & _edgeMask;
+            _edgeKeys[slot] = edge.getKey();
+            _edgeChildren[slot] = edge.getValue();
+        }
+    }
+
+    /**
+     * 이 인스턴스가 검색하는 패턴의 개수를 구한다.
+     *
+     * @return 패턴의 개수
+     */
+    public int patternCount() {
+        return _patterns.length;
+    }
+
+    /**
+     * 주어진 ID의 패턴을 구한다.
+     *
+     * @param patternId 패턴 ID
+     * @return 생성자에 주어진 그대로의 패턴
+     * @throws IllegalArgumentException {@code patternId}가 범위를 벗어났을 때.
+     */
+    public String pattern(int patternId) {
+        if (patternId < 0 || patternId >= _patterns.length)
+            throw new IllegalArgumentException("patternId: " + patternId + " is out of range 0 .. " + (_patterns.length - 1));
+
+        return _patterns[patternId];
+    }
+
+    /**
+     * 주어진 {@code text}에서 모든 패턴의 모든 출현을 찾는다.
+     *
+     * @param text 검색 대상 문자열
+     * @return 찾은 출현의 목록. 출현이 끝나는 위치 순으로 정렬되어 있다.
+     *         찾은 것이 없으면 빈 리스트를 리턴한다.
+     * @throws IllegalArgumentException {@code text}가 {@code null}일 때.
+     */
+    public List<Match> matches(CharSequence text) {
+        final List<Match> result = new ArrayList<>();
+        match(text, 0, (patternId, index, length) -> result.add(new Match(patternId, index, length)));
+
+        return result;
+    }
+
+    /**
+     * 주어진 {@code text}에서 모든 패턴의 모든 출현을 찾아 {@code handler}에
+     * 차례로 전달한다.
+     *
+     * 출현은 끝나는 위치 순으로 전달된다. 매칭 결과마다 객체를 만들지 않으므로
+     * 많은 텍스트를 검색할 때는 {@link #matches(CharSequence)}보다 이 메소드가 유리하다.
+     *
+     * @param text 검색 대상 문자열
+     * @param handler 매칭 결과를 전달받을 콜백
+     * @throws IllegalArgumentException {@code text} 또는 {@code handler}가
+     *         {@code null}일 때.
+     */
+    public void match(CharSequence text, MatchHandler handler) {
+        match(text, 0, handler);
+    }
+
+    /**
+     * 주어진 {@code text}의 {@code startIndex} 위치부터 모든 패턴의 모든 출현을
+     * 찾아 {@code handler}에 차례로 전달한다.
+     *
+     * @param text 검색 대상 문자열
+     * @param startIndex 검색을 시작할 {@code text} 내 위치
+     * @param handler 매칭 결과를 전달받을 콜백
+     * @throws IllegalArgumentException {@code text} 또는 {@code handler}가
+     *         {@code null}일 때, 또는 {@code startIndex}가 {@code 0}보다 작거나
+     *         {@code text.length()}보다 클 때.
+     */
+    public void match(CharSequence text, int startIndex, MatchHandler handler) {
+        if (text == null)
+            throw new IllegalArgumentException("text: null");
+        if (handler == null)
+            throw new IllegalArgumentException("handler: null");
+        if (startIndex < 0 || startIndex > text.length())
+            throw new IllegalArgumentException("startIndex: " + startIndex + " is out of range 0 .. " + text.length());
+
+        //
+        // The trie is run as a nondeterministic automaton: every node whose
+        // path matches the chars read so far stays active, and the root is
+        // re-entered at every char. This replaces Aho-Corasick failure links,
+        // which cannot be built when a single text char such as '김' moves
+        // along several edges at once ('ㄱ', '기' and '김').
+        //
+        // A node is reached at most once per char, since its parent is, and
+        // a char never yields the same label twice.
+        //
+        final boolean ignoreWhitespace = _ignoreWhitespace;
+        final int[] labels = new int[KoreanCharApproxMatcher.MAX_JAMO_COUNT];
+        final int[] positions = ignoreWhitespace ? new int[Math.max(1, _maxDepth)] : null;
+
+        int[] active = new int[16];
+        int[] next = new int[16];
+        int activeCount = 0;
+        int ordinal = 0;
+
+        for (int i = startIndex; i < text.length(); i++) {
+            final char c = KoreanTextMatcher.charAt(text, i);
+            if (ignoreWhitespace) {
+                if (KoreanTextMatcher.isWhitespace(c))
+                    continue;
+                positions[ordinal % positions.length] = i;
+            }
+            ordinal++;
+
+            final int labelCount = labelsOf(c, labels);
+
+            int nextCount = 0;
+            for (int k = -1; k < activeCount; k++) {
+                final int node = (k < 0) ? ROOT : active[k];
+                for (int l = 0; l < labelCount; l++) {
+                    final int child = child(node, labels[l]);
+                    if (child < 0)
+                        continue;
+                    if (nextCount == next.length)
+                        next = Arrays.copyOf(next, nextCount * 2);
+                    next[nextCount++] = child;
+                }
+            }
+
+            final int[] swap = active;
+            active = next;
+            next = (swap.length < active.length) ? new int[active.length] : swap;
+            activeCount = nextCount;
+
+            for (int k = 0; k < activeCount; k++) {
+                final int[] outputs = _outputs[active[k]];
+                if (outputs == null)
+                    continue;
+
+                final int depth = _depths[active[k]];
+                final int index = ignoreWhitespace
+                    ? positions[(ordinal - depth) % positions.length]
+                    : i - depth + 1;
+                for (int output : outputs)
+                    report(text, i, ordinal, positions, index, output, handler);
+            }
+        }
+    }
+
+    private void report(CharSequence text, int i, int ordinal, int[] positions,
+            int index, int output, MatchHandler handler) {
+        final int patternId = output >>> 1;
+
+        if (_startAnchors[patternId] && index != 0)
+            return;
+        if (_endAnchors[patternId] && i != text.length() - 1)
+            return;
+
+        //
+        // KoreanTextMatcher searches an anchored pattern only within as many
+        // chars as the pattern has, plus one at the start for the split
+        // pattern, so a match spread wider by whitespace or by the split
+        // pattern falls outside of it.
+        //
+        if (_startAnchors[patternId] || _endAnchors[patternId]) {
+            final int patternLength = _compiledPatterns[patternId].length();
+            final int length = i - index + 1;
+            if (text.length() < patternLength)
+                return;
+            if (_startAnchors[patternId] && _endAnchors[patternId]) {
+                if (text.length() != patternLength)
+                    return;
+            } else if (_endAnchors[patternId]) {
+                if (length > patternLength)
+                    return;
+            } else if (length > patternLength + (_splitPatterns[patternId] ? 1 : 0))
+                return;
+        }
+
+        //
+        // The split form is tried only when the regular form fails at the
+        // last pattern position, as KoreanTextMatcher does. Otherwise the
+        // regular match has already been reported at the previous char.
+        //
+        if ((output & SPLIT_FLAG) != 0) {
+            final KoreanTextPattern pattern = _compiledPatterns[patternId];
+            final int lastIndex = (positions != null)
+                ? positions[(ordinal - 2) % positions.length]
+                : i - 1;
+            if (pattern.isMatch(pattern.length() - 1, KoreanTextMatcher.charAt(text, lastIndex)))
+                return;
+        }
+
+        handler.onMatch(patternId, index, i - index + 1);
+    }
+
+    //
+    // A pattern char is labeled by its jamo code if it has one, otherwise by
+    // the char itself, folded to lowercase with IgnoreCase. The labels
+    // reachable from a text char are then every prefix of its jamo code, or
+    // the char itself when it has no code.
+    //
+    private int labelOf(char c) {
+        final int jamoCode = KoreanCharApproxMatcher.jamoCode(c);
+        if (jamoCode != 0)
+            return jamoCode;
+
+        return charLabel(c);
+    }
+
+    private int labelsOf(char c, int[] labels) {
+        final int jamoCode = KoreanCharApproxMatcher.jamoCode(c);
+        if (jamoCode == 0) {
+            labels[0] = charLabel(c);
+            return 1;
+        }
+
+        int count = 0;
+        for (int shift = KoreanCharApproxMatcher.JAMO_BITS * (KoreanCharApproxMatcher.MAX_JAMO_COUNT - 1);
+                shift >= 0; shift -= KoreanCharApproxMatcher.JAMO_BITS) {
+            final int prefix = jamoCode & (-1 << shift);
+            if (count > 0 && prefix == labels[count - 1])
+                break;
+            labels[count++] = prefix;
+        }
+
+        return count;
+    }
+
+    private int charLabel(char c) {
+        final char folded = (_ignoreCase && KoreanTextPattern.isLatinAlphabet(c))
+            ? (char)(c | 0x20)
+            : c;
+
+        return -folded - 1;
+    }
+
+    private int child(int node, int label) {
+        final long key = edgeKey(node, label);
+        int slot = hash(key) & _edgeMask;
+        while (true) {
+            final long k = _edgeKeys[slot];
+            if (k == key)
+                return _edgeChildren[slot];
+            if (k == 0)
+                return -1;
+            slot = (slot + 1) & _edgeMask;
+        }
+    }
+
+    private static long edgeKey(int node, int label) {
+        return ((long)(node + 1) << 32) | (label & 0xFFFFFFFFL);
+    }
+
+    private static int hash(long key) {
+        final long h = key * 0x9E3779B97F4A7C15L;
+        return (int)(h ^ (h >>> 32));
+    }
+
+    private final class TrieBuilder {
+        private final Map<Long, Integer> _edges = new HashMap<>();
+        private final List<Integer> _depths = new ArrayList<>(List.of(0));
+        private final List<int[]> _outputs = new ArrayList<>();
+        private int _maxDepth;
+
+        TrieBuilder() {
+            _outputs.add(null);
+        }
+
+        void add(String pattern, int output) {
+            add(pattern.toCharArray(), output);
+        }
+
+        void add(KoreanTextPattern pattern, int output) {
+            final char[] chars = new char[pattern.length()];
+            for (int i = 0; i < chars.length; i++)
+                chars[i] = pattern.charAt(i);
+            add(chars, output);
+        }
+
+        private void add(char[] pattern, int output) {
+            int node = ROOT;
+            for (char c : pattern) {
+                final Long key = edgeKey(node, labelOf(c));
+                Integer child = _edges.get(key);
+                if (child == null) {
+                    child = _depths.size();
+                    _edges.put(key, child);
+                    _depths.add(_depths.get(node) + 1);
+                    _outputs.add(null);
+                }
+                node = child;
+            }
+
+            final int[] outputs = _outputs.get(node);
+            if (outputs == null)
+                _outputs.set(node, new int[] { output });
+            else {
+                final int[] extended = Arrays.copyOf(outputs, outputs.length + 1);
+                extended[outputs.length] = output;
+                _outputs.set(node, extended);
+            }
+            _maxDepth = Math.max(_maxDepth, pattern.length);
+        }
+
+        Map<Long, Integer> edges() {
+            return _edges;
+        }
+
+        int maxDepth() {
+            return _maxDepth;
+        }
+
+        int[] depths() {
+            return _depths.stream().mapToInt(Integer::intValue).toArray();
+        }
+
+        int[][] outputs() {
+            return _outputs.toArray(new int[0][]);
+        }
+    }
+}
@@ -0,0 +1,169 @@
+/*
+ * Copyright 2026 Bang Jun-young
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions
+ * are met:
+ * 1. Redistributions of source code must retain the above copyright
+ *    notice, this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright
+ *    notice, this list of conditions and the following disclaimer in the
+ *    documentation and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE AUTHOR ``AS IS'' AND ANY EXPRESS OR
+ * IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES
+ * OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED.
+ * IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY DIRECT, INDIRECT,
+ * INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT
+ * NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF
+ * THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.github.bangjunyoung;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 텍스트의 각 문자가 {@link KoreanTextPattern}의 어느 위치들에 부합하는지를
+ * 비트 마스크로 미리 계산해 둔 테이블.
+ * <p>
+ * 패턴의 {@code from}번째 위치부터 최대 {@value #MAX_POSITIONS}개의 위치를
+ * 마스크의 0번 비트부터 차례로 대응시킨다. 예를 들어 패턴 {@code "ㄱ나"}에 대해
+ * {@code '각'}의 마스크는 {@code 0b01}, {@code '난'}의 마스크는 {@code 0b10}이다.
+ * <p>
+ * 한글 음절은 같은 마스크를 갖는 음절끼리 묶어 음절마다 묶음 번호만 저장하므로
+ * 테이블 하나의 크기는 패턴 길이와 상관없이 수십 KB 이내로 유지된다.
+ * 이 클래스의 인스턴스는 불변이며 여러 스레드에서 공유할 수 있다.
+ *
+ * @author 방준영 &lt;bang.junyoung@gmail.com&gt;
+ */
+final class KoreanPatternMasks {
+
+    static final int MAX_POSITIONS = Long.SIZE;
+
+    private static final int ASCII_COUNT = 128;
+    private static final int SYLLABLES_BASE = 0xAC00;
+    private static final int SYLLABLE_COUNT = 11172;
+
+    private final long[] _asciiMasks = new long[ASCII_COUNT];
+    private final char[] _syllableClasses;
+    private final long[] _classMasks;
+    private final char[] _otherChars;
+    private final long[] _otherMasks;
+
+    KoreanPatternMasks(KoreanTextPattern pattern, int from, int count) {
+        if (count < 0 || count > MAX_POSITIONS)
+            throw new IllegalArgumentException("count: " + count + " is out of range 0 .. " + MAX_POSITIONS);
+
+        //
+        // Masks of the distinct pattern chars that take part in approximate
+        // matching. Only these can ever match a Hangul syllable.
+        //
+        final Map<Character, Long> jamoCharMasks = new HashMap<>();
+        final TreeMap<Character, Long> otherMasks = new TreeMap<>();
+        for (int i = 0; i < count; i++) {
+            final char c = pattern.charAt(from + i);
+            if (KoreanCharApproxMatcher.jamoCode(c) != 0)
+                jamoCharMasks.merge(c, 1L << i, (x, y) -> x | y);
+            addCandidate(otherMasks, c);
+            if (KoreanTextPattern.isLatinAlphabet(c))
+                addCandidate(otherMasks, (char)(c ^ 0x20));
+        }
+
+        if (jamoCharMasks.isEmpty()) {
+            _syllableClasses = null;
+            _classMasks = new long[] { 0 };
+        } else {
+            final int[] jamoCodes = new int[jamoCharMasks.size()];
+            final int[] jamoMasks = new int[jamoCodes.length];
+            final long[] positionMasks = new long[jamoCodes.length];
+            int k = 0;
+            for (Map.Entry<Character, Long> entry : jamoCharMasks.entrySet()) {
+                jamoCodes[k] = KoreanCharApproxMatcher.jamoCode(entry.getKey());
+                jamoMasks[k] = KoreanCharApproxMatcher.jamoMask(jamoCodes[k]);
+                positionMasks[k] = entry.getValue();
+                k++;
+            }
+
+            final Map<Long, Character> classes = new HashMap<>();
+            classes.put(0L, (char)0);
+            _syllableClasses = new char[SYLLABLE_COUNT];
+            for (int i = 0; i < SYLLABLE_COUNT; i++) {
+                final int code = KoreanCharApproxMatcher.jamoCode((char)(SYLLABLES_BASE + i));
+                long mask = 0;
+                for (int j = 0; j < jamoCodes.length; j++) {
+                    if ((code & jamoMasks[j]) == jamoCodes[j])
+                        mask |= positionMasks[j];
+                }
+                final char classIndex = classes.computeIfAbsent(mask, m -> (char)classes.size());
+                _syllableClasses[i] = classIndex;
+            }
+
+            _classMasks = new long[classes.size()];
+            for (Map.Entry<Long, Character> entry : classes.entrySet())
+                _classMasks[entry.getValue()] = entry.getKey();
+
+            for (char c = 0x1100; c <= 0x1112; c++)
+                addCandidate(otherMasks, c);
+            for (char c = 0x3131; c <= 0x314E; c++)
+                addCandidate(otherMasks, c);
+        }
+
+        for (Map.Entry<Character, Long> entry : otherMasks.entrySet()) {
+            final char c = entry.getKey();
+            long mask = 0;
+            for (int i = 0; i < count; i++) {
+                if (pattern.isMatch(from + i, c))
+                    mask |= 1L << i;
+            }
+            entry.setValue(mask);
+        }
+        otherMasks.values().removeIf(mask -> mask == 0);
+
+        int otherCount = 0;
+        for (Map.Entry<Character, Long> entry : otherMasks.entrySet()) {
+            if (entry.getKey() < ASCII_COUNT)
+                _asciiMasks[entry.getKey()] = entry.getValue();
+            else
+                otherCount++;
+        }
+
+        _otherChars = new char[otherCount];
+        _otherMasks = new long[otherCount];
+        int k = 0;
+        for (Map.Entry<Character, Long> entry : otherMasks.entrySet()) {
+            if (entry.getKey() >= ASCII_COUNT) {
+                _otherChars[k] = entry.getKey();
+                _otherMasks[k] = entry.getValue();
+                k++;
+            }
+        }
+    }
+
+    /**
+     * 주어진 문자가 부합하는 패턴 위치들의 마스크를 구한다.
+     */
+    long get(char c) {
+        if (c < ASCII_COUNT)
+            return _asciiMasks[c];
+
+        final int index = c - SYLLABLES_BASE;
+        if (0 <= index && index < SYLLABLE_COUNT)
+            return (_syllableClasses != null) ? _classMasks[_syllableClasses[index]] : 0;
+
+        final int k = Arrays.binarySearch(_otherChars, c);
+        return (k >= 0) ? _otherMasks[k] : 0;
+    }
+
+    private static void addCandidate(Map<Character, Long> candidates, char c) {
+        if (!KoreanChar.isSyllable(c))
+            candidates.putIfAbsent(c, 0L);
+    }
+}
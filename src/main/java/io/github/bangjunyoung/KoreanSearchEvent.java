@@ -0,0 +1,100 @@
+/*
+ * Copyright 2026 Bang Jun-young
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions
+ * are met:
+ * 1. Redistributions of source code must retain the above copyright
+ *    notice, this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright
+ *    notice, this list of conditions and the following disclaimer in the
+ *    documentation and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE AUTHOR ``AS IS'' AND ANY EXPRESS OR
+ * IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES
+ * OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED.
+ * IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY DIRECT, INDIRECT,
+ * INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT
+ * NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF
+ * THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.github.bangjunyoung;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Threshold;
+
+/**
+ * {@link KoreanTextMatcher}의 검색 한 번을 기록하는 JDK Flight Recorder 이벤트.
+ * <p>
+ * {@code matches()}나 {@code stream()}, {@code parallelMatches()}처럼 모든
+ * 출현을 찾을 때는 첫 검색부터 더 찾을 것이 없을 때까지를 이벤트 하나로
+ * 기록한다. 이때 이벤트가 걸린 시간에는 호출한 쪽이 매치 사이에 쓴 시간도
+ * 들어가며, 끝까지 가지 않고 멈춘 순회는 기록되지 않는다. 병렬 스트림은 나뉜
+ * 구간마다 따로 기록한다.
+ * <p>
+ * 기본적으로 20ms 이상 걸린 검색만 기록된다. 기준은 JFR 설정 파일에서 바꿀 수
+ * 있다. 1024자보다 짧은 범위의 검색은 아무리 길어도 수 마이크로초 안에 끝나므로
+ * 기준과 상관없이 기록하지 않는다.
+ * <pre>{@code
+ * <event name="io.github.bangjunyoung.Search">
+ *   <setting name="enabled">true</setting>
+ *   <setting name="threshold">5 ms</setting>
+ * </event>
+ * }</pre>
+ * {@code jdk.jfr} 모듈이 없는 환경, 예를 들어 안드로이드에서는 이 클래스를
+ * 불러오지 않으며 이벤트도 생기지 않는다.
+ *
+ * @author 방준영 &lt;bang.junyoung@gmail.com&gt;
+ */
+@Name("io.github.bangjunyoung.Search")
+@Label("Korean Text Search")
+@Category("KoreanTextMatcher")
+@Description("A search for a pattern with KoreanTextMatcher")
+@Threshold("20 ms")
+final class KoreanSearchEvent extends Event {
+
+    @Label("Pattern Length")
+    int patternLength;
+
+    @Label("Options")
+    String options;
+
+    @Label("Text Length")
+    int textLength;
+
+    @Label("Text Searched")
+    @Description("Number of chars from where the search started through the first char of the match it found, or to the end of the text if it found no more")
+    int searchedLength;
+
+    @Label("Matches")
+    int matchCount;
+
+    void report(KoreanTextMatcher matcher, int startIndex, int length, long result) {
+        if (result != KoreanTextMatcher.NOT_FOUND)
+            report(matcher, length, KoreanTextMatcher.unpackIndex(result) - startIndex + 1, 1);
+        else
+            report(matcher, length, length, 0);
+    }
+
+    void report(KoreanTextMatcher matcher, int length, int searched, int matches) {
+        end();
+        if (!shouldCommit())
+            return;
+
+        patternLength = matcher.patternLength();
+        options = matcher.options().toString();
+        textLength = length;
+        searchedLength = searched;
+        matchCount = matches;
+        commit();
+    }
+}
@@ -0,0 +1,253 @@
+/*
+ * Copyright 2026 Bang Jun-young
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions
+ * are met:
+ * 1. Redistributions of source code must retain the above copyright
+ *    notice, this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright
+ *    notice, this list of conditions and the following disclaimer in the
+ *    documentation and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE AUTHOR ``AS IS'' AND ANY EXPRESS OR
+ * IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES
+ * OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED.
+ * IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY DIRECT, INDIRECT,
+ * INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT
+ * NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF
+ * THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.github.bangjunyoung;
+
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.List;
+
+import io.github.bangjunyoung.KoreanTextMatcher.MatchingOptions;
+
+/**
+ * 사용자가 검색어를 한 글자씩 입력할 때마다 많은 수의 문자열을 다시 검색하는
+ * 클래스.
+ * <p>
+ * 검색어가 {@code "ㅎ"}, {@code "하"}, {@code "한"}, {@code "한ㄱ"},
+ * {@code "한글"}처럼 이어서 입력되면 새 검색어에 매치되는 문자열은 모두 이전
+ * 검색어에도 매치된다. 이 클래스는 직전 검색 결과와 각 문자열 내 매치 위치를
+ * 기억해 두었다가, 새 검색어가 이전 검색어를 좁히기만 할 때는 직전 결과만 그
+ * 매치 위치부터 다시 확인한다. 따라서 입력 한 번의 비용은 전체 문자열의 개수가
+ * 아니라 직전 결과의 개수에 비례한다.
+ * <p>
+ * {@link MatchingOptions#DubeolsikInput}을 사용하면 {@code "한"}에서
+ * {@code "하나"}로 바뀌는 것처럼 마지막 음절의 종성이 다음 음절로 넘어가도 좁히는
+ * 것으로 본다. 글자를 지우거나 중간을 고치는 등 검색어가 이전 검색어를 좁히지
+ * 않을 때는 전체 문자열을 다시 검색한다.
+ * <p>
+ * 이 클래스의 인스턴스는 상태를 가지므로 여러 스레드에서 공유할 수 없다.
+ *
+ * @author 방준영 &lt;bang.junyoung@gmail.com&gt;
+ */
+public final class KoreanSearchSession {
+
+    private final String[] _corpus;
+    private final EnumSet<MatchingOptions> _options;
+    private final KoreanMatchCursor _cursor = new KoreanMatchCursor();
+
+    private String _pattern;
+    private KoreanTextMatcher _matcher;
+
+    // Entries that matched _pattern, with where their first match is.
+    private int[] _ids = new int[0];
+    private int[] _indexes = new int[0];
+    private int[] _lengths = new int[0];
+    private int _count;
+
+    /**
+     * {@link KoreanSearchSession} 클래스의 새 인스턴스를 초기화한다.
+     *
+     * @param corpus 검색 대상 문자열 배열. 검색 결과는 이 배열 내 위치로 알려준다.
+     * @param options 검색 옵션
+     * @throws IllegalArgumentException {@code corpus} 또는 그 원소가 {@code null}일 때.
+     */
+    public KoreanSearchSession(String[] corpus, MatchingOptions... options) {
+        if (corpus == null)
+            throw new IllegalArgumentException("corpus: null");
+
+        _corpus = corpus.clone();
+        for (int i = 0; i < _corpus.length; i++) {
+            if (_corpus[i] == null)
+                throw new IllegalArgumentException("corpus[" + i + "]: null");
+        }
+        _options = KoreanTextMatcher.toEnumSet(options);
+    }
+
+    /**
+     * {@link KoreanSearchSession} 클래스의 새 인스턴스를 초기화한다.
+     *
+     * @param corpus 검색 대상 문자열 리스트. 검색 결과는 이 리스트 내 위치로 알려준다.
+     * @param options 검색 옵션
+     * @throws IllegalArgumentException {@code corpus} 또는 그 원소가 {@code null}일 때.
+     */
+    public KoreanSearchSession(List<String> corpus, MatchingOptions... options) {
+        this(corpus != null ? corpus.toArray(new String[0]) : null, options);
+    }
+
+    /**
+     * 주어진 검색어가 존재하는 모든 문자열을 찾는다. 검색어가 직전 검색어를
+     * 좁히기만 하면 직전 결과만 다시 확인하고, 아니면 전체 문자열을 검색한다.
+     *
+     * @param pattern 검색할 패턴
+     * @return 패턴이 존재하는 문자열의 번호를 오름차순으로 담은 배열
+     * @throws IllegalArgumentException {@code pattern}이 {@code null}일 때.
+     */
+    public int[] search(String pattern) {
+        if (pattern == null)
+            throw new IllegalArgumentException("pattern: null");
+
+        if (!pattern.equals(_pattern)) {
+            final KoreanTextMatcher matcher = new KoreanTextMatcher(pattern, _options);
+            if (_matcher != null && narrows(matcher, _matcher))
+                refine(matcher);
+            else
+                scan(matcher);
+
+            _pattern = pattern;
+            _matcher = matcher;
+        }
+
+        return Arrays.copyOf(_ids, _count);
+    }
+
+    /**
+     * 마지막 {@link #search(String)}의 결과 중 주어진 문자열에서 찾은 첫번째
+     * 매치를 구한다.
+     *
+     * @param id 문자열의 번호
+     * @return 매치를 담은 {@link KoreanTextMatch} 인스턴스. {@code id}번째
+     *         문자열이 마지막 검색 결과에 없으면 {@link KoreanTextMatch#EMPTY}.
+     * @throws IllegalArgumentException {@code id}가 범위를 벗어날 때.
+     */
+    public KoreanTextMatch match(int id) {
+        if (id < 0 || id >= _corpus.length)
+            throw new IllegalArgumentException("id: " + id + " is out of range 0 .. " + (_corpus.length - 1));
+
+        final int i = Arrays.binarySearch(_ids, 0, _count, id);
+        if (i < 0)
+            return KoreanTextMatch.EMPTY;
+
+        return new KoreanTextMatch(_matcher, _corpus[id], _indexes[i], _lengths[i]);
+    }
+
+    /**
+     * 검색 대상 문자열의 개수를 구한다.
+     *
+     * @return 생성할 때 주어진 문자열의 개수
+     */
+    public int size() {
+        return _corpus.length;
+    }
+
+    /**
+     * 검색 대상 문자열을 구한다.
+     *
+     * @param id 문자열의 번호
+     * @return {@code id}번째 문자열
+     * @throws IllegalArgumentException {@code id}가 범위를 벗어날 때.
+     */
+    public String get(int id) {
+        if (id < 0 || id >= _corpus.length)
+            throw new IllegalArgumentException("id: " + id + " is out of range 0 .. " + (_corpus.length - 1));
+
+        return _corpus[id];
+    }
+
+    /**
+     * 직전 검색 결과를 버려서 다음 {@link #search(String)}가 전체 문자열을
+     * 검색하게 한다.
+     */
+    public void reset() {
+        _pattern = null;
+        _matcher = null;
+        _count = 0;
+    }
+
+    private void scan(KoreanTextMatcher matcher) {
+        if (_ids.length < _corpus.length) {
+            _ids = new int[_corpus.length];
+            _indexes = new int[_corpus.length];
+            _lengths = new int[_corpus.length];
+        }
+
+        int count = 0;
+        for (int id = 0; id < _corpus.length; id++) {
+            if (matcher.find(_corpus[id], 0, _cursor))
+                count = add(count, id);
+        }
+        _count = count;
+    }
+
+    //
+    // Every match of a narrowing pattern is also a match of the previous one
+    // at the same index, so an entry's first match can't come before the one
+    // found last time, and the search can resume from there.
+    //
+    private void refine(KoreanTextMatcher matcher) {
+        int count = 0;
+        for (int i = 0; i < _count; i++) {
+            final int id = _ids[i];
+            if (matcher.find(_corpus[id], _indexes[i], _cursor))
+                count = add(count, id);
+        }
+        _count = count;
+    }
+
+    private int add(int count, int id) {
+        _ids[count] = id;
+        _indexes[count] = _cursor.index();
+        _lengths[count] = _cursor.length();
+        return count + 1;
+    }
+
+    //
+    // Tells whether every text next matches is also matched by previous.
+    // With DubeolsikInput, a matcher accepts either its pattern or its split
+    // pattern, so each form of next must narrow one of previous.
+    //
+    static boolean narrows(KoreanTextMatcher next, KoreanTextMatcher previous) {
+        //
+        // An end anchor pins a match to the end of text, where a longer
+        // pattern no longer ends. A start anchor limits the search to a
+        // range as long as the pattern, which whitespace ignored in between
+        // can exceed, and which the split pattern extends by one char so
+        // that next may match one char later than previous could. Such a
+        // match may also start before where previous first matched, which
+        // is where refine() resumes, so it is never found there.
+        //
+        if (previous.hasEndAnchor())
+            return false;
+        if (next.hasStartAnchor() && next.hasSplitPattern())
+            return false;
+        //
+        // Edits let a match skip or replace jamos of either pattern, and a
+        // jamo stream doesn't keep pattern chars apart, so a longer pattern
+        // no longer implies a narrower set of strings.
+        //
+        if (next.hasJamoPattern() || previous.hasJamoPattern())
+            return false;
+        if (previous.hasStartAnchor()
+            && (!next.hasStartAnchor() || previous.ignoresWhitespace()))
+            return false;
+
+        return narrowsEither(next.getPattern(), previous)
+            && (!next.hasSplitPattern() || narrowsEither(next.getSplitPattern(), previous));
+    }
+
+    private static boolean narrowsEither(KoreanTextPattern pattern, KoreanTextMatcher previous) {
+        return pattern.narrows(previous.getPattern())
+            || (previous.hasSplitPattern() && pattern.narrows(previous.getSplitPattern()));
+    }
+}
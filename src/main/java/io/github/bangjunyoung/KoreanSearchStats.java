@@ -0,0 +1,263 @@
+/*
+ * Copyright 2026 Bang Jun-young
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions
+ * are met:
+ * 1. Redistributions of source code must retain the above copyright
+ *    notice, this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright
+ *    notice, this list of conditions and the following disclaimer in the
+ *    documentation and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE AUTHOR ``AS IS'' AND ANY EXPRESS OR
+ * IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES
+ * OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED.
+ * IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY DIRECT, INDIRECT,
+ * INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT
+ * NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF
+ * THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.github.bangjunyoung;
+
+/**
+ * {@link KoreanTextMatcher}의 검색 한 번에 든 비용을 세는 통계.
+ * <p>
+ * 통계는 JVM을 시스템 속성 {@code io.github.bangjunyoung.stats}를
+ * {@code true}로 설정해서 실행할 때만 수집된다. 속성이 설정되어 있지 않으면
+ * 통계를 세는 코드는 JIT 컴파일러가 모두 제거하므로 검색 속도에 영향을 주지
+ * 않는다.
+ * <pre>{@code
+ * java -Dio.github.bangjunyoung.stats=true ...
+ * }</pre>
+ * 수집된 통계는 {@link #setListener(Listener)}로 등록한 {@link Listener}에 검색이
+ * 끝날 때마다 전달된다. {@link Listener}는 검색에 사용된
+ * {@link KoreanTextMatcher}도 함께 전달받으므로, 패턴과 검색 옵션별로 비용을
+ * 집계할 수 있다.
+ * <p>
+ * 검색 한 번은 {@link KoreanTextMatcher#match(String)}나
+ * {@link KoreanTextMatcher#find(CharSequence, int, KoreanMatchCursor)}처럼
+ * 출현 하나를 찾는 호출을 말한다. {@link KoreanTextMatcher#matches(String)}로 모든
+ * 출현을 찾으면 출현마다, 그리고 마지막으로 실패한 검색에 대해 한 번씩
+ * 전달된다. 앵커 때문에 텍스트를 살펴보기도 전에 실패한 검색은 전달되지 않는다.
+ * <p>
+ * 통계는 스레드마다 따로 수집되며, {@link Listener}에 전달된 인스턴스는 리스너가
+ * 리턴한 뒤에 재사용되므로 값을 보관하려면 복사해야 한다.
+ *
+ * @author 방준영 &lt;bang.junyoung@gmail.com&gt;
+ */
+public final class KoreanSearchStats {
+
+    /**
+     * 검색이 끝날 때마다 통계를 전달받는 콜백.
+     */
+    @FunctionalInterface
+    public interface Listener {
+        /**
+         * 검색이 끝날 때마다 검색을 실행한 스레드에서 호출된다.
+         *
+         * @param matcher 검색에 사용된 {@link KoreanTextMatcher}
+         * @param stats 검색 통계. 이 메소드가 리턴할 때까지만 유효하다.
+         */
+        void searched(KoreanTextMatcher matcher, KoreanSearchStats stats);
+    }
+
+    /**
+     * 아무것도 하지 않는 기본 {@link Listener}.
+     */
+    public static final Listener NO_LISTENER = (matcher, stats) -> {};
+
+    //
+    // Read once, so that the JIT compiler can fold every check of it and
+    // drop the counting code from the search loops altogether.
+    //
+    static final boolean ENABLED = Boolean.getBoolean("io.github.bangjunyoung.stats");
+
+    private static volatile Listener _listener = NO_LISTENER;
+
+    private static final ThreadLocal<KoreanSearchStats> CURRENT =
+        ThreadLocal.withInitial(KoreanSearchStats::new);
+
+    // Counted directly by the search loops of KoreanTextMatcher.
+    long _positionCount;
+    long _comparisonCount;
+    long _whitespaceCount;
+    long _dubeolsikAttemptCount;
+
+    private int _textLength;
+    private int _matchCount;
+    private long _startTime;
+    private long _elapsedNanos;
+
+    // How many searches are in progress on this thread, so that a search
+    // that hands part of the text to another one is reported only once.
+    private int _depth;
+    private boolean _reporting;
+
+    private KoreanSearchStats() {
+    }
+
+    /**
+     * 통계가 수집되고 있는지 알아본다.
+     *
+     * @return 시스템 속성 {@code io.github.bangjunyoung.stats}가 {@code true}로
+     *         설정되어 있으면 {@code true}.
+     */
+    public static boolean isEnabled() {
+        return ENABLED;
+    }
+
+    /**
+     * 통계를 전달받을 {@link Listener}를 등록한다. 이전에 등록한 리스너는
+     * 대체된다. 통계가 수집되고 있지 않으면 리스너는 호출되지 않는다.
+     *
+     * @param listener 등록할 리스너. 등록을 해제하려면 {@link #NO_LISTENER}를 넘긴다.
+     * @throws IllegalArgumentException {@code listener}가 {@code null}일 때.
+     */
+    public static void setListener(Listener listener) {
+        if (listener == null)
+            throw new IllegalArgumentException("listener: null");
+
+        _listener = listener;
+    }
+
+    /**
+     * 등록된 {@link Listener}를 구한다.
+     *
+     * @return 등록된 리스너. 등록된 리스너가 없으면 {@link #NO_LISTENER}.
+     */
+    public static Listener getListener() {
+        return _listener;
+    }
+
+    /**
+     * 검색 범위의 길이.
+     *
+     * @return 검색 시작 위치부터 검색 범위 끝까지의 길이
+     */
+    public int textLength() {
+        return _textLength;
+    }
+
+    /**
+     * 검색하는 동안 살펴본 텍스트 위치의 수. 패턴을 맞춰 본 시작 위치와 한 문자씩
+     * 읽으며 검색할 때 읽은 문자를 모두 센다. 선별 검색이나 건너뛰기 검색에서
+     * 건너뛴 위치는 세지 않는다.
+     *
+     * @return 살펴본 텍스트 위치의 수
+     */
+    public long positionCount() {
+        return _positionCount;
+    }
+
+    /**
+     * 패턴 문자와 텍스트 문자를 비교한 대략적인 횟수.
+     *
+     * @return 비교 횟수
+     */
+    public long comparisonCount() {
+        return _comparisonCount;
+    }
+
+    /**
+     * {@link KoreanTextMatcher.MatchingOptions#IgnoreWhitespace} 옵션 때문에
+     * 건너뛴 공백 문자의 수. 같은 공백을 여러 번 건너뛰면 그만큼 센다.
+     *
+     * @return 건너뛴 공백 문자의 수
+     */
+    public long whitespaceCount() {
+        return _whitespaceCount;
+    }
+
+    /**
+     * {@link KoreanTextMatcher.MatchingOptions#DubeolsikInput} 옵션 때문에 패턴의
+     * 마지막 음절을 나눈 형태로 맞춰 보다가 그 다음 문자까지 비교한 횟수.
+     *
+     * @return 도깨비불 매칭을 시도한 횟수
+     */
+    public long dubeolsikAttemptCount() {
+        return _dubeolsikAttemptCount;
+    }
+
+    /**
+     * 찾은 출현의 수.
+     *
+     * @return 검색이 성공했으면 {@code 1}, 실패했으면 {@code 0}.
+     */
+    public int matchCount() {
+        return _matchCount;
+    }
+
+    /**
+     * 검색에 걸린 시간.
+     *
+     * @return 걸린 시간 (나노초 단위)
+     */
+    public long elapsedNanos() {
+        return _elapsedNanos;
+    }
+
+    @Override
+    public String toString() {
+        return "textLength=" + _textLength
+            + ", positions=" + _positionCount
+            + ", comparisons=" + _comparisonCount
+            + ", whitespace=" + _whitespaceCount
+            + ", dubeolsikAttempts=" + _dubeolsikAttemptCount
+            + ", matches=" + _matchCount
+            + ", elapsedNanos=" + _elapsedNanos;
+    }
+
+    //
+    // The statistics of the search in progress on this thread.
+    //
+    static KoreanSearchStats current() {
+        return CURRENT.get();
+    }
+
+    static KoreanSearchStats begin(int textLength) {
+        KoreanSearchStats stats = CURRENT.get();
+        if (stats._reporting) {
+            //
+            // The listener is searching on its own. Give that search a
+            // record of its own rather than overwriting the one being
+            // reported.
+            //
+            stats = new KoreanSearchStats();
+            CURRENT.set(stats);
+        }
+
+        if (stats._depth++ == 0) {
+            stats._positionCount = 0;
+            stats._comparisonCount = 0;
+            stats._whitespaceCount = 0;
+            stats._dubeolsikAttemptCount = 0;
+            stats._textLength = textLength;
+            stats._startTime = System.nanoTime();
+        }
+
+        return stats;
+    }
+
+    long end(KoreanTextMatcher matcher, long result) {
+        if (--_depth > 0)
+            return result;
+
+        _elapsedNanos = System.nanoTime() - _startTime;
+        _matchCount = (result != KoreanTextMatcher.NOT_FOUND) ? 1 : 0;
+
+        _reporting = true;
+        try {
+            _listener.searched(matcher, this);
+        } finally {
+            _reporting = false;
+        }
+
+        return result;
+    }
+}
@@ -0,0 +1,415 @@
+/*
+ * Copyright 2026 Bang Jun-young
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions
+ * are met:
+ * 1. Redistributions of source code must retain the above copyright
+ *    notice, this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright
+ *    notice, this list of conditions and the following disclaimer in the
+ *    documentation and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE AUTHOR ``AS IS'' AND ANY EXPRESS OR
+ * IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES
+ * OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED.
+ * IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY DIRECT, INDIRECT,
+ * INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT
+ * NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF
+ * THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.github.bangjunyoung;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CodingErrorAction;
+import java.util.Arrays;
+
+/**
+ * 파일처럼 한 번에 메모리에 올리기 어려운 큰 텍스트를 조금씩 읽으면서 검색하는
+ * 클래스.
+ * <p>
+ * 텍스트를 일정한 크기의 조각으로 나누어 읽고, 조각의 경계에 걸친 매치를 찾는 데
+ * 필요한 최소한의 꼬리만 다음 조각으로 넘긴다. 넘기는 꼬리는 패턴의 길이와
+ * {@link KoreanTextMatcher.MatchingOptions#DubeolsikInput}이 요구하는 한 문자를
+ * 합한 만큼이며, {@link KoreanTextMatcher.MatchingOptions#IgnoreWhitespace}를
+ * 사용하면 그 사이에 낀 공백은 한 문자만 넘기고 나머지는 개수로 기억한다. 따라서
+ * 메모리 사용량은 텍스트 전체의 크기와 상관없이 조각의 크기로 제한된다.
+ * <p>
+ * 찾는 매치는 같은 텍스트 전체에 대해 {@link KoreanTextMatcher#matches(String)}가
+ * 찾는 것과 같으며, 위치는 텍스트 처음부터 센 절대 위치로 알려준다.
+ * <p>
+ * 이 클래스의 인스턴스는 불변이며 여러 스레드에서 공유할 수 있다.
+ *
+ * @author 방준영 &lt;bang.junyoung@gmail.com&gt;
+ */
+public final class KoreanStreamMatcher {
+
+    /**
+     * 매칭 결과를 하나씩 전달받는 콜백.
+     */
+    @FunctionalInterface
+    public interface MatchListener {
+        /**
+         * 패턴의 출현을 찾을 때마다 호출된다.
+         *
+         * @param index 출현의 텍스트 내 절대 위치
+         * @param length 출현의 길이
+         */
+        void onMatch(long index, int length);
+    }
+
+    /** 한 번에 읽는 조각의 기본 크기 (문자 단위). */
+    public static final int DEFAULT_CHUNK_SIZE = 64 * 1024;
+
+    private final KoreanTextMatcher _matcher;
+    private final int _chunkSize;
+
+    /**
+     * {@link KoreanStreamMatcher} 클래스의 새 인스턴스를 초기화한다.
+     *
+     * @param matcher 검색에 사용할 {@link KoreanTextMatcher}
+     * @throws IllegalArgumentException {@code matcher}가 {@code null}일 때,
+     *         또는 {@code matcher}가 편집을 허용하거나 자모열로 매칭할 때.
+     */
+    public KoreanStreamMatcher(KoreanTextMatcher matcher) {
+        this(matcher, DEFAULT_CHUNK_SIZE);
+    }
+
+    /**
+     * {@link KoreanStreamMatcher} 클래스의 새 인스턴스를 초기화한다.
+     *
+     * @param matcher 검색에 사용할 {@link KoreanTextMatcher}
+     * @param chunkSize 한 번에 읽을 조각의 크기 (문자 단위)
+     * @throws IllegalArgumentException {@code matcher}가 {@code null}일 때,
+     *         {@code matcher}가 편집을 허용하거나 자모열로 매칭할 때, 또는
+     *         {@code chunkSize}가 {@code 1}보다 작을 때.
+     */
+    public KoreanStreamMatcher(KoreanTextMatcher matcher, int chunkSize) {
+        if (matcher == null)
+            throw new IllegalArgumentException("matcher: null");
+        if (matcher.hasJamoPattern())
+            throw new IllegalArgumentException("matcher: edits or jamo streams are not supported on streams");
+        if (chunkSize < 1)
+            throw new IllegalArgumentException("chunkSize: " + chunkSize + " is less than 1");
+
+        _matcher = matcher;
+        _chunkSize = chunkSize;
+    }
+
+    /**
+     * 주어진 {@code channel}에서 읽은 바이트를 {@code charset}으로 디코딩하면서
+     * 패턴의 모든 출현을 찾는다.
+     *
+     * 잘못된 바이트열은 대체 문자({@code U+FFFD})로 바꾸어 검색한다. 찾은 위치는
+     * 바이트가 아닌 디코딩된 문자 단위다. 검색이 끝나도 {@code channel}은 닫지
+     * 않는다.
+     *
+     * @param channel 검색 대상 채널
+     * @param charset {@code channel}의 문자 인코딩
+     * @param listener 매칭 결과를 전달받을 콜백
+     * @return 찾은 출현의 개수
+     * @throws IllegalArgumentException {@code channel}, {@code charset} 또는
+     *         {@code listener}가 {@code null}일 때.
+     * @throws IOException {@code channel}에서 읽는 도중 오류가 발생했을 때.
+     */
+    public long matches(ReadableByteChannel channel, Charset charset, MatchListener listener) throws IOException {
+        if (channel == null)
+            throw new IllegalArgumentException("channel: null");
+        if (charset == null)
+            throw new IllegalArgumentException("charset: null");
+
+        final CharsetDecoder decoder = charset.newDecoder()
+            .onMalformedInput(CodingErrorAction.REPLACE)
+            .onUnmappableCharacter(CodingErrorAction.REPLACE);
+
+        return matches(Channels.newReader(channel, decoder, -1), listener);
+    }
+
+    /**
+     * 주어진 {@code reader}에서 텍스트를 읽으면서 패턴의 모든 출현을 찾는다.
+     *
+     * 검색이 끝나도 {@code reader}는 닫지 않는다.
+     *
+     * @param reader 검색 대상 텍스트를 읽을 {@link Reader}
+     * @param listener 매칭 결과를 전달받을 콜백
+     * @return 찾은 출현의 개수
+     * @throws IllegalArgumentException {@code reader} 또는 {@code listener}가
+     *         {@code null}일 때.
+     * @throws IOException {@code reader}에서 읽는 도중 오류가 발생했을 때.
+     */
+    public long matches(Reader reader, MatchListener listener) throws IOException {
+        if (reader == null)
+            throw new IllegalArgumentException("reader: null");
+        if (listener == null)
+            throw new IllegalArgumentException("listener: null");
+
+        final Scanner scanner = new Scanner(_matcher, listener);
+
+        char[] buffer = new char[_chunkSize];
+        int length = 0;
+        boolean endOfText = false;
+        while (!endOfText && !scanner.isDone()) {
+            if (buffer.length - length < _chunkSize)
+                buffer = Arrays.copyOf(buffer, length + _chunkSize);
+
+            while (length < buffer.length) {
+                final int count = reader.read(buffer, length, buffer.length - length);
+                if (count < 0) {
+                    endOfText = true;
+                    break;
+                }
+                length += count;
+            }
+
+            length = scanner.scan(buffer, length, endOfText);
+        }
+
+        return scanner.matchCount();
+    }
+
+    //
+    // Runs the search over a text given one piece at a time. Each call to
+    // scan() is handed the chars carried over from the previous call followed
+    // by the newly read ones, moves the chars the next call still needs to
+    // the start of the buffer, and returns how many there are.
+    //
+    // A match with IgnoreWhitespace can't tell one whitespace char from a
+    // run of them, so the unanchored search carries each run over as its
+    // first char alone and keeps the number of chars cut off after it in
+    // _cuts. The positions and lengths reported count them back in.
+    //
+    static final class Scanner {
+        private final KoreanTextMatcher _matcher;
+        private final MatchListener _listener;
+
+        private final int _patternLength;
+        private final int _window;
+        private final boolean _cutsWhitespace;
+
+        private long _base;
+        private int _searchIndex;
+        private int[] _cuts;
+        private int _cutLength;
+        private long _cutTotal;
+        private long _matchCount;
+        private boolean _done;
+
+        Scanner(KoreanTextMatcher matcher, MatchListener listener) {
+            _matcher = matcher;
+            _listener = listener;
+
+            //
+            // Whether a match starts at a given position is decided by the
+            // pattern's chars, plus one more for the Dubeolsik split pattern,
+            // counting only non-whitespace chars with IgnoreWhitespace.
+            //
+            _patternLength = matcher.patternLength();
+            _window = _patternLength + (matcher.hasSplitPattern() ? 1 : 0);
+
+            _cutsWhitespace = matcher.ignoresWhitespace() && _patternLength > 0
+                && !matcher.hasStartAnchor() && !matcher.hasEndAnchor();
+            if (_cutsWhitespace)
+                _cuts = new int[2 * _window + 2];
+        }
+
+        boolean isDone() {
+            return _done;
+        }
+
+        long matchCount() {
+            return _matchCount;
+        }
+
+        int scan(char[] buffer, int length, boolean endOfText) {
+            final CharArraySequence text = new CharArraySequence(buffer, 0, length);
+
+            final int consumed;
+            if (_patternLength == 0)
+                consumed = scanEmptyPattern(length, endOfText);
+            else if (_matcher.hasEndAnchor())
+                consumed = scanEndAnchored(text, endOfText);
+            else if (_matcher.hasStartAnchor())
+                consumed = scanStartAnchored(text, endOfText);
+            else
+                consumed = scanUnanchored(text, endOfText);
+
+            return carry(buffer, consumed, length);
+        }
+
+        //
+        // Moves buffer[consumed .. length) to the start of buffer, cutting
+        // its whitespace runs down to one char if _cutsWhitespace is set,
+        // and returns the number of chars moved.
+        //
+        private int carry(char[] buffer, int consumed, int length) {
+            for (int i = 0; i < consumed && i < _cutLength; i++)
+                _base += _cuts[i];
+            _base += consumed;
+            _searchIndex -= consumed;
+
+            if (!_cutsWhitespace) {
+                System.arraycopy(buffer, consumed, buffer, 0, length - consumed);
+                return length - consumed;
+            }
+
+            int count = 0;
+            long cutTotal = 0;
+            for (int i = consumed; i < length; i++) {
+                final char c = buffer[i];
+                final int cut = (i < _cutLength) ? _cuts[i] : 0;
+                if (KoreanTextMatcher.isWhitespace(c) && count > 0
+                    && KoreanTextMatcher.isWhitespace(buffer[count - 1])) {
+                    _cuts[count - 1] += 1 + cut;
+                    cutTotal += 1 + cut;
+                } else {
+                    if (count == _cuts.length)
+                        _cuts = Arrays.copyOf(_cuts, 2 * count);
+                    buffer[count] = c;
+                    _cuts[count++] = cut;
+                    cutTotal += cut;
+                }
+            }
+
+            _cutLength = count;
+            _cutTotal = cutTotal;
+            return count;
+        }
+
+        private int scanUnanchored(CharArraySequence text, boolean endOfText) {
+            final int length = text.length();
+            final int limit = endOfText ? length : decidedLimit(text);
+
+            int searchIndex = _searchIndex;
+            while (searchIndex < limit) {
+                final long result = _matcher.search(text, searchIndex, length - searchIndex);
+                if (result == KoreanTextMatcher.NOT_FOUND
+                    || KoreanTextMatcher.unpackIndex(result) >= limit) {
+                    searchIndex = limit;
+                    break;
+                }
+
+                final int index = KoreanTextMatcher.unpackIndex(result);
+                final int matchLength = KoreanTextMatcher.unpackLength(result);
+                report(index, matchLength);
+                searchIndex = index + matchLength;
+            }
+
+            //
+            // A match can't start at a whitespace char, so leading
+            // whitespace doesn't need to be carried over.
+            //
+            if (_matcher.ignoresWhitespace()) {
+                while (searchIndex < length
+                       && KoreanTextMatcher.isWhitespace(text.charAt(searchIndex)))
+                    searchIndex++;
+            }
+
+            _searchIndex = searchIndex;
+            return Math.min(searchIndex, length);
+        }
+
+        //
+        // Returns the position up to which (exclusive) every match attempt
+        // can be decided from the chars at hand, i.e. the positions followed
+        // by at least _window chars that take part in matching.
+        //
+        private int decidedLimit(CharArraySequence text) {
+            final int length = text.length();
+            if (!_matcher.ignoresWhitespace())
+                return Math.max(0, length - _window + 1);
+
+            int count = 0;
+            for (int i = length - 1; i >= 0; i--) {
+                if (!KoreanTextMatcher.isWhitespace(text.charAt(i))
+                    && ++count == _window)
+                    return i + 1;
+            }
+
+            return 0;
+        }
+
+        private int scanStartAnchored(CharArraySequence text, boolean endOfText) {
+            final int length = text.length();
+            final int rangeLength = _window;
+
+            if (length < rangeLength && !endOfText)
+                return 0;
+
+            if (length >= _patternLength) {
+                final long result = _matcher.search(text, 0, Math.min(rangeLength, length));
+                if (result != KoreanTextMatcher.NOT_FOUND)
+                    report(KoreanTextMatcher.unpackIndex(result), KoreanTextMatcher.unpackLength(result));
+            }
+
+            _done = true;
+            return length;
+        }
+
+        private int scanEndAnchored(CharArraySequence text, boolean endOfText) {
+            final int length = text.length();
+            if (!endOfText)
+                return Math.max(0, length - _patternLength);
+
+            final boolean startAnchored = _matcher.hasStartAnchor();
+            if (startAnchored ? _base + length == _patternLength : length >= _patternLength) {
+                final long result = _matcher.search(text, length - _patternLength, _patternLength);
+                if (result != KoreanTextMatcher.NOT_FOUND)
+                    report(KoreanTextMatcher.unpackIndex(result), KoreanTextMatcher.unpackLength(result));
+            }
+
+            _done = true;
+            return length;
+        }
+
+        //
+        // An empty pattern matches at every position from the start to the
+        // end of the text, both inclusive, as far as the anchors allow.
+        //
+        private int scanEmptyPattern(int length, boolean endOfText) {
+            final boolean startAnchored = _matcher.hasStartAnchor();
+            final boolean endAnchored = _matcher.hasEndAnchor();
+
+            if (startAnchored && !endAnchored) {
+                report(0, 0);
+                _done = true;
+            } else if (endAnchored) {
+                if (endOfText && (!startAnchored || _base + length == 0))
+                    report(length, 0);
+            } else {
+                for (int i = _searchIndex; i < length; i++)
+                    report(i, 0);
+                if (endOfText)
+                    report(length, 0);
+            }
+
+            _searchIndex = length;
+            return length;
+        }
+
+        private void report(int index, int length) {
+            long start = _base + index;
+            int matchLength = length;
+            if (_cutTotal > 0) {
+                for (int i = 0; i < _cutLength && i < index + length; i++) {
+                    if (i < index)
+                        start += _cuts[i];
+                    else
+                        matchLength += _cuts[i];
+                }
+            }
+
+            _matchCount++;
+            _listener.onMatch(start, matchLength);
+        }
+    }
+}
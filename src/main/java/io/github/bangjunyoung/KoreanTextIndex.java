@@ -0,0 +1,511 @@
+/*
+ * Copyright 2026 Bang Jun-young
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions
+ * are met:
+ * 1. Redistributions of source code must retain the above copyright
+ *    notice, this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright
+ *    notice, this list of conditions and the following disclaimer in the
+ *    documentation and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE AUTHOR ``AS IS'' AND ANY EXPRESS OR
+ * IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES
+ * OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED.
+ * IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY DIRECT, INDIRECT,
+ * INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT
+ * NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF
+ * THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.github.bangjunyoung;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import io.github.bangjunyoung.KoreanTextMatcher.MatchingOptions;
+
+/**
+ * 많은 수의 문자열을 미리 색인해 두고 한글 음절 근사 매칭으로 빠르게 검색하는
+ * 클래스.
+ * <p>
+ * 각 문자열을 이루는 문자마다 첫 자모(초성), 완성된 음절 그리고 소문자로 바꾼
+ * 영문자를 열쇠로 삼아, 열쇠 하나짜리와 이웃한 두 문자의 열쇠 쌍을 모두 색인한다.
+ * 공백은 색인하지 않으므로 공백을 사이에 둔 두 문자도 이웃한 것으로 본다. 각
+ * 열쇠의 색인은 그 열쇠가 나오는 문자열 번호의 차이를 가변 길이로 압축해서
+ * 저장한다.
+ * <p>
+ * 패턴을 검색할 때는 패턴의 각 문자에 부합하는 텍스트 문자가 반드시 가지는
+ * 열쇠만 골라낸다. 예를 들어 {@code '한'}에 부합하는 문자는 {@code '한'},
+ * {@code '핝'}, {@code '핞'}이므로 첫 자모 {@code 'ㅎ'}만 확실하지만, 종성까지
+ * 모두 갖춘 {@code '핝'}에 부합하는 문자는 {@code '핝'} 자신뿐이므로 음절 열쇠를
+ * 쓸 수 있다. 이렇게 고른 열쇠들의 색인을 교차해서 후보를 추리고, 후보만
+ * {@link KoreanTextMatcher}로 확인하므로 검색 비용은 전체 문자열의 개수가 아니라
+ * 후보의 개수에 비례한다.
+ * <p>
+ * 이 클래스의 인스턴스는 불변이며 여러 스레드에서 공유할 수 있다.
+ *
+ * @author 방준영 &lt;bang.junyoung@gmail.com&gt;
+ */
+public final class KoreanTextIndex {
+
+    //
+    // A key describes one char: its leading jamo, the syllable itself, or any
+    // other char with Latin letters in lowercase. A gram is either a single
+    // key or a pair of keys of neighboring non-whitespace chars.
+    //
+    private static final int JAMO_KEY = 1 << 16;
+    private static final int SYLLABLE_KEY = 2 << 16;
+    private static final int CHAR_KEY = 3 << 16;
+    private static final int KEY_BITS = 18;
+    private static final long PAIR_FLAG = 1L << (2 * KEY_BITS);
+
+    private static final int LEADING_JAMO_SHIFT =
+        (KoreanCharApproxMatcher.MAX_JAMO_COUNT - 1) * KoreanCharApproxMatcher.JAMO_BITS;
+
+    //
+    // Syllables whose jamo code is a proper prefix of another syllable's,
+    // such as '하' of '한' or '한' of '핝'. A pattern char like these matches
+    // more than itself, so only its leading jamo can be relied upon.
+    //
+    private static final Set<Integer> EXTENSIBLE_CODES = new HashSet<>();
+
+    static {
+        for (char c = '가'; c <= '힣'; c++) {
+            final int code = KoreanCharApproxMatcher.jamoCode(c);
+            final int slots = KoreanCharApproxMatcher.MAX_JAMO_COUNT
+                - Integer.numberOfTrailingZeros(code) / KoreanCharApproxMatcher.JAMO_BITS;
+            for (int n = 1; n < slots; n++)
+                EXTENSIBLE_CODES.add(code & (-1 << ((KoreanCharApproxMatcher.MAX_JAMO_COUNT - n) * KoreanCharApproxMatcher.JAMO_BITS)));
+        }
+    }
+
+    private final String[] _corpus;
+
+    // Sorted grams, and where the compressed posting list of each one starts.
+    private final long[] _grams;
+    private final int[] _postingOffsets;
+    private final int[] _postingCounts;
+    private final byte[] _postings;
+
+    /**
+     * {@link KoreanTextIndex} 클래스의 새 인스턴스를 초기화하고 주어진 문자열들을
+     * 색인한다.
+     *
+     * @param corpus 색인할 문자열 배열. 검색 결과는 이 배열 내 위치로 알려준다.
+     * @throws IllegalArgumentException {@code corpus} 또는 그 원소가 {@code null}일 때.
+     */
+    public KoreanTextIndex(String[] corpus) {
+        if (corpus == null)
+            throw new IllegalArgumentException("corpus: null");
+
+        _corpus = corpus.clone();
+        for (int i = 0; i < _corpus.length; i++) {
+            if (_corpus[i] == null)
+                throw new IllegalArgumentException("corpus[" + i + "]: null");
+        }
+
+        //
+        // Collects (gram, entry) pairs in entry order and then groups them by
+        // gram with a counting sort, which keeps each group's entries in
+        // ascending order without sorting the pairs as a whole.
+        //
+        final GramTable gramIds = new GramTable();
+        int[] pairGrams = new int[Math.max(16, _corpus.length * 4)];
+        int[] pairEntries = new int[pairGrams.length];
+        int pairCount = 0;
+        long[] entryGrams = new long[16];
+        for (int id = 0; id < _corpus.length; id++) {
+            final int gramCount = collectGrams(_corpus[id], entryGrams);
+            if (gramCount > entryGrams.length) {
+                entryGrams = new long[gramCount];
+                collectGrams(_corpus[id], entryGrams);
+            }
+            Arrays.sort(entryGrams, 0, gramCount);
+
+            for (int i = 0; i < gramCount; i++) {
+                if (i > 0 && entryGrams[i] == entryGrams[i - 1])
+                    continue;
+
+                if (pairCount == pairGrams.length) {
+                    pairGrams = Arrays.copyOf(pairGrams, pairCount * 2);
+                    pairEntries = Arrays.copyOf(pairEntries, pairCount * 2);
+                }
+                pairGrams[pairCount] = gramIds.idOf(entryGrams[i]);
+                pairEntries[pairCount++] = id;
+            }
+        }
+
+        final long[] gramsById = gramIds.grams();
+
+        final int[] pairStarts = new int[gramsById.length + 1];
+        for (int i = 0; i < pairCount; i++)
+            pairStarts[pairGrams[i] + 1]++;
+        for (int i = 0; i < gramsById.length; i++)
+            pairStarts[i + 1] += pairStarts[i];
+
+        final int[] groupedEntries = new int[pairCount];
+        final int[] fill = Arrays.copyOf(pairStarts, gramsById.length);
+        for (int i = 0; i < pairCount; i++)
+            groupedEntries[fill[pairGrams[i]]++] = pairEntries[i];
+        pairGrams = null;
+        pairEntries = null;
+
+        //
+        // Lays the posting lists out in the order of their grams, so that a
+        // gram's list is found by binary search.
+        //
+        _grams = gramsById.clone();
+        Arrays.sort(_grams);
+        _postingOffsets = new int[_grams.length];
+        _postingCounts = new int[_grams.length];
+
+        byte[] postings = new byte[Math.max(16, pairCount * 2)];
+        int size = 0;
+        for (int k = 0; k < _grams.length; k++) {
+            final int gramId = gramIds.idOf(_grams[k]);
+            _postingOffsets[k] = size;
+            _postingCounts[k] = pairStarts[gramId + 1] - pairStarts[gramId];
+
+            int previous = -1;
+            for (int i = pairStarts[gramId]; i < pairStarts[gramId + 1]; i++) {
+                final int id = groupedEntries[i];
+                if (size + 5 > postings.length)
+                    postings = Arrays.copyOf(postings, postings.length * 2);
+                size = writeVarint(postings, size, id - previous);
+                previous = id;
+            }
+        }
+        _postings = Arrays.copyOf(postings, size);
+    }
+
+    /**
+     * {@link KoreanTextIndex} 클래스의 새 인스턴스를 초기화하고 주어진 문자열들을
+     * 색인한다.
+     *
+     * @param corpus 색인할 문자열 리스트. 검색 결과는 이 리스트 내 위치로 알려준다.
+     * @throws IllegalArgumentException {@code corpus} 또는 그 원소가 {@code null}일 때.
+     */
+    public KoreanTextIndex(List<String> corpus) {
+        this(corpus != null ? corpus.toArray(new String[0]) : null);
+    }
+
+    /**
+     * 색인된 문자열의 개수를 구한다.
+     *
+     * @return 생성할 때 주어진 문자열의 개수
+     */
+    public int size() {
+        return _corpus.length;
+    }
+
+    /**
+     * 색인된 문자열을 구한다.
+     *
+     * @param id 문자열의 번호
+     * @return {@code id}번째 문자열
+     * @throws IllegalArgumentException {@code id}가 범위를 벗어날 때.
+     */
+    public String get(int id) {
+        if (id < 0 || id >= _corpus.length)
+            throw new IllegalArgumentException("id: " + id + " is out of range 0 .. " + (_corpus.length - 1));
+
+        return _corpus[id];
+    }
+
+    /**
+     * 주어진 패턴이 존재하는 모든 문자열을 찾는다.
+     *
+     * @param pattern 검색할 패턴
+     * @param options 검색 옵션
+     * @return 패턴이 존재하는 문자열의 번호를 오름차순으로 담은 배열
+     * @throws IllegalArgumentException {@code pattern}이 {@code null}일 때.
+     */
+    public int[] search(String pattern, MatchingOptions... options) {
+        return search(new KoreanTextMatcher(pattern, options));
+    }
+
+    /**
+     * 주어진 {@link KoreanTextMatcher}의 패턴이 존재하는 모든 문자열을 찾는다.
+     *
+     * @param matcher 검색에 사용할 {@link KoreanTextMatcher}
+     * @return 패턴이 존재하는 문자열의 번호를 오름차순으로 담은 배열
+     * @throws IllegalArgumentException {@code matcher}가 {@code null}일 때.
+     */
+    public int[] search(KoreanTextMatcher matcher) {
+        if (matcher == null)
+            throw new IllegalArgumentException("matcher: null");
+
+        final int[] postings = requiredPostings(matcher);
+
+        int[] candidates = null;
+        if (postings == null) {
+            candidates = new int[_corpus.length];
+            for (int i = 0; i < candidates.length; i++)
+                candidates[i] = i;
+        } else {
+            //
+            // Intersects the shortest lists first, so that the candidate set
+            // is as small as possible from the start.
+            //
+            for (int k : postings) {
+                if (k < 0)
+                    return new int[0];
+            }
+            final long[] order = new long[postings.length];
+            for (int i = 0; i < postings.length; i++)
+                order[i] = (long)_postingCounts[postings[i]] << 32 | postings[i];
+            Arrays.sort(order);
+
+            for (long entry : order) {
+                final int k = (int)entry;
+                candidates = (candidates == null) ? decode(k) : intersect(candidates, k);
+                if (candidates.length == 0)
+                    return candidates;
+            }
+        }
+
+        int count = 0;
+        for (int id : candidates) {
+            if (matcher.contains(_corpus[id]))
+                candidates[count++] = id;
+        }
+
+        return Arrays.copyOf(candidates, count);
+    }
+
+    //
+    // Finds the posting lists every match must appear in, as indexes into
+    // _grams, or -1 for a gram that appears nowhere. Returns null if the
+    // pattern guarantees nothing, as the empty pattern.
+    //
+    private int[] requiredPostings(KoreanTextMatcher matcher) {
+        //
+        // An edit can replace or drop any jamo of the pattern, and a jamo
+        // stream may spread a pattern char over several text chars, so no
+        // key is certain to appear in a matching string.
+        //
+        if (matcher.hasJamoPattern())
+            return null;
+
+        final KoreanTextPattern pattern = matcher.getPattern();
+        final int length = pattern.length();
+        final boolean dubeolsikInput = matcher.hasSplitPattern();
+
+        final int[] keys = new int[length];
+        int keyCount = 0;
+        for (int i = 0; i < length; i++) {
+            final char c = pattern.charAt(i);
+            if (KoreanTextMatcher.isWhitespace(c))
+                continue;
+
+            //
+            // With DubeolsikInput, the last syllable may have lost its final
+            // consonant to the next char, so only its leading jamo is certain.
+            //
+            final boolean last = i == length - 1;
+            keys[keyCount++] = patternKey(c, dubeolsikInput && last);
+        }
+
+        if (keyCount == 0)
+            return null;
+        if (keyCount == 1)
+            return new int[] { Arrays.binarySearch(_grams, keys[0]) };
+
+        final int[] postings = new int[keyCount - 1];
+        for (int i = 0; i < postings.length; i++) {
+            final int k = Arrays.binarySearch(_grams, pair(keys[i], keys[i + 1]));
+            postings[i] = (k >= 0) ? k : -1;
+        }
+
+        return postings;
+    }
+
+    private static int patternKey(char c, boolean leadingJamoOnly) {
+        final int code = KoreanCharApproxMatcher.jamoCode(c);
+        if (code == 0)
+            return CHAR_KEY | foldCase(c);
+
+        if (!leadingJamoOnly && KoreanChar.isSyllable(c) && !EXTENSIBLE_CODES.contains(code))
+            return SYLLABLE_KEY | (c - '가');
+
+        return JAMO_KEY | (code >>> LEADING_JAMO_SHIFT);
+    }
+
+    //
+    // Stores the grams of text in grams and returns how many there are, which
+    // may exceed grams.length, in which case the caller has to try again.
+    //
+    private static int collectGrams(String text, long[] grams) {
+        int count = 0;
+        int previousJamoKey = 0, previousSyllableKey = 0;
+        for (int i = 0; i < text.length(); i++) {
+            final char c = text.charAt(i);
+            if (KoreanTextMatcher.isWhitespace(c))
+                continue;
+
+            final int code = KoreanCharApproxMatcher.jamoCode(c);
+            final int jamoKey = (code != 0)
+                ? JAMO_KEY | (code >>> LEADING_JAMO_SHIFT)
+                : CHAR_KEY | foldCase(c);
+            final int syllableKey = KoreanChar.isSyllable(c) ? SYLLABLE_KEY | (c - '가') : 0;
+
+            count = add(grams, count, jamoKey);
+            if (syllableKey != 0)
+                count = add(grams, count, syllableKey);
+
+            if (previousJamoKey != 0) {
+                count = add(grams, count, pair(previousJamoKey, jamoKey));
+                if (syllableKey != 0)
+                    count = add(grams, count, pair(previousJamoKey, syllableKey));
+                if (previousSyllableKey != 0) {
+                    count = add(grams, count, pair(previousSyllableKey, jamoKey));
+                    if (syllableKey != 0)
+                        count = add(grams, count, pair(previousSyllableKey, syllableKey));
+                }
+            }
+
+            previousJamoKey = jamoKey;
+            previousSyllableKey = syllableKey;
+        }
+
+        return count;
+    }
+
+    private static int add(long[] grams, int count, long gram) {
+        if (count < grams.length)
+            grams[count] = gram;
+
+        return count + 1;
+    }
+
+    private static long pair(int first, int second) {
+        return PAIR_FLAG | (long)first << KEY_BITS | second;
+    }
+
+    private static char foldCase(char c) {
+        return KoreanTextPattern.isLatinAlphabet(c) ? (char)(c | 0x20) : c;
+    }
+
+    private int[] decode(int k) {
+        final int[] ids = new int[_postingCounts[k]];
+        int position = _postingOffsets[k];
+        int id = -1;
+        for (int i = 0; i < ids.length; i++) {
+            int delta = 0;
+            for (int shift = 0; ; shift += 7) {
+                final byte b = _postings[position++];
+                delta |= (b & 0x7F) << shift;
+                if (b >= 0)
+                    break;
+            }
+            id += delta;
+            ids[i] = id;
+        }
+
+        return ids;
+    }
+
+    //
+    // Keeps the candidates that also appear in the posting list k. Decoding
+    // stops as soon as the list has passed the last candidate.
+    //
+    private int[] intersect(int[] candidates, int k) {
+        final int listCount = _postingCounts[k];
+        int position = _postingOffsets[k];
+        int id = -1;
+        int read = 0;
+        int count = 0;
+        for (int candidate : candidates) {
+            while (id < candidate && read < listCount) {
+                int delta = 0;
+                for (int shift = 0; ; shift += 7) {
+                    final byte b = _postings[position++];
+                    delta |= (b & 0x7F) << shift;
+                    if (b >= 0)
+                        break;
+                }
+                id += delta;
+                read++;
+            }
+            if (id == candidate)
+                candidates[count++] = candidate;
+            else if (id < candidate)
+                break;
+        }
+
+        return Arrays.copyOf(candidates, count);
+    }
+
+    //
+    // Gives each distinct gram a dense id in order of first appearance,
+    // with open addressing since there are millions of lookups to make.
+    //
+    private static final class GramTable {
+        private long[] _keys = new long[1024];
+        private int[] _ids = new int[1024];
+        private long[] _grams = new long[256];
+        private int _size;
+
+        int idOf(long gram) {
+            int slot = hash(gram) & (_keys.length - 1);
+            while (_keys[slot] != 0) {
+                if (_keys[slot] == gram)
+                    return _ids[slot];
+                slot = (slot + 1) & (_keys.length - 1);
+            }
+
+            if (_size == _grams.length)
+                _grams = Arrays.copyOf(_grams, _size * 2);
+            _grams[_size] = gram;
+            _keys[slot] = gram;
+            _ids[slot] = _size;
+            if (++_size * 2 > _keys.length)
+                rehash();
+
+            return _size - 1;
+        }
+
+        long[] grams() {
+            return Arrays.copyOf(_grams, _size);
+        }
+
+        private void rehash() {
+            final long[] keys = _keys;
+            final int[] ids = _ids;
+            _keys = new long[keys.length * 2];
+            _ids = new int[keys.length * 2];
+            for (int i = 0; i < keys.length; i++) {
+                if (keys[i] == 0)
+                    continue;
+                int slot = hash(keys[i]) & (_keys.length - 1);
+                while (_keys[slot] != 0)
+                    slot = (slot + 1) & (_keys.length - 1);
+                _keys[slot] = keys[i];
+                _ids[slot] = ids[i];
+            }
+        }
+
+        private static int hash(long key) {
+            final long h = key * 0x9E3779B97F4A7C15L;
+            return (int)(h ^ (h >>> 32));
+        }
+    }
+
+    private static int writeVarint(byte[] buffer, int position, int value) {
+        while ((value & ~0x7F) != 0) {
+            buffer[position++] = (byte)((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        buffer[position++] = (byte)value;
+
+        return position;
+    }
+}
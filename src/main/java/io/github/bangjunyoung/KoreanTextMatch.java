@@ -41,20 +41,27 @@ public final class KoreanTextMatch {
     public static final KoreanTextMatch EMPTY = new KoreanTextMatch();
 
     private final KoreanTextMatcher _matcher;
-    private final String _text;
-    private final String _value;
+    private final CharSequence _text;
     private final int _index;
+    private final int _length;
     private final boolean _success;
 
+    //
+    // The value is cut out of the text only when it is asked for. Strings
+    // are immutable, so a race can at worst create the substring twice.
+    //
+    private String _value;
+
     private KoreanTextMatch() {
         _matcher = null;
         _text = null;
         _value = "";
         _index = 0;
+        _length = 0;
         _success = false;
     }
 
-    KoreanTextMatch(KoreanTextMatcher matcher, String text, int startIndex, int length) {
+    KoreanTextMatch(KoreanTextMatcher matcher, CharSequence text, int startIndex, int length) {
         if (matcher == null)
             throw new IllegalArgumentException("matcher: null");
         if (text == null)
@@ -68,8 +75,8 @@ public final class KoreanTextMatch {
 
         _matcher = matcher;
         _text = text;
-        _value = text.substring(startIndex, startIndex + length);
         _index = startIndex;
+        _length = length;
         _success = true;
     }
 
@@ -97,16 +104,25 @@ public final class KoreanTextMatch {
      * @return 검색 대상 문자열 내 매치의 길이
      */
     public int length() {
-        return _value.length();
+        return _length;
     }
 
     /**
      * 매치 문자열을 구한다.
+     * <p>
+     * 매치 문자열은 이 메소드가 처음 호출될 때 만들어진다. 검색 대상 문자열이
+     * {@link String}이 아니고 그 사이에 내용이 바뀌었다면 결과는 미정이다.
      *
      * @return 검색 대상 문자열 내 실제 매치
      */
     public String value() {
-        return _value;
+        String value = _value;
+        if (value == null) {
+            value = _text.subSequence(_index, _index + _length).toString();
+            _value = value;
+        }
+
+        return value;
     }
 
     /**
@@ -117,7 +133,7 @@ public final class KoreanTextMatch {
      *         검색이 실패하면 {@link #EMPTY}를 리턴한다.
      */
     public KoreanTextMatch nextMatch() {
-        final int nextIndex = _index + (_value.isEmpty() ? 1 : _value.length());
+        final int nextIndex = _index + (_length == 0 ? 1 : _length);
         if (_success && nextIndex <= _text.length())
             return _matcher.match(_text, nextIndex);
         else
@@ -25,9 +25,21 @@
 
 package io.github.bangjunyoung;
 
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.EnumSet;
 import java.util.Iterator;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * 한글 음절 근사 매칭 클래스.
@@ -54,241 +66,1782 @@ import java.util.Iterator;
  */
 public final class KoreanTextMatcher {
 
-    private final String _pattern;
-    private final String _splitPattern;
+    private final String _source;
+    private final EnumSet<MatchingOptions> _options;
+
+    private final KoreanTextPattern _pattern;
+    private final KoreanTextPattern _splitPattern;
     private final boolean _hasStartAnchor, _hasEndAnchor;
+    private final boolean _ignoreWhitespace;
+    private final int _maxEdits;
+    private final KoreanJamoPattern _jamoPattern;
+
+    private final boolean _bitParallel;
+    private final int _maskBase;
+
+    private KoreanPatternMasks _masks;
+    private volatile char[] _candidateRanges;
+
+    private static final int NO_MATCH = -1;
+    private static final int END_OF_TEXT = -2;
+
+    private static final int CHAR_MATCHED = 0;
+    private static final int SPLIT_STARTED = 1;
+    private static final int PATTERN_MATCHED = 2;
+
+    //
+    // The internal search routines return the index and the length of a
+    // match packed into a long, so that finding a match allocates nothing.
+    //
+    static final long NOT_FOUND = -1L;
+
+    private static final int TABLE_SEARCH_MIN_TEXT_LENGTH = 256;
+    private static final int SKIP_SEARCH_MIN_PATTERN_LENGTH = 3;
+    private static final int SKIP_SEARCH_MAX_COST = 4;
+
+    //
+    // The prefilter gives up once it has stopped at more than a few
+    // candidates plus one per 1 << PREFILTER_MIN_GAP_SHIFT chars.
+    //
+    private static final int PREFILTER_CHUNK_LENGTH = 1024;
+    private static final int PREFILTER_MIN_CANDIDATES = 16;
+    private static final int PREFILTER_MIN_GAP_SHIFT = 3;
+    private static final char[] NO_CANDIDATE_RANGES = new char[0];
+
+    private static final boolean STATS = KoreanSearchStats.ENABLED;
+    private static final boolean EVENTS = hasFlightRecorder();
+
+    //
+    // Shorter texts are searched in microseconds at worst, far below any
+    // threshold worth recording, so they aren't worth an event either.
+    //
+    private static final int EVENT_MIN_TEXT_LENGTH = 1024;
+
+    /**
+     * {@link #KoreanTextMatcher(String, int, MatchingOptions...)}에서 허용할 수 있는
+     * 최대 편집 횟수.
+     */
+    public static final int MAX_EDITS = 3;
+
+    /**
+     * 검색 옵션.
+     */
+    public enum MatchingOptions {
+        /** 기본 옵션. 테스트 코드내 자리 채우는 용도로 사용. */
+        Default,
+
+        /** 두벌식 키보드에서 한글을 입력할 때 발생하는 도깨비불 현상을 감지하고 처리한다. */
+        DubeolsikInput,
+
+        /** 영문 매칭할 때 대소문자를 구분하지 않는다. */
+        IgnoreCase,
+
+        /** 텍스트 안의 공백을 건너뛰고 매칭한다. */
+        IgnoreWhitespace,
+
+        /**
+         * 패턴과 텍스트를 단자모의 열로 풀어서 음절의 경계와 상관없이 매칭한다.
+         * 예를 들어 {@code "ㄱㅏㅇ"}이나 {@code "가ㅇ"}도 {@code "강"}에 부합한다.
+         */
+        JamoStream;
+    }
+
+    static EnumSet<MatchingOptions> toEnumSet(MatchingOptions[] options) {
+        if (options.length == 0)
+            return EnumSet.noneOf(MatchingOptions.class);
+
+        return EnumSet.copyOf(Arrays.asList(options));
+    }
+
+    /**
+     * {@link KoreanTextMatcher} 클래스의 새 인스턴스를 초기화한다.
+     *
+     * 정규식 앵커 {@code ^}와 {@code $}를 사용하여 {@code pattern}의 위치를
+     * 검색 대상 문자열의 시작과 끝으로 한정할 수 있다.
+     *
+     * @param pattern 검색할 패턴
+     * @param options 검색 옵션
+     * @throws IllegalArgumentException {@code pattern}이 {@code null}일 때, 또는
+     *         {@link MatchingOptions#JamoStream}으로 매칭하는 패턴을 풀어 쓴 자모가
+     *         64개보다 많을 때.
+     */
+    public KoreanTextMatcher(String pattern, MatchingOptions... options) {
+        this(pattern, toEnumSet(options));
+    }
+
+    /**
+     * {@link KoreanTextMatcher} 클래스의 새 인스턴스를 초기화한다.
+     *
+     * 정규식 앵커 {@code ^}와 {@code $}를 사용하여 {@code pattern}의 위치를
+     * 검색 대상 문자열의 시작과 끝으로 한정할 수 있다.
+     *
+     * @param pattern 검색할 패턴
+     * @param options 검색 옵션
+     * @throws IllegalArgumentException {@code pattern}이 {@code null}일 때, 또는
+     *         {@link MatchingOptions#JamoStream}으로 매칭하는 패턴을 풀어 쓴 자모가
+     *         64개보다 많을 때.
+     */
+    public KoreanTextMatcher(String pattern, EnumSet<MatchingOptions> options) {
+        this(pattern, 0, options);
+    }
+
+    /**
+     * 자모 단위의 편집을 허용하는 {@link KoreanTextMatcher} 클래스의 새 인스턴스를
+     * 초기화한다.
+     *
+     * {@code maxEdits}가 {@code 0}보다 크면 패턴과 텍스트를 단자모의 열로 풀어서
+     * 비교하고, 자모 하나를 바꾸거나 더하거나 빼는 편집을 최대 {@code maxEdits}번까지
+     * 허용한다. 예를 들어 편집을 한 번 허용하면 {@code "한글"}은 모음 하나가 다른
+     * {@code "한굴"}에도 부합한다. 패턴의 각 문자가 끝난 뒤 텍스트의 문자에 남은
+     * 자모는 편집으로 세지 않으므로 {@code "ㅎㄱ"}은 여전히 {@code "한글"}에 편집
+     * 없이 부합하고, 자모열은 음절의 경계를 넘어 이어지므로 두벌식 입력으로 받침이
+     * 다음 음절로 넘어간 텍스트에도 부합한다.
+     * <p>
+     * 매치는 끝나는 위치가 가장 앞선 것부터 찾되, 뒤따르는 {@code maxEdits}개의
+     * 문자 안에서 편집이 더 적은 매치가 끝나면 그쪽으로 늘인다. 편집이 같은 매치는
+     * 따로 찾으므로 {@code "ㅏ"}는 편집을 한 번 허용하면 {@code "가나"}의 두 문자에
+     * 각각 부합한다. 시작 위치는 같은 곳에서 끝나는 매치 중 편집이 가장 적은 것으로
+     * 정한다. 매치의 위치와 길이는 원래 텍스트의 문자 단위로 구한다. 검색 시간은
+     * {@code maxEdits}에 비례하지만 텍스트의 길이에 대해서는 여전히 선형이다.
+     *
+     * @param pattern 검색할 패턴
+     * @param maxEdits 허용할 최대 편집 횟수. {@code 0}이면 편집을 허용하지 않는
+     *        {@link #KoreanTextMatcher(String, MatchingOptions...)}와 같다.
+     * @param options 검색 옵션. 편집을 허용하면 {@link MatchingOptions#JamoStream}을
+     *        지정한 것과 같으며 {@link MatchingOptions#DubeolsikInput}은 영향이 없다.
+     * @throws IllegalArgumentException {@code pattern}이 {@code null}일 때,
+     *         {@code maxEdits}가 {@code 0}부터 {@link #MAX_EDITS} 사이가 아닐 때,
+     *         또는 자모열로 매칭하는 패턴을 풀어 쓴 자모가 64개보다 많을 때.
+     */
+    public KoreanTextMatcher(String pattern, int maxEdits, MatchingOptions... options) {
+        this(pattern, maxEdits, toEnumSet(options));
+    }
+
+    /**
+     * 자모 단위의 편집을 허용하는 {@link KoreanTextMatcher} 클래스의 새 인스턴스를
+     * 초기화한다. 자세한 내용은
+     * {@link #KoreanTextMatcher(String, int, MatchingOptions...)}를 참고한다.
+     *
+     * @param pattern 검색할 패턴
+     * @param maxEdits 허용할 최대 편집 횟수
+     * @param options 검색 옵션
+     * @throws IllegalArgumentException {@code pattern}이 {@code null}일 때,
+     *         {@code maxEdits}가 {@code 0}부터 {@link #MAX_EDITS} 사이가 아닐 때,
+     *         또는 자모열로 매칭하는 패턴을 풀어 쓴 자모가 64개보다 많을 때.
+     */
+    public KoreanTextMatcher(String pattern, int maxEdits, EnumSet<MatchingOptions> options) {
+        if (pattern == null)
+            throw new IllegalArgumentException("pattern: null");
+        if (maxEdits < 0 || maxEdits > MAX_EDITS)
+            throw new IllegalArgumentException("maxEdits: " + maxEdits + " is out of range 0 .. " + MAX_EDITS);
+
+        _source = pattern;
+        _options = EnumSet.copyOf(options);
+        _maxEdits = maxEdits;
+
+        final boolean ignoreCase = options.contains(MatchingOptions.IgnoreCase);
+        _ignoreWhitespace = options.contains(MatchingOptions.IgnoreWhitespace);
+
+        if (pattern.length() == 0) {
+            _hasStartAnchor = _hasEndAnchor = false;
+            _pattern = new KoreanTextPattern(pattern, ignoreCase);
+            _splitPattern = null;
+        } else {
+            _hasStartAnchor = pattern.charAt(0) == '^';
+            _hasEndAnchor = pattern.charAt(pattern.length() - 1) == '$';
+            final String stripped = stripAnchors(pattern);
+            _pattern = new KoreanTextPattern(stripped, ignoreCase);
+
+            _splitPattern = options.contains(MatchingOptions.DubeolsikInput)
+                ? KoreanTextPattern.splitLastSyllable(stripped, ignoreCase)
+                : null;
+        }
+
+        //
+        // The bit-parallel search needs one bit per pattern position, plus
+        // two for the last two chars of the Dubeolsik split pattern. When the
+        // pattern is too long for that, the mask table only covers the
+        // positions right before the last one, which is all the skip search
+        // needs.
+        //
+        final int patternLength = _pattern.length();
+        final int bitCount = patternLength + (_splitPattern != null ? 2 : 0);
+        _bitParallel = bitCount <= KoreanPatternMasks.MAX_POSITIONS;
+        _maskBase = _bitParallel ? 0 : Math.max(0, patternLength - 1 - KoreanPatternMasks.MAX_POSITIONS);
+
+        //
+        // A pattern left with no jamos, as one of whitespace alone with
+        // IgnoreWhitespace, has nothing to edit and is matched as it is.
+        //
+        final KoreanJamoPattern jamoPattern = (maxEdits > 0 || options.contains(MatchingOptions.JamoStream))
+            ? new KoreanJamoPattern(stripAnchors(pattern), maxEdits, ignoreCase, _ignoreWhitespace)
+            : null;
+        _jamoPattern = (jamoPattern != null && jamoPattern.length() > 0) ? jamoPattern : null;
+    }
+
+    /**
+     * 주어진 {@code text}에 대해 {@link #KoreanTextMatcher(String)}에서 지정해 둔
+     * {@code pattern}의 첫번째 출현을 찾는다.
+     *
+     * {@code text} 내 검색 시작 위치를 지정하려면 {@link #match(String, int)}를 사용한다.
+     *
+     * @param text 검색 대상 문자열
+     * @return 검색 결과를 담은 {@link KoreanTextMatch} 인스턴스.
+     *         {@link KoreanTextMatch#success()}가 {@code true}일 때만 유효하다.
+     *         검색이 실패하면 {@link KoreanTextMatch#EMPTY}를 리턴한다.
+     * @throws IllegalArgumentException {@code text}가 {@code null}일 때.
+     */
+    public KoreanTextMatch match(String text) {
+        return match(text, 0);
+    }
+
+    /**
+     * 주어진 {@code text}에 대해 {@link #KoreanTextMatcher(String)}에서 지정해 둔
+     * {@code pattern}의 첫번째 출현을 찾는다.
+     *
+     * @param text 검색 대상 문자열
+     * @param startIndex 검색을 시작할 {@code text} 내 위치
+     * @return 검색 결과를 담은 {@link KoreanTextMatch} 인스턴스.
+     *         {@link KoreanTextMatch#success()}가 {@code true}일 때만 유효하다.
+     *         검색이 실패하면 {@link KoreanTextMatch#EMPTY}를 리턴한다.
+     * @throws IllegalArgumentException {@code text}가 {@code null}일 때,
+     *         또는 {@code startIndex}가 {@code 0}보다 작거나
+     *         {@link KoreanTextMatch#length() text.length()}보다 클 때.
+     */
+    public KoreanTextMatch match(String text, int startIndex) {
+        return match((CharSequence)text, startIndex);
+    }
+
+    /**
+     * 주어진 {@code text}에 대해 {@link #KoreanTextMatcher(String)}에서 지정해 둔
+     * {@code pattern}의 첫번째 출현을 찾는다.
+     *
+     * {@link StringBuilder}나 {@link CharBuffer}처럼 {@link String}이
+     * 아닌 문자열을 {@code toString()}으로 복사하지 않고 그대로 검색할 때 사용한다.
+     *
+     * @param text 검색 대상 문자열
+     * @return 검색 결과를 담은 {@link KoreanTextMatch} 인스턴스.
+     *         {@link KoreanTextMatch#success()}가 {@code true}일 때만 유효하다.
+     *         검색이 실패하면 {@link KoreanTextMatch#EMPTY}를 리턴한다.
+     * @throws IllegalArgumentException {@code text}가 {@code null}일 때.
+     */
+    public KoreanTextMatch match(CharSequence text) {
+        return match(text, 0);
+    }
+
+    /**
+     * 주어진 {@code text}에 대해 {@link #KoreanTextMatcher(String)}에서 지정해 둔
+     * {@code pattern}의 첫번째 출현을 찾는다.
+     *
+     * 검색하는 동안 {@code text}의 내용이 바뀌면 결과는 미정이다.
+     *
+     * @param text 검색 대상 문자열
+     * @param startIndex 검색을 시작할 {@code text} 내 위치
+     * @return 검색 결과를 담은 {@link KoreanTextMatch} 인스턴스.
+     *         {@link KoreanTextMatch#success()}가 {@code true}일 때만 유효하다.
+     *         검색이 실패하면 {@link KoreanTextMatch#EMPTY}를 리턴한다.
+     * @throws IllegalArgumentException {@code text}가 {@code null}일 때,
+     *         또는 {@code startIndex}가 {@code 0}보다 작거나
+     *         {@code text.length()}보다 클 때.
+     */
+    public KoreanTextMatch match(CharSequence text, int startIndex) {
+        final long result = search(text, startIndex);
+        if (result == NOT_FOUND)
+            return KoreanTextMatch.EMPTY;
+
+        return new KoreanTextMatch(this, text, unpackIndex(result), unpackLength(result));
+    }
+
+    /**
+     * 주어진 문자 배열의 {@code offset}부터 {@code length}개의 문자에 대해
+     * {@link #KoreanTextMatcher(String)}에서 지정해 둔 {@code pattern}의 첫번째
+     * 출현을 찾는다.
+     *
+     * 배열을 복사하지 않고 그 자리에서 검색하며, 결과의 위치는 {@code offset}을
+     * 기준으로 한 상대 위치다.
+     *
+     * @param buffer 검색 대상 문자 배열
+     * @param offset 검색 대상 영역의 배열 내 시작 위치
+     * @param length 검색 대상 영역의 길이
+     * @return 검색 결과를 담은 {@link KoreanTextMatch} 인스턴스.
+     *         {@link KoreanTextMatch#success()}가 {@code true}일 때만 유효하다.
+     *         검색이 실패하면 {@link KoreanTextMatch#EMPTY}를 리턴한다.
+     * @throws IllegalArgumentException {@code buffer}가 {@code null}일 때,
+     *         또는 {@code offset}과 {@code length}가 배열의 범위를 벗어날 때.
+     */
+    public KoreanTextMatch match(char[] buffer, int offset, int length) {
+        return match(new CharArraySequence(buffer, offset, length), 0);
+    }
+
+    /**
+     * 주어진 {@code text}의 {@code startIndex} 위치부터
+     * {@link #KoreanTextMatcher(String)}에서 지정해 둔 {@code pattern}의 첫번째
+     * 출현을 찾아 그 위치와 길이를 {@code cursor}에 기록한다.
+     *
+     * {@link #match(String, int)}와 달리 검색 결과를 담을 객체를 새로 만들지
+     * 않으므로, 같은 {@code cursor}를 재사용하면 검색 중에 메모리 할당이 전혀
+     * 일어나지 않는다. 다음 출현은 {@link #findNext(CharSequence, KoreanMatchCursor)}로
+     * 찾는다.
+     *
+     * @param text 검색 대상 문자열
+     * @param startIndex 검색을 시작할 {@code text} 내 위치
+     * @param cursor 검색 결과를 기록할 커서
+     * @return 검색이 성공하면 {@code true}, 아니면 {@code false}.
+     * @throws IllegalArgumentException {@code text} 또는 {@code cursor}가
+     *         {@code null}일 때, 또는 {@code startIndex}가 {@code 0}보다 작거나
+     *         {@code text.length()}보다 클 때.
+     */
+    public boolean find(CharSequence text, int startIndex, KoreanMatchCursor cursor) {
+        if (cursor == null)
+            throw new IllegalArgumentException("cursor: null");
+
+        final long result = search(text, startIndex);
+        if (result == NOT_FOUND) {
+            cursor.clear();
+            return false;
+        }
+
+        cursor.set(unpackIndex(result), unpackLength(result));
+        return true;
+    }
+
+    /**
+     * {@code cursor}에 기록된 매치가 끝나는 위치의 뒷문자부터 시작해서 다음
+     * 매치를 찾아 {@code cursor}에 기록한다.
+     *
+     * @param text {@code cursor}를 채운 검색에 사용한 검색 대상 문자열
+     * @param cursor 직전 검색 결과가 기록된 커서
+     * @return 검색이 성공하면 {@code true}, 아니면 {@code false}.
+     *         {@code cursor}에 성공한 매치가 기록되어 있지 않으면 항상
+     *         {@code false}다.
+     * @throws IllegalArgumentException {@code text} 또는 {@code cursor}가
+     *         {@code null}일 때.
+     */
+    public boolean findNext(CharSequence text, KoreanMatchCursor cursor) {
+        if (text == null)
+            throw new IllegalArgumentException("text: null");
+        if (cursor == null)
+            throw new IllegalArgumentException("cursor: null");
+        if (!cursor.success())
+            return false;
+
+        final int nextIndex = cursor.index() + (cursor.length() == 0 ? 1 : cursor.length());
+        if (nextIndex > text.length()) {
+            cursor.clear();
+            return false;
+        }
+
+        return find(text, nextIndex, cursor);
+    }
+
+    /**
+     * UTF-8로 인코딩된 {@code bytes}를 디코딩하지 않고 그 자리에서
+     * {@link #KoreanTextMatcher(String)}에서 지정해 둔 {@code pattern}의 첫번째
+     * 출현을 찾아 그 위치와 길이를 바이트 단위로 {@code cursor}에 기록한다.
+     *
+     * @param bytes 검색 대상 UTF-8 바이트 배열
+     * @param startIndex 검색을 시작할 {@code bytes} 내 위치
+     * @param cursor 검색 결과를 기록할 커서
+     * @return 검색이 성공하면 {@code true}, 아니면 {@code false}.
+     * @throws IllegalArgumentException {@link #findUtf8(ByteBuffer, int, KoreanMatchCursor)}와
+     *         같다.
+     * @see #findUtf8(ByteBuffer, int, KoreanMatchCursor)
+     */
+    public boolean findUtf8(byte[] bytes, int startIndex, KoreanMatchCursor cursor) {
+        if (bytes == null)
+            throw new IllegalArgumentException("bytes: null");
+
+        return findUtf8(ByteBuffer.wrap(bytes), startIndex, cursor);
+    }
+
+    /**
+     * UTF-8로 인코딩된 {@code buffer}의 {@link ByteBuffer#position() position}부터
+     * {@link ByteBuffer#limit() limit}까지를 디코딩하지 않고 그 자리에서
+     * {@link #KoreanTextMatcher(String)}에서 지정해 둔 {@code pattern}의 첫번째
+     * 출현을 찾아 그 위치와 길이를 바이트 단위로 {@code cursor}에 기록한다.
+     *
+     * 위치는 {@code position}을 기준으로 한 상대 위치이며, 검색은 {@code buffer}의
+     * {@code position}을 바꾸지 않는다. 잘못된 UTF-8 바이트열은 한 바이트씩
+     * {@code U+FFFD}로 간주한다.
+     * <p>
+     * 매칭 결과는 디코딩된 문자열을 검색한 것과 같다. 단, 정규식 앵커는 문자 수
+     * 대신 매치의 위치에 적용되어 {@code ^}는 매치가 검색 대상의 처음에서 시작해야
+     * 하고 {@code $}는 끝에서 끝나야 한다는 뜻이 된다. 비트 병렬 매칭을 사용하므로
+     * 패턴은 64자 이하여야 하며, {@link MatchingOptions#DubeolsikInput}을 사용하면
+     * 62자 이하여야 한다.
+     *
+     * @param buffer 검색 대상 UTF-8 바이트 버퍼
+     * @param startIndex 검색을 시작할 {@code buffer} 내 상대 위치
+     * @param cursor 검색 결과를 기록할 커서
+     * @return 검색이 성공하면 {@code true}, 아니면 {@code false}.
+     * @throws IllegalArgumentException {@code buffer} 또는 {@code cursor}가
+     *         {@code null}일 때, {@code startIndex}가 {@code 0}보다 작거나
+     *         {@code buffer.remaining()}보다 클 때, 패턴이 너무 길 때, 또는 편집을
+     *         허용하거나 자모열로 매칭할 때.
+     */
+    public boolean findUtf8(ByteBuffer buffer, int startIndex, KoreanMatchCursor cursor) {
+        if (buffer == null)
+            throw new IllegalArgumentException("buffer: null");
+        if (cursor == null)
+            throw new IllegalArgumentException("cursor: null");
+
+        final int position = buffer.position();
+        final int length = buffer.remaining();
+        if (startIndex < 0 || startIndex > length)
+            throw new IllegalArgumentException("startIndex: " + startIndex + " is out of range 0 .. " + length);
+
+        if (_pattern.length() == 0) {
+            final int index = _hasEndAnchor ? length : startIndex;
+            if (_hasStartAnchor && index != 0) {
+                cursor.clear();
+                return false;
+            }
+
+            cursor.set(index, 0);
+            return true;
+        }
+
+        final KoreanUtf8Scanner scanner = new KoreanUtf8Scanner(this);
+        if (!scanner.scan(buffer, position + startIndex, position + length, -position, true)) {
+            cursor.clear();
+            return false;
+        }
+
+        cursor.set((int)scanner.matchIndex(), (int)scanner.matchLength());
+        return true;
+    }
+
+    /**
+     * {@code cursor}에 기록된 매치가 끝나는 위치의 뒷바이트부터 시작해서 다음
+     * 매치를 찾아 {@code cursor}에 기록한다.
+     *
+     * @param buffer {@code cursor}를 채운 검색에 사용한 UTF-8 바이트 버퍼
+     * @param cursor 직전 검색 결과가 기록된 커서
+     * @return 검색이 성공하면 {@code true}, 아니면 {@code false}.
+     *         {@code cursor}에 성공한 매치가 기록되어 있지 않으면 항상
+     *         {@code false}다.
+     * @throws IllegalArgumentException {@code buffer} 또는 {@code cursor}가
+     *         {@code null}일 때.
+     */
+    public boolean findNextUtf8(ByteBuffer buffer, KoreanMatchCursor cursor) {
+        if (buffer == null)
+            throw new IllegalArgumentException("buffer: null");
+        if (cursor == null)
+            throw new IllegalArgumentException("cursor: null");
+        if (!cursor.success())
+            return false;
+
+        //
+        // An empty match moves on by one char rather than one byte, so
+        // that the search never starts in the middle of a UTF-8 sequence.
+        //
+        final int index = cursor.index();
+        final int nextIndex = (cursor.length() > 0)
+            ? index + cursor.length()
+            : index + ((index < buffer.remaining())
+                ? KoreanUtf8Scanner.sequenceLength(buffer.get(buffer.position() + index))
+                : 1);
+        if (nextIndex > buffer.remaining()) {
+            cursor.clear();
+            return false;
+        }
+
+        return findUtf8(buffer, nextIndex, cursor);
+    }
+
+    /**
+     * {@code cursor}에 기록된 매치가 끝나는 위치의 뒷바이트부터 시작해서 다음
+     * 매치를 찾아 {@code cursor}에 기록한다.
+     *
+     * @param bytes {@code cursor}를 채운 검색에 사용한 UTF-8 바이트 배열
+     * @param cursor 직전 검색 결과가 기록된 커서
+     * @return 검색이 성공하면 {@code true}, 아니면 {@code false}.
+     * @throws IllegalArgumentException {@code bytes} 또는 {@code cursor}가
+     *         {@code null}일 때.
+     */
+    public boolean findNextUtf8(byte[] bytes, KoreanMatchCursor cursor) {
+        if (bytes == null)
+            throw new IllegalArgumentException("bytes: null");
+
+        return findNextUtf8(ByteBuffer.wrap(bytes), cursor);
+    }
+
+    private long search(final CharSequence text, final int startIndex) {
+        return search(text, startIndex, true);
+    }
+
+    private long search(final CharSequence text, final int startIndex, final boolean recordEvent) {
+        checkSearchArguments(text, startIndex);
+
+        //
+        // Optimization: narrow the range of text to be matched for pattern.
+        //
+        final long range = getSearchRange(text, startIndex, _pattern.length());
+        if (range == NOT_FOUND)
+            return NOT_FOUND;
+
+        return search(text, unpackIndex(range), unpackLength(range), recordEvent);
+    }
+
+    private static void checkSearchArguments(CharSequence text, int startIndex) {
+        if (text == null)
+            throw new IllegalArgumentException("text: null");
+        if (startIndex < 0 || startIndex > text.length())
+            throw new IllegalArgumentException("startIndex: " + startIndex + " is out of range 0 .. " + text.length());
+    }
+
+    //
+    // Finds the leftmost match that starts in text[startIndex .. startIndex +
+    // length), without regard to the anchors.
+    //
+    long search(final CharSequence text, final int startIndex, final int length) {
+        return search(text, startIndex, length, true);
+    }
+
+    //
+    // A search that is one step of a walk over all the matches leaves the
+    // Flight Recorder event to the walk, which records the whole of it.
+    //
+    private long search(final CharSequence text, final int startIndex, final int length, final boolean recordEvent) {
+        final boolean event = recordEvent && EVENTS && length >= EVENT_MIN_TEXT_LENGTH;
+        if (STATS || event)
+            return observedSearch(text, startIndex, length, false, event);
+
+        return searchRange(text, startIndex, length);
+    }
+
+    //
+    // search() that reports what it did to KoreanSearchStats and to Flight
+    // Recorder. An entry search takes the shortcut of searchEntry().
+    //
+    private long observedSearch(final CharSequence text, final int startIndex, final int length,
+            final boolean entry, final boolean recordEvent) {
+        final KoreanSearchStats stats = STATS ? KoreanSearchStats.begin(length) : null;
+        final KoreanSearchEvent event = recordEvent ? new KoreanSearchEvent() : null;
+        if (event != null)
+            event.begin();
+
+        final long result = entry
+            ? bitParallelSearch(text, startIndex, startIndex + length)
+            : searchRange(text, startIndex, length);
+
+        if (event != null)
+            event.report(this, startIndex, length, result);
+        return STATS ? stats.end(this, result) : result;
+    }
+
+    private static boolean hasFlightRecorder() {
+        try {
+            Class.forName("io.github.bangjunyoung.KoreanSearchEvent");
+            return true;
+        } catch (ClassNotFoundException | LinkageError e) {
+            //
+            // No jdk.jfr module, as on Android.
+            //
+            return false;
+        }
+    }
+
+    private long searchRange(final CharSequence text, final int startIndex, final int length) {
+        final int patternLength = _pattern.length();
+        if (patternLength == 0)
+            return pack(startIndex, 0);
+
+        if (_jamoPattern != null)
+            return _jamoPattern.search(text, startIndex, startIndex + length, _hasStartAnchor, _hasEndAnchor);
+
+        if (text instanceof KoreanCompiledText compiled)
+            return compiledSearch(compiled, startIndex, startIndex + length);
+
+        if (text instanceof CharBuffer buffer && buffer.hasArray())
+            return searchRange(new CharArraySequence(buffer.array(), buffer.arrayOffset() + buffer.position(),
+                                                     buffer.remaining()),
+                               startIndex, length);
+
+        if (!(text instanceof String) && !(text instanceof CharArraySequence))
+            return sequenceSearch(text, startIndex, startIndex + length);
+
+        if (length >= TABLE_SEARCH_MIN_TEXT_LENGTH
+            && KoreanCandidateScanner.INSTANCE != null) {
+            final char[] ranges = getCandidateRanges();
+            if (ranges != NO_CANDIDATE_RANGES)
+                return prefilterSearch(text, startIndex, startIndex + length, ranges);
+        }
+
+        return scanSearch(text, startIndex, startIndex + length, null);
+    }
+
+    //
+    // Tries every position in turn unless one of the engines below does
+    // better. compiled, if not null, holds the tables of text.
+    //
+    private long scanSearch(final CharSequence text, final int startIndex, final int textEnd,
+                            final KoreanCompiledText compiled) {
+        if (textEnd - startIndex >= TABLE_SEARCH_MIN_TEXT_LENGTH) {
+            if (!_ignoreWhitespace && _pattern.length() >= SKIP_SEARCH_MIN_PATTERN_LENGTH)
+                return skipSearch(text, startIndex, textEnd);
+            if (_bitParallel)
+                return bitParallelSearch(text, startIndex, textEnd);
+        }
+
+        final KoreanSearchStats stats = STATS ? KoreanSearchStats.current() : null;
+        final int endIndex = textEnd - _pattern.length() + 1;
+
+        for (int i = startIndex; i < endIndex; i++) {
+            if (_ignoreWhitespace) {
+                final int index = nextNonWhitespace(text, i, endIndex, compiled);
+                if (STATS) stats._whitespaceCount += index - i;
+                i = index;
+                if (i == endIndex)
+                    break;
+            }
+
+            if (STATS) stats._positionCount++;
+            final int matchLength = matchAt(text, i, textEnd, compiled);
+            if (matchLength >= 0)
+                return pack(i, matchLength);
+            if (matchLength == END_OF_TEXT)
+                break;
+        }
+
+        return NOT_FOUND;
+    }
+
+    //
+    // Prefiltered search. KoreanCandidateScanner skips over the chars that
+    // can't start a match many at a time, and only the positions it stops at
+    // are tried. A String is scanned through a small copy of it, a chunk at
+    // a time; a char array region is scanned in place.
+    //
+    // If the candidates turn out to be dense, the scanner stops paying for
+    // itself, and the rest of the text is handed over to scanSearch().
+    //
+    private long prefilterSearch(final CharSequence text, final int startIndex, final int textEnd, final char[] ranges) {
+        final KoreanCandidateScanner scanner = KoreanCandidateScanner.INSTANCE;
+        final KoreanSearchStats stats = STATS ? KoreanSearchStats.current() : null;
+        final int endIndex = textEnd - _pattern.length() + 1;
+
+        final String string = (text instanceof String s) ? s : null;
+        final char[] buffer = (string != null)
+            ? new char[PREFILTER_CHUNK_LENGTH]
+            : ((CharArraySequence)text).buffer();
+
+        // buffer[i + shift] holds text[i] for every i below chunkEnd.
+        int shift = (string != null) ? 0 : ((CharArraySequence)text).offset();
+        int chunkEnd = (string != null) ? startIndex : endIndex;
+
+        int candidateCount = 0;
+        int i = startIndex;
+        while (i < endIndex) {
+            if (i >= chunkEnd) {
+                chunkEnd = Math.min(endIndex, i + buffer.length);
+                string.getChars(i, chunkEnd, buffer, 0);
+                shift = -i;
+            }
+
+            i = scanner.next(buffer, i + shift, chunkEnd + shift, ranges) - shift;
+            if (i == chunkEnd)
+                continue;
+
+            if (!_ignoreWhitespace || !isWhitespace(charAt(text, i))) {
+                if (STATS) stats._positionCount++;
+                final int matchLength = matchAt(text, i, textEnd, null);
+                if (matchLength >= 0)
+                    return pack(i, matchLength);
+                if (matchLength == END_OF_TEXT)
+                    return NOT_FOUND;
+
+                if (++candidateCount > PREFILTER_MIN_CANDIDATES + ((i - startIndex) >>> PREFILTER_MIN_GAP_SHIFT))
+                    return scanSearch(text, i + 1, textEnd, null);
+            }
+            i++;
+        }
+
+        return NOT_FOUND;
+    }
+
+    private char[] getCandidateRanges() {
+        //
+        // Single-check like getMasks(), but a bare array has no final field
+        // to publish its contents safely, so the field is volatile: a thread
+        // must never see the array before the ranges written into it.
+        //
+        char[] ranges = _candidateRanges;
+        if (ranges == null) {
+            ranges = KoreanCandidateScanner.ranges(_pattern, _pattern.length() == 1 ? _splitPattern : null);
+            if (ranges == null)
+                ranges = NO_CANDIDATE_RANGES;
+            _candidateRanges = ranges;
+        }
+
+        return ranges;
+    }
+
+    //
+    // Boyer-Moore-Horspool search. The character under the last position of
+    // the current window decides how far the window can safely move: it is
+    // the distance to the nearest pattern position on the left which that
+    // character could match. Since approximate matching lets a single
+    // pattern char such as 'ㄱ' match every syllable from '가' to '깋', the
+    // shift is computed from the set of text chars each position accepts,
+    // which is exactly what KoreanPatternMasks stores.
+    //
+    // The shift only looks at positions 0 .. patternLength - 2, which the
+    // Dubeolsik split pattern shares with the pattern, so windows skipped
+    // here could not have matched in either form.
+    //
+    // Shifts can degrade to a single char on repetitive text such as
+    // "가가가..." searched for "가가각", where verifying every window makes
+    // the search quadratic. Once the windows verified so far have cost more
+    // than a few comparisons per char advanced, the rest of the text is
+    // handed over to the bit-parallel search, which keeps the whole search
+    // linear.
+    //
+    private long skipSearch(final CharSequence text, final int startIndex, final int textEnd) {
+        final KoreanPatternMasks masks = getMasks();
+        final KoreanSearchStats stats = STATS ? KoreanSearchStats.current() : null;
+
+        final int patternLength = _pattern.length();
+        final int last = patternLength - 1;
+        final int base = _maskBase;
+        final long skipBits = (last - base == Long.SIZE) ? -1L : (1L << (last - base)) - 1;
+        final int maxShift = last - base + 1;
+        final int windowCost = patternLength + 1;
+        final int endIndex = textEnd - last;
+
+        long windowCount = 0;
+        int i = startIndex;
+        while (i < endIndex) {
+            if (STATS) stats._positionCount++;
+            final int matchLength = matchAt(text, i, textEnd, null);
+            if (matchLength >= 0)
+                return pack(i, matchLength);
+
+            windowCount++;
+            if (_bitParallel
+                && windowCount * windowCost > SKIP_SEARCH_MAX_COST * ((long)i - startIndex + patternLength))
+                return bitParallelSearch(text, i + 1, textEnd);
+
+            if (STATS) stats._comparisonCount++;
+            final long mask = masks.get(charAt(text, i + last)) & skipBits;
+            i += (mask == 0)
+                ? maxShift
+                : last - (base + Long.SIZE - 1 - Long.numberOfLeadingZeros(mask));
+        }
+
+        return NOT_FOUND;
+    }
+
+    //
+    // Shift-And search. Bit j of the state is set when the last j + 1 text
+    // chars match the first j + 1 pattern chars, so the whole pattern is
+    // advanced by one shift and one AND per text char, and a match is found
+    // when bit patternLength - 1 comes up. With DubeolsikInput, bit
+    // patternLength tracks the split form of the last pattern char, and the
+    // char after it completes a split match.
+    //
+    // A split match ending at i starts one char before a regular match ending
+    // at i, so it is checked first to report the leftmost match.
+    //
+    // With IgnoreWhitespace, whitespace chars leave the state as it is, so
+    // the search runs over the non-whitespace chars alone and reads every
+    // char once however long the whitespace runs are. Only the start of the
+    // match found has to be worked out by walking back over it.
+    //
+    private long bitParallelSearch(final CharSequence text, final int startIndex, final int textEnd) {
+        final KoreanPatternMasks masks = getMasks();
+
+        final boolean dubeolsikInput = _splitPattern != null;
+        final boolean ignoreWhitespace = _ignoreWhitespace;
+        final long acceptBit = 1L << (_pattern.length() - 1);
+        final long matchBits = acceptBit | (acceptBit << 2);
+        final KoreanSearchStats stats = STATS ? KoreanSearchStats.current() : null;
+
+        long state = 0;
+        for (int i = startIndex; i < textEnd; i++) {
+            final char c = charAt(text, i);
+            if (ignoreWhitespace && isWhitespace(c)) {
+                if (STATS) stats._whitespaceCount++;
+                continue;
+            }
+
+            state = shiftAnd(state, masks.get(c), acceptBit, dubeolsikInput, stats);
+            if ((state & matchBits) != 0)
+                return packShiftAndMatch(text, i, state);
+        }
+
+        return NOT_FOUND;
+    }
+
+    //
+    // Advances the Shift-And state over a non-whitespace char with the given
+    // mask. A split match comes back as the bit above the split bit alone,
+    // and a regular match with acceptBit set.
+    //
+    private static long shiftAnd(final long state, final long mask, final long acceptBit,
+                                 final boolean dubeolsikInput, final KoreanSearchStats stats) {
+        final long patternBits = (acceptBit << 1) - 1;
+        final long splitBit = acceptBit << 1;
+        final long splitEndBit = acceptBit << 2;
+        final long shifted = (state << 1) | 1;
+
+        if (STATS) {
+            stats._positionCount++;
+            stats._comparisonCount++;
+            if (dubeolsikInput && (state & splitBit) != 0)
+                stats._dubeolsikAttemptCount++;
+        }
+
+        if (dubeolsikInput && (state & splitBit) != 0 && (mask & splitEndBit) != 0)
+            return splitEndBit;
+
+        long next = shifted & mask & patternBits;
+        if (dubeolsikInput && (next & acceptBit) == 0)
+            next |= (shifted << 1) & mask & splitBit;
+
+        return next;
+    }
+
+    //
+    // Packs the match that shiftAnd() has found ending at text[end].
+    //
+    private long packShiftAndMatch(final CharSequence text, final int end, final long state) {
+        final int patternLength = _pattern.length();
+        final int count = ((state & (1L << (patternLength - 1))) != 0) ? patternLength : patternLength + 1;
+
+        return _ignoreWhitespace
+            ? packMatchEndingAt(text, end, count)
+            : pack(end - count + 1, count);
+    }
+
+    //
+    // Packs the match that ends at text[end] and spans count non-whitespace
+    // chars, along with the whitespace between them. This runs once per
+    // match for every kind of text, so it reads text with a plain charAt()
+    // and leaves the charAt() helper below to the String engines.
+    //
+    private static long packMatchEndingAt(final CharSequence text, final int end, final int count) {
+        int start = end;
+        for (int remaining = count - 1; remaining > 0; ) {
+            start--;
+            if (!isWhitespace(text.charAt(start)))
+                remaining--;
+        }
+
+        return pack(start, end - start + 1);
+    }
+
+    //
+    // Search over any CharSequence other than String and CharArraySequence,
+    // read in place. A CharBuffer over an array is wrapped as a
+    // CharArraySequence before it gets here. This path is kept apart from
+    // the engines above on purpose: once those have seen a StringBuilder or
+    // a direct CharBuffer, they get compiled with a virtual charAt() call in
+    // their inner loops, and every String search from then on slows down.
+    // Here, Shift-And covers the common case in linear time, and the rest
+    // falls back to trying every position. Only the loops that read text are
+    // kept apart; the step over each char is left to shiftAnd() and
+    // matchChar(), as in the engines above.
+    //
+    private long sequenceSearch(final CharSequence text, final int startIndex, final int textEnd) {
+        if (!_bitParallel)
+            return sequenceScanSearch(text, startIndex, textEnd);
+
+        final KoreanPatternMasks masks = getMasks();
+
+        final boolean dubeolsikInput = _splitPattern != null;
+        final boolean ignoreWhitespace = _ignoreWhitespace;
+        final long acceptBit = 1L << (_pattern.length() - 1);
+        final long matchBits = acceptBit | (acceptBit << 2);
+        final KoreanSearchStats stats = STATS ? KoreanSearchStats.current() : null;
+
+        long state = 0;
+        for (int i = startIndex; i < textEnd; i++) {
+            final char c = text.charAt(i);
+            if (ignoreWhitespace && isWhitespace(c)) {
+                if (STATS) stats._whitespaceCount++;
+                continue;
+            }
+
+            state = shiftAnd(state, masks.get(c), acceptBit, dubeolsikInput, stats);
+            if ((state & matchBits) != 0)
+                return packShiftAndMatch(text, i, state);
+        }
+
+        return NOT_FOUND;
+    }
+
+    //
+    // Same as scanSearch() trying every position, for sequenceSearch().
+    //
+    private long sequenceScanSearch(final CharSequence text, final int startIndex, final int textEnd) {
+        final KoreanSearchStats stats = STATS ? KoreanSearchStats.current() : null;
+        final int endIndex = textEnd - _pattern.length() + 1;
+
+        for (int i = startIndex; i < endIndex; i++) {
+            if (_ignoreWhitespace
+                && isWhitespace(text.charAt(i))) {
+                if (STATS) stats._whitespaceCount++;
+                continue;
+            }
+
+            if (STATS) stats._positionCount++;
+            final int matchLength = sequenceMatchAt(text, i, textEnd);
+            if (matchLength >= 0)
+                return pack(i, matchLength);
+            if (matchLength == END_OF_TEXT)
+                break;
+        }
+
+        return NOT_FOUND;
+    }
+
+    //
+    // Same as matchAt(), for sequenceSearch().
+    //
+    private int sequenceMatchAt(final CharSequence text, final int i, final int textEnd) {
+        final KoreanSearchStats stats = STATS ? KoreanSearchStats.current() : null;
+
+        int whitespaceCount = 0;
+        boolean dubeolsikMatchingMode = false;
+        for (int j = 0; ; j++) {
+            if (_ignoreWhitespace) {
+                while (true) {
+                    final int index = i + whitespaceCount + j;
+                    if (index == textEnd)
+                        return END_OF_TEXT;
+                    if (!isWhitespace(text.charAt(index)))
+                        break;
+                    whitespaceCount++;
+                    if (STATS) stats._whitespaceCount++;
+                }
+            }
+
+            final int index = i + whitespaceCount + j;
+            final int step = matchChar(j, text.charAt(index), null, index, i, textEnd,
+                                       dubeolsikMatchingMode, stats);
+            if (step == PATTERN_MATCHED)
+                return j + 1 + whitespaceCount;
+            if (step == NO_MATCH)
+                return NO_MATCH;
+            dubeolsikMatchingMode = step == SPLIT_STARTED;
+        }
+    }
+
+    //
+    // Search over a KoreanCompiledText, which has the jamo code of every char
+    // and the way past every whitespace run worked out already. On long
+    // texts, the table-driven engines look a char up only once anyway, so
+    // the text is searched as a plain String there unless whitespace is to
+    // be skipped by a pattern too long for bitParallelSearch(). Everywhere
+    // else, the String is searched along with the tables. The engines only
+    // ever read the chars of a String, so passing the tables on the side
+    // leaves String searches as fast as they were.
+    //
+    private long compiledSearch(final KoreanCompiledText text, final int startIndex, final int textEnd) {
+        if ((!_ignoreWhitespace || _bitParallel)
+            && textEnd - startIndex >= TABLE_SEARCH_MIN_TEXT_LENGTH)
+            return searchRange(text.toString(), startIndex, textEnd - startIndex);
+
+        return scanSearch(text.toString(), startIndex, textEnd, text);
+    }
+
+    KoreanPatternMasks getMasks() {
+        //
+        // Racy single-check: the table is immutable, so the worst a race can
+        // do is to build it more than once.
+        //
+        KoreanPatternMasks masks = _masks;
+        if (masks == null) {
+            final int patternLength = _pattern.length();
+            if (!_bitParallel)
+                masks = new KoreanPatternMasks(_pattern, _maskBase, patternLength - 1 - _maskBase);
+            else if (_splitPattern != null)
+                masks = new KoreanPatternMasks(_pattern.append(_splitPattern, patternLength - 1), 0, patternLength + 2);
+            else
+                masks = new KoreanPatternMasks(_pattern, 0, patternLength);
+            _masks = masks;
+        }
+
+        return masks;
+    }
+
+    //
+    // Tries to match the pattern at text[i] and returns the length of the
+    // match, NO_MATCH if there is none, or END_OF_TEXT if the text runs out
+    // of non-whitespace chars so that no later position can match either.
+    // compiled, if not null, holds the tables of text.
+    //
+    private int matchAt(final CharSequence text, final int i, final int textEnd,
+                        final KoreanCompiledText compiled) {
+        final KoreanSearchStats stats = STATS ? KoreanSearchStats.current() : null;
+
+        int whitespaceCount = 0;
+        boolean dubeolsikMatchingMode = false;
+        for (int j = 0; ; j++) {
+            if (_ignoreWhitespace) {
+                final int index = nextNonWhitespace(text, i + whitespaceCount + j, textEnd, compiled);
+                if (STATS) stats._whitespaceCount += index - (i + whitespaceCount + j);
+                if (index == textEnd)
+                    return END_OF_TEXT;
+                whitespaceCount = index - i - j;
+            }
+
+            final int index = i + whitespaceCount + j;
+            final int step = matchChar(j, charAt(text, index), compiled, index, i, textEnd,
+                                       dubeolsikMatchingMode, stats);
+            if (step == PATTERN_MATCHED)
+                return j + 1 + whitespaceCount;
+            if (step == NO_MATCH)
+                return NO_MATCH;
+            dubeolsikMatchingMode = step == SPLIT_STARTED;
+        }
+    }
+
+    //
+    // Matches textChar, the char at index, against pattern position j of a
+    // match starting at text[i]. Returns PATTERN_MATCHED once the whole
+    // pattern has matched, CHAR_MATCHED to go on with position j + 1,
+    // SPLIT_STARTED to go on with the char that completes the split
+    // pattern, or NO_MATCH.
+    //
+    private int matchChar(final int j, final char textChar, final KoreanCompiledText compiled,
+                          final int index, final int i, final int textEnd,
+                          final boolean dubeolsikMatchingMode, final KoreanSearchStats stats) {
+        final KoreanTextPattern pattern = _pattern;
+        final KoreanTextPattern splitPattern = _splitPattern;
+
+        if (STATS) stats._comparisonCount++;
+
+        if (dubeolsikMatchingMode) {
+            if (STATS) stats._dubeolsikAttemptCount++;
+            return isCharMatch(splitPattern, j, textChar, compiled, index)
+                ? PATTERN_MATCHED
+                : NO_MATCH;
+        }
+
+        if (isCharMatch(pattern, j, textChar, compiled, index))
+            return (j == pattern.length() - 1) ? PATTERN_MATCHED : CHAR_MATCHED;
+
+        if (splitPattern != null
+            && j == pattern.length() - 1
+            && i + splitPattern.length() <= textEnd
+            && isCharMatch(splitPattern, j, textChar, compiled, index))
+            return SPLIT_STARTED;
+
+        return NO_MATCH;
+    }
+
+    //
+    // compiled, if not null, has the jamo code of c looked up already.
+    //
+    private static boolean isCharMatch(final KoreanTextPattern pattern, final int j, final char c,
+                                       final KoreanCompiledText compiled, final int index) {
+        return (compiled != null)
+            ? pattern.isMatch(j, c, compiled.jamoCodeAt(index))
+            : pattern.isMatch(j, c);
+    }
+
+    //
+    // Returns the first index from index on where text isn't whitespace, or
+    // textEnd if there is none before it. compiled, if not null, has it
+    // worked out already.
+    //
+    private static int nextNonWhitespace(final CharSequence text, int index, final int textEnd,
+                                         final KoreanCompiledText compiled) {
+        if (compiled != null)
+            return Math.min(compiled.nextNonWhitespace(index), textEnd);
+
+        while (index < textEnd && isWhitespace(charAt(text, index)))
+            index++;
+
+        return index;
+    }
+
+    /**
+     * 주어진 {@code text}에 대해 {@link #KoreanTextMatcher(String)}에서 지정해 둔
+     * {@code pattern}의 모든 출현을 찾는다.
+     *
+     * {@code text} 내 검색 시작 위치를 지정하려면 {@link #matches(String, int)}를
+     * 사용한다.
+     *
+     * @param text 검색 대상 문자열
+     * @return 검색 결과를 담은 {@code Iterable<KoreanTextMatch>} 인스턴스.
+     *         찾은 것이 없으면 빈 리스트를 리턴한다.
+     * @throws IllegalArgumentException {@code text}가 {@code null}일 때.
+     */
+    public Iterable<KoreanTextMatch> matches(String text) {
+        return matches(text, 0);
+    }
+
+    /**
+     * 주어진 {@code text}에 대해 {@link #KoreanTextMatcher(String)}에서 지정해 둔
+     * {@code pattern}의 모든 출현을 찾는다.
+     *
+     * @param text 검색 대상 문자열
+     * @param startIndex 검색을 시작할 {@code text} 내 위치
+     * @return 검색 결과를 담은 {@code Iterable<KoreanTextMatch>} 인스턴스.
+     * @throws IllegalArgumentException {@code text}가 {@code null}일 때,
+     *         또는 {@code startIndex}가 {@code 0}보다 작거나
+     *         {@link KoreanTextMatch#length() text.length()}보다 클 때.
+     */
+    public Iterable<KoreanTextMatch> matches(String text, int startIndex) {
+        return matches((CharSequence)text, startIndex);
+    }
+
+    /**
+     * 주어진 {@code text}에 대해 {@link #KoreanTextMatcher(String)}에서 지정해 둔
+     * {@code pattern}의 모든 출현을 찾는다.
+     *
+     * @param text 검색 대상 문자열
+     * @return 검색 결과를 담은 {@code Iterable<KoreanTextMatch>} 인스턴스.
+     *         찾은 것이 없으면 빈 리스트를 리턴한다.
+     * @throws IllegalArgumentException {@code text}가 {@code null}일 때.
+     */
+    public Iterable<KoreanTextMatch> matches(CharSequence text) {
+        return matches(text, 0);
+    }
+
+    /**
+     * 주어진 문자 배열의 {@code offset}부터 {@code length}개의 문자에 대해
+     * {@link #KoreanTextMatcher(String)}에서 지정해 둔 {@code pattern}의 모든
+     * 출현을 찾는다.
+     *
+     * 결과의 위치는 {@code offset}을 기준으로 한 상대 위치다.
+     *
+     * @param buffer 검색 대상 문자 배열
+     * @param offset 검색 대상 영역의 배열 내 시작 위치
+     * @param length 검색 대상 영역의 길이
+     * @return 검색 결과를 담은 {@code Iterable<KoreanTextMatch>} 인스턴스.
+     * @throws IllegalArgumentException {@code buffer}가 {@code null}일 때,
+     *         또는 {@code offset}과 {@code length}가 배열의 범위를 벗어날 때.
+     */
+    public Iterable<KoreanTextMatch> matches(char[] buffer, int offset, int length) {
+        return matches(new CharArraySequence(buffer, offset, length), 0);
+    }
+
+    /**
+     * 주어진 {@code text}에 대해 {@link #KoreanTextMatcher(String)}에서 지정해 둔
+     * {@code pattern}의 모든 출현을 찾는다.
+     *
+     * @param text 검색 대상 문자열
+     * @param startIndex 검색을 시작할 {@code text} 내 위치
+     * @return 검색 결과를 담은 {@code Iterable<KoreanTextMatch>} 인스턴스.
+     * @throws IllegalArgumentException {@code text}가 {@code null}일 때,
+     *         또는 {@code startIndex}가 {@code 0}보다 작거나
+     *         {@code text.length()}보다 클 때.
+     */
+    public Iterable<KoreanTextMatch> matches(final CharSequence text, final int startIndex) {
+        return new Iterable<KoreanTextMatch>() {
+            public Iterator<KoreanTextMatch> iterator() {
+                return Spliterators.iterator(spliterator());
+            }
+
+            @Override
+            public Spliterator<KoreanTextMatch> spliterator() {
+                checkSearchArguments(text, startIndex);
+
+                return new MatchSpliterator(text, startIndex, text.length());
+            }
+        };
+    }
+
+    /**
+     * 주어진 {@code text}에 대해 {@link #KoreanTextMatcher(String)}에서 지정해 둔
+     * {@code pattern}의 모든 출현을 차례로 담은 {@link Stream}을 만든다.
+     *
+     * 스트림의 원소는 {@link #matches(CharSequence)}가 차례로 찾는 것과 같다.
+     * {@link Stream#parallel()}로 병렬 처리하면 긴 텍스트는 매치가 걸칠 수 없는
+     * 위치, 즉 패턴의 어느 문자에도 부합하지 않는 문자에서 나누어 동시에
+     * 검색한다. 패턴에 앵커가 있거나, 패턴이 비어 있거나 너무 길거나, 편집을
+     * 허용하거나 자모열로 매칭하면 나누지 않는다.
+     *
+     * @param text 검색 대상 문자열
+     * @return 찾은 출현을 위치 순으로 담은 스트림
+     * @throws IllegalArgumentException {@code text}가 {@code null}일 때.
+     */
+    public Stream<KoreanTextMatch> stream(CharSequence text) {
+        return stream(text, 0);
+    }
+
+    /**
+     * 주어진 {@code text}의 {@code startIndex}부터 {@link #KoreanTextMatcher(String)}에서
+     * 지정해 둔 {@code pattern}의 모든 출현을 차례로 담은 {@link Stream}을 만든다.
+     *
+     * @param text 검색 대상 문자열
+     * @param startIndex 검색을 시작할 {@code text} 내 위치
+     * @return 찾은 출현을 위치 순으로 담은 스트림
+     * @throws IllegalArgumentException {@code text}가 {@code null}일 때,
+     *         또는 {@code startIndex}가 {@code 0}보다 작거나
+     *         {@code text.length()}보다 클 때.
+     * @see #stream(CharSequence)
+     */
+    public Stream<KoreanTextMatch> stream(CharSequence text, int startIndex) {
+        checkSearchArguments(text, startIndex);
+
+        return StreamSupport.stream(new MatchSpliterator(text, startIndex, text.length()), false);
+    }
+
+    //
+    // Looks no further than this for a place to split a spliterator.
+    //
+    private static final int MAX_SPLIT_SCAN_LENGTH = 4096;
 
-    private final EnumSet<MatchingOptions> _options;
+    //
+    // Walks the chain of matches that start in text[_index .. _end).
+    //
+    // A split has to leave both halves with the same chain they would have
+    // seen as one, so it is made only at a char that matches no pattern
+    // position, in either Dubeolsik form, and that IgnoreWhitespace can't
+    // skip over. No match can contain that char: every match in the first
+    // half ends before it, and the chain picks up right after it in the
+    // second half as if the search had just started there.
+    //
+    // The whole walk, from its first search to the one that finds no more
+    // matches, is recorded as a single Flight Recorder event. Each part of a
+    // split records its own.
+    //
+    private final class MatchSpliterator implements Spliterator<KoreanTextMatch> {
+        private final CharSequence _text;
+        private int _index;
+        private final int _end;
+        private KoreanSearchEvent _event;
+        private int _eventStart;
+        private int _matchCount;
 
-    /**
-     * 검색 옵션.
-     */
-    public enum MatchingOptions {
-        /** 기본 옵션. 테스트 코드내 자리 채우는 용도로 사용. */
-        Default,
+        MatchSpliterator(CharSequence text, int index, int end) {
+            _text = text;
+            _index = index;
+            _end = end;
+        }
 
-        /** 두벌식 키보드에서 한글을 입력할 때 발생하는 도깨비불 현상을 감지하고 처리한다. */
-        DubeolsikInput,
+        @Override
+        public boolean tryAdvance(Consumer<? super KoreanTextMatch> action) {
+            if (_index > _end) {
+                endEvent();
+                return false;
+            }
 
-        /** 영문 매칭할 때 대소문자를 구분하지 않는다. */
-        IgnoreCase,
+            if (EVENTS && _event == null && _end - _index >= EVENT_MIN_TEXT_LENGTH) {
+                _event = new KoreanSearchEvent();
+                _eventStart = _index;
+                _event.begin();
+            }
 
-        /** 텍스트 안의 공백을 건너뛰고 매칭한다. */
-        IgnoreWhitespace;
-    }
+            //
+            // Only the last part of the text is searched with the anchors,
+            // which keep the text from being split in the first place.
+            //
+            final long match = (_end == _text.length())
+                ? search(_text, _index, false)
+                : search(_text, _index, _end - _index, false);
+            if (match == NOT_FOUND) {
+                _index = _end + 1;
+                endEvent();
+                return false;
+            }
 
-    private static EnumSet<MatchingOptions> toEnumSet(MatchingOptions[] options) {
-        if (options.length == 0)
-            return EnumSet.noneOf(MatchingOptions.class);
+            final int index = unpackIndex(match);
+            final int length = unpackLength(match);
+            _index = index + (length == 0 ? 1 : length);
+            _matchCount++;
+            action.accept(new KoreanTextMatch(KoreanTextMatcher.this, _text, index, length));
+            return true;
+        }
 
-        return EnumSet.copyOf(Arrays.asList(options));
-    }
+        private void endEvent() {
+            if (_event != null) {
+                final int length = _end - _eventStart;
+                _event.report(KoreanTextMatcher.this, length, length, _matchCount);
+                _event = null;
+            }
+        }
 
-    /**
-     * {@link KoreanTextMatcher} 클래스의 새 인스턴스를 초기화한다.
-     *
-     * 정규식 앵커 {@code ^}와 {@code $}를 사용하여 {@code pattern}의 위치를
-     * 검색 대상 문자열의 시작과 끝으로 한정할 수 있다.
-     *
-     * @param pattern 검색할 패턴
-     * @param options 검색 옵션
-     * @throws IllegalArgumentException {@code pattern}이 {@code null}일 때.
-     */
-    public KoreanTextMatcher(String pattern, MatchingOptions... options) {
-        this(pattern, toEnumSet(options));
+        @Override
+        public Spliterator<KoreanTextMatch> trySplit() {
+            if (_pattern.length() == 0 || _hasStartAnchor || _hasEndAnchor || !_bitParallel
+                || _jamoPattern != null || _end - _index < 2 * MIN_SEGMENT_LENGTH)
+                return null;
+
+            final KoreanPatternMasks masks = getMasks();
+            final int mid = (_index + _end) >>> 1;
+            final int scanEnd = Math.min(_end, mid + MAX_SPLIT_SCAN_LENGTH);
+            for (int i = mid; i < scanEnd; i++) {
+                final char c = _text.charAt(i);
+                if (masks.get(c) == 0 && !(_ignoreWhitespace && isWhitespace(c))) {
+                    final MatchSpliterator prefix = new MatchSpliterator(_text, _index, i);
+                    _index = i + 1;
+                    return prefix;
+                }
+            }
+
+            return null;
+        }
+
+        @Override
+        public long estimateSize() {
+            //
+            // Every match but the one of an empty pattern at the end of the
+            // text takes at least one char.
+            //
+            return Math.max(0, _end - _index);
+        }
+
+        @Override
+        public int characteristics() {
+            return ORDERED | NONNULL;
+        }
     }
 
     /**
-     * {@link KoreanTextMatcher} 클래스의 새 인스턴스를 초기화한다.
+     * 주어진 {@code text}를 여러 구간으로 나누어 {@code pool}에서 동시에 검색하고
+     * {@link #KoreanTextMatcher(String)}에서 지정해 둔 {@code pattern}의 모든
+     * 출현을 찾는다.
      *
-     * 정규식 앵커 {@code ^}와 {@code $}를 사용하여 {@code pattern}의 위치를
-     * 검색 대상 문자열의 시작과 끝으로 한정할 수 있다.
+     * 각 구간은 경계에 걸친 매치를 찾을 수 있도록 패턴의 길이와 두벌식 입력이
+     * 요구하는 한 문자, 그리고 그 사이에 낀 공백만큼 다음 구간을 겹쳐 읽는다.
+     * 구간별 결과는 합치면서 중복을 걸러내므로, 결과는 {@link #matches(String)}가
+     * 차례로 찾는 것과 항상 같다. 텍스트가 짧거나, 패턴에 앵커가 있거나, 편집을
+     * 허용하거나 자모열로 매칭하면 나누지 않고 호출한 스레드에서 바로 검색한다.
      *
-     * @param pattern 검색할 패턴
-     * @param options 검색 옵션
-     * @throws IllegalArgumentException {@code pattern}이 {@code null}일 때.
+     * @param text 검색 대상 문자열
+     * @param pool 구간 검색에 사용할 스레드 풀
+     * @return 찾은 출현을 위치 순으로 담은 리스트. 찾은 것이 없으면 빈 리스트.
+     * @throws IllegalArgumentException {@code text} 또는 {@code pool}이 {@code null}일 때.
      */
-    public KoreanTextMatcher(String pattern, EnumSet<MatchingOptions> options) {
-        if (pattern == null)
-            throw new IllegalArgumentException("pattern: null");
+    public List<KoreanTextMatch> parallelMatches(String text, ForkJoinPool pool) {
+        if (text == null)
+            throw new IllegalArgumentException("text: null");
+        if (pool == null)
+            throw new IllegalArgumentException("pool: null");
 
-        _options = options;
+        final List<KoreanTextMatch> result = new ArrayList<>();
+        final int textLength = text.length();
+        final int segmentCount = Math.min(pool.getParallelism() * SEGMENTS_PER_THREAD,
+            textLength / MIN_SEGMENT_LENGTH);
 
-        if (pattern.length() == 0) {
-            _hasStartAnchor = _hasEndAnchor = false;
-            _pattern = pattern;
-            _splitPattern = null;
-        } else {
-            _hasStartAnchor = pattern.charAt(0) == '^';
-            _hasEndAnchor = pattern.charAt(pattern.length() - 1) == '$';
-            _pattern = stripAnchors(pattern);
-
-            String split = null;
-            if (options.contains(MatchingOptions.DubeolsikInput)
-                && _pattern.length() > 0) {
-                final char last = _pattern.charAt(_pattern.length() - 1);
-                if (KoreanChar.isSyllable(last) && KoreanChar.hasJongseong(last)) {
-                    final String lastSplit = KoreanChar.splitTrailingConsonant(last);
-                    split = _pattern.substring(0, _pattern.length() - 1) + lastSplit;
+        if (_pattern.length() == 0 || _hasStartAnchor || _hasEndAnchor || _jamoPattern != null
+            || segmentCount < 2) {
+            for (KoreanTextMatch match : matches(text))
+                result.add(match);
+            return result;
+        }
+
+        final int[] bounds = new int[segmentCount + 1];
+        for (int k = 0; k <= segmentCount; k++)
+            bounds[k] = (int)((long)textLength * k / segmentCount);
+
+        final KoreanSearchEvent event = (EVENTS && textLength >= EVENT_MIN_TEXT_LENGTH)
+            ? new KoreanSearchEvent()
+            : null;
+        if (event != null)
+            event.begin();
+
+        final long[][] segments = new long[segmentCount][];
+        pool.invoke(new SegmentSearch(text, bounds, segments, 0, segmentCount));
+
+        //
+        // Each segment was searched as if the chain of matches entered it at
+        // its first char. A match that crosses into the segment makes the
+        // real chain resume later, so the chain is followed from there until
+        // it meets a match the segment already found; from that match on,
+        // both chains are the same.
+        //
+        int nextIndex = 0;
+        for (int k = 0; k < segmentCount; k++) {
+            final long[] matches = segments[k];
+            final int segmentEnd = bounds[k + 1];
+            if (nextIndex >= segmentEnd)
+                continue;
+
+            int j = 0;
+            if (nextIndex > bounds[k]) {
+                final int searchEnd = overlapEnd(text, segmentEnd);
+                while (true) {
+                    while (j < matches.length && unpackIndex(matches[j]) < nextIndex)
+                        j++;
+
+                    final long match = search(text, nextIndex, searchEnd - nextIndex, false);
+                    if (match == NOT_FOUND || unpackIndex(match) >= segmentEnd) {
+                        j = matches.length;
+                        break;
+                    }
+                    if (j < matches.length && matches[j] == match)
+                        break;
+
+                    result.add(new KoreanTextMatch(this, text, unpackIndex(match), unpackLength(match)));
+                    nextIndex = unpackIndex(match) + unpackLength(match);
+                    if (nextIndex >= segmentEnd) {
+                        j = matches.length;
+                        break;
+                    }
                 }
             }
-            _splitPattern = split;
+
+            for (; j < matches.length; j++) {
+                result.add(new KoreanTextMatch(this, text, unpackIndex(matches[j]), unpackLength(matches[j])));
+                nextIndex = unpackIndex(matches[j]) + unpackLength(matches[j]);
+            }
+        }
+
+        if (event != null)
+            event.report(this, textLength, textLength, result.size());
+        return result;
+    }
+
+    private static final int MIN_SEGMENT_LENGTH = 64 * 1024;
+    private static final int SEGMENTS_PER_THREAD = 4;
+
+    //
+    // Searches segments[lo .. hi) by splitting them in halves until a
+    // single segment is left.
+    //
+    private final class SegmentSearch extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final String _text;
+        private final int[] _bounds;
+        private final long[][] _segments;
+        private final int _lo, _hi;
+
+        SegmentSearch(String text, int[] bounds, long[][] segments, int lo, int hi) {
+            _text = text;
+            _bounds = bounds;
+            _segments = segments;
+            _lo = lo;
+            _hi = hi;
+        }
+
+        @Override
+        protected void compute() {
+            if (_hi - _lo == 1) {
+                _segments[_lo] = searchSegment(_text, _bounds[_lo], _bounds[_lo + 1]);
+                return;
+            }
+
+            final int mid = (_lo + _hi) >>> 1;
+            invokeAll(new SegmentSearch(_text, _bounds, _segments, _lo, mid),
+                      new SegmentSearch(_text, _bounds, _segments, mid, _hi));
+        }
+    }
+
+    //
+    // Follows the chain of matches that starts in text[segmentStart ..
+    // segmentEnd), reading into the next segment no further than a match
+    // starting in this one can reach.
+    //
+    private long[] searchSegment(final String text, final int segmentStart, final int segmentEnd) {
+        final int searchEnd = overlapEnd(text, segmentEnd);
+
+        long[] matches = new long[16];
+        int count = 0;
+        int index = segmentStart;
+        while (index < segmentEnd) {
+            final long match = search(text, index, searchEnd - index, false);
+            if (match == NOT_FOUND || unpackIndex(match) >= segmentEnd)
+                break;
+
+            if (count == matches.length)
+                matches = Arrays.copyOf(matches, count * 2);
+            matches[count++] = match;
+            index = unpackIndex(match) + unpackLength(match);
+        }
+
+        return Arrays.copyOf(matches, count);
+    }
+
+    //
+    // A match starting before segmentEnd spans at most the pattern length
+    // plus the char of the Dubeolsik split pattern, and with
+    // IgnoreWhitespace, the whitespace between them.
+    //
+    private int overlapEnd(final String text, final int segmentEnd) {
+        final int textLength = text.length();
+        final int reach = _pattern.length() + 1;
+        if (!_ignoreWhitespace)
+            return (int)Math.min(textLength, (long)segmentEnd + reach);
+
+        int end = segmentEnd;
+        for (int count = 0; end < textLength && count < reach; end++) {
+            if (!isWhitespace(text.charAt(end)))
+                count++;
         }
+
+        return end;
     }
 
     /**
-     * 주어진 {@code text}에 대해 {@link #KoreanTextMatcher(String)}에서 지정해 둔
-     * {@code pattern}의 첫번째 출현을 찾는다.
+     * 주어진 {@code corpus}의 각 문자열에 {@link #KoreanTextMatcher(String)}에서
+     * 지정해 둔 {@code pattern}이 존재하는지 조사해서 그 결과를 비트맵에 기록한다.
      *
-     * {@code text} 내 검색 시작 위치를 지정하려면 {@link #match(String, int)}를 사용한다.
+     * {@code corpus[i]}에 패턴이 존재하면 {@code bitmap[i >>> 6]}의
+     * {@code i & 63}번째 비트를 1로, 그렇지 않으면 0으로 설정한다. 검색 중에는
+     * 메모리 할당이 일어나지 않으므로 키를 입력할 때마다 목록 전체를 걸러내는
+     * 용도에 알맞다.
      *
-     * @param text 검색 대상 문자열
-     * @return 검색 결과를 담은 {@link KoreanTextMatch} 인스턴스.
-     *         {@link KoreanTextMatch#success()}가 {@code true}일 때만 유효하다.
-     *         검색이 실패하면 {@link KoreanTextMatch#EMPTY}를 리턴한다.
-     * @throws IllegalArgumentException {@code text}가 {@code null}일 때.
+     * @param corpus 검색 대상 문자열 배열
+     * @param bitmap 결과를 기록할 비트맵. 길이가 {@code (corpus.length + 63) / 64}
+     *        이상이어야 한다.
+     * @return 패턴이 존재하는 문자열의 개수
+     * @throws IllegalArgumentException {@code corpus}, {@code corpus}의 원소 또는
+     *         {@code bitmap}이 {@code null}일 때, 또는 {@code bitmap}이 너무 짧을 때.
      */
-    public KoreanTextMatch match(String text) {
-        return match(text, 0);
+    public int filter(String[] corpus, long[] bitmap) {
+        checkFilterArguments(corpus, corpus != null ? corpus.length : 0, bitmap);
+
+        return filter(corpus, bitmap, 0, bitmapLength(corpus.length));
     }
 
     /**
-     * 주어진 {@code text}에 대해 {@link #KoreanTextMatcher(String)}에서 지정해 둔
-     * {@code pattern}의 첫번째 출현을 찾는다.
+     * {@link #filter(String[], long[])}와 같지만 {@code corpus}를 여러 구간으로
+     * 나누어 {@code pool}에서 동시에 검색한다.
      *
-     * @param text 검색 대상 문자열
-     * @param startIndex 검색을 시작할 {@code text} 내 위치
-     * @return 검색 결과를 담은 {@link KoreanTextMatch} 인스턴스.
-     *         {@link KoreanTextMatch#success()}가 {@code true}일 때만 유효하다.
-     *         검색이 실패하면 {@link KoreanTextMatch#EMPTY}를 리턴한다.
-     * @throws IllegalArgumentException {@code text}가 {@code null}일 때,
-     *         또는 {@code startIndex}가 {@code 0}보다 작거나
-     *         {@link KoreanTextMatch#length() text.length()}보다 클 때.
+     * @param corpus 검색 대상 문자열 배열
+     * @param bitmap 결과를 기록할 비트맵. 길이가 {@code (corpus.length + 63) / 64}
+     *        이상이어야 한다.
+     * @param pool 구간 검색에 사용할 스레드 풀
+     * @return 패턴이 존재하는 문자열의 개수
+     * @throws IllegalArgumentException {@code corpus}, {@code corpus}의 원소,
+     *         {@code bitmap} 또는 {@code pool}이 {@code null}일 때, 또는
+     *         {@code bitmap}이 너무 짧을 때.
      */
-    public KoreanTextMatch match(String text, int startIndex) {
-        if (text == null)
-            throw new IllegalArgumentException("text: null");
-        if (startIndex < 0 || startIndex > text.length())
-            throw new IllegalArgumentException("startIndex: " + startIndex + " is out of range 0 .. " + text.length());
+    public int filter(String[] corpus, long[] bitmap, ForkJoinPool pool) {
+        checkFilterArguments(corpus, corpus != null ? corpus.length : 0, bitmap);
+        if (pool == null)
+            throw new IllegalArgumentException("pool: null");
 
-        //
-        // Optimization: narrow the range of text to be matched for pattern.
-        //
-        final SearchRange range = getSearchRange(text, startIndex, _pattern.length());
-        if (range == null)
-            return KoreanTextMatch.EMPTY;
+        final int wordCount = bitmapLength(corpus.length);
+        if (wordCount <= FILTER_WORDS_PER_TASK)
+            return filter(corpus, bitmap, 0, wordCount);
 
-        return match(text, range.startIndex(), range.length());
+        return pool.invoke(new FilterTask(corpus, bitmap, 0, wordCount));
     }
 
-    private KoreanTextMatch match(final String text, final int startIndex, final int length) {
-        if (_pattern.length() == 0)
-            return new KoreanTextMatch(this, text, startIndex, 0);
+    /**
+     * {@link #filter(String[], long[])}와 같지만 문자열 리스트를 검색한다.
+     *
+     * @param corpus 검색 대상 문자열 리스트
+     * @param bitmap 결과를 기록할 비트맵. 길이가 {@code (corpus.size() + 63) / 64}
+     *        이상이어야 한다.
+     * @return 패턴이 존재하는 문자열의 개수
+     * @throws IllegalArgumentException {@code corpus}, {@code corpus}의 원소 또는
+     *         {@code bitmap}이 {@code null}일 때, 또는 {@code bitmap}이 너무 짧을 때.
+     */
+    public int filter(List<String> corpus, long[] bitmap) {
+        checkFilterArguments(corpus, corpus != null ? corpus.size() : 0, bitmap);
 
-        final boolean dubeolsikInput = _options.contains(MatchingOptions.DubeolsikInput);
-        final boolean ignoreCase = _options.contains(MatchingOptions.IgnoreCase);
-        final boolean ignoreWhitespace = _options.contains(MatchingOptions.IgnoreWhitespace);
+        Arrays.fill(bitmap, 0, bitmapLength(corpus.size()), 0);
 
-        final int patternLength = _pattern.length();
-        final int splitPatternLength = (_splitPattern != null) ? _splitPattern.length() : 0;
-        final int endIndex = startIndex + length - patternLength + 1;
+        int count = 0;
+        int i = 0;
+        for (String text : corpus) {
+            if (text == null)
+                throw new IllegalArgumentException("corpus[" + i + "]: null");
+            if (contains(text)) {
+                bitmap[i >>> 6] |= 1L << i;
+                count++;
+            }
+            i++;
+        }
 
-        outerLoop: for (int i = startIndex; i < endIndex; i++) {
-            if (ignoreWhitespace
-                && isWhitespace(text.charAt(i)))
-                continue;
+        return count;
+    }
 
-            int whitespaceCount = 0;
-            boolean dubeolsikMatchingMode = false;
-            for (int j = 0; j < (dubeolsikMatchingMode ? splitPatternLength : patternLength); j++) {
-                if (ignoreWhitespace) {
-                    while (isWhitespace(text.charAt(i + whitespaceCount + j))) {
-                        whitespaceCount++;
-                        if (i + whitespaceCount + j == startIndex + length)
-                            break outerLoop;
-                    }
-                }
+    private static final int FILTER_WORDS_PER_TASK = 64;
+
+    //
+    // Corpus entries are mostly too short for search() to bother with the
+    // masks, but the masks are built only once per matcher here, and one
+    // table lookup per char beats trying every position.
+    //
+    boolean contains(final String text) {
+        return searchEntry(text) != NOT_FOUND;
+    }
+
+    private long searchEntry(final String text) {
+        if (!_bitParallel || _jamoPattern != null || _hasStartAnchor || _hasEndAnchor
+            || _pattern.length() == 0)
+            return search(text, 0);
+
+        final boolean event = EVENTS && text.length() >= EVENT_MIN_TEXT_LENGTH;
+        if (STATS || event)
+            return observedSearch(text, 0, text.length(), true, event);
 
-                final char textChar = text.charAt(i + whitespaceCount + j);
-                final char patternChar = dubeolsikMatchingMode ? _splitPattern.charAt(j) : _pattern.charAt(j);
-
-                if (isLatinAlphabet(textChar) && isLatinAlphabet(patternChar)) {
-                    final boolean isMatch = ignoreCase
-                        ? (textChar | 0x20) == (patternChar | 0x20)
-                        : textChar == patternChar;
-                    if (!isMatch)
-                        continue outerLoop;
-                } else if (!KoreanCharApproxMatcher.isMatch(textChar, patternChar)) {
-                    if (dubeolsikInput
-                        && j == patternLength - 1
-                        && _splitPattern != null
-                        && i + splitPatternLength <= startIndex + length
-                        && KoreanCharApproxMatcher.isMatch(textChar, _splitPattern.charAt(j)))
-                        dubeolsikMatchingMode = true;
-                    else
-                        continue outerLoop;
-                } else if (dubeolsikMatchingMode)
-                    return new KoreanTextMatch(this, text, i, splitPatternLength + whitespaceCount);
+        return bitParallelSearch(text, 0, text.length());
+    }
+
+    private static void checkFilterArguments(Object corpus, int size, long[] bitmap) {
+        if (corpus == null)
+            throw new IllegalArgumentException("corpus: null");
+        if (bitmap == null)
+            throw new IllegalArgumentException("bitmap: null");
+        if (bitmap.length < bitmapLength(size))
+            throw new IllegalArgumentException("bitmap.length: " + bitmap.length + " is less than " + bitmapLength(size));
+    }
+
+    private static int bitmapLength(int size) {
+        return (int)(((long)size + Long.SIZE - 1) / Long.SIZE);
+    }
+
+    //
+    // Fills bitmap[fromWord .. toWord), one word of 64 entries at a time, so
+    // that no two tasks ever write to the same word.
+    //
+    private int filter(final String[] corpus, final long[] bitmap, final int fromWord, final int toWord) {
+        int count = 0;
+        for (int w = fromWord; w < toWord; w++) {
+            final int base = w << 6;
+            final int end = Math.min(corpus.length, base + Long.SIZE);
+
+            long word = 0;
+            for (int i = base; i < end; i++) {
+                final String text = corpus[i];
+                if (text == null)
+                    throw new IllegalArgumentException("corpus[" + i + "]: null");
+                if (contains(text))
+                    word |= 1L << i;
             }
 
-            return new KoreanTextMatch(this, text, i, patternLength + whitespaceCount);
+            bitmap[w] = word;
+            count += Long.bitCount(word);
+        }
+
+        return count;
+    }
+
+    private final class FilterTask extends RecursiveTask<Integer> {
+        private static final long serialVersionUID = 1L;
+
+        private final String[] _corpus;
+        private final long[] _bitmap;
+        private final int _fromWord, _toWord;
+
+        FilterTask(String[] corpus, long[] bitmap, int fromWord, int toWord) {
+            _corpus = corpus;
+            _bitmap = bitmap;
+            _fromWord = fromWord;
+            _toWord = toWord;
         }
 
-        return KoreanTextMatch.EMPTY;
+        @Override
+        protected Integer compute() {
+            if (_toWord - _fromWord <= FILTER_WORDS_PER_TASK)
+                return filter(_corpus, _bitmap, _fromWord, _toWord);
+
+            final int mid = (_fromWord + _toWord) >>> 1;
+            final FilterTask left = new FilterTask(_corpus, _bitmap, _fromWord, mid);
+            left.fork();
+            final int right = new FilterTask(_corpus, _bitmap, mid, _toWord).compute();
+
+            return left.join() + right;
+        }
     }
 
     /**
-     * 주어진 {@code text}에 대해 {@link #KoreanTextMatcher(String)}에서 지정해 둔
-     * {@code pattern}의 모든 출현을 찾는다.
-     *
-     * {@code text} 내 검색 시작 위치를 지정하려면 {@link #matches(String, int)}를
-     * 사용한다.
+     * 주어진 문자열 배열에서 {@link #KoreanTextMatcher(String)}에서 지정해 둔
+     * {@code pattern}이 존재하는 문자열 중 가장 잘 부합하는 {@code k}개를 찾는다.
+     * <p>
+     * 각 문자열은 그 안의 첫번째 매치로 평가하며, 다음 기준을 앞의 것부터
+     * 차례로 비교한다.
+     * <ol>
+     * <li>매치가 문자열의 시작에 있는 것, 단어의 시작에 있는 것, 단어 중간에 있는
+     *     것 순서로 앞선다.
+     * <li>패턴의 문자와 근사 매칭이 아니라 정확히 같은 문자가 많을수록 앞선다.
+     *     예를 들어 {@code "한"}에 대해 {@code "한"}은 {@code "핝"}보다 앞선다.
+     * <li>매치 안에서 건너뛴 공백이나 두벌식 입력으로 늘어난 문자가 적을수록 앞선다.
+     * <li>문자열이 짧을수록 앞선다.
+     * <li>위 기준이 모두 같으면 배열 내 위치가 앞선 것이 앞선다.
+     * </ol>
+     * 점수가 높은 {@code k}개만 힙에 남기고, 힙이 찬 뒤에는 매치를 찾더라도
+     * {@code k}번째보다 앞설 수 없는 문자열은 검색하지 않고 건너뛴다.
      *
-     * @param text 검색 대상 문자열
-     * @return 검색 결과를 담은 {@code Iterable<KoreanTextMatch>} 인스턴스.
-     *         찾은 것이 없으면 빈 리스트를 리턴한다.
-     * @throws IllegalArgumentException {@code text}가 {@code null}일 때.
+     * @param corpus 검색 대상 문자열 배열
+     * @param k 찾을 문자열의 최대 개수
+     * @return 가장 잘 부합하는 문자열의 번호를 앞서는 것부터 담은 배열. 길이는
+     *         {@code k}와 패턴이 존재하는 문자열의 개수 중 작은 것과 같다.
+     * @throws IllegalArgumentException {@code corpus} 또는 그 원소가 {@code null}일
+     *         때, 또는 {@code k}가 {@code 0}보다 작을 때.
      */
-    public Iterable<KoreanTextMatch> matches(String text) {
-        return matches(text, 0);
+    public int[] top(String[] corpus, int k) {
+        if (corpus == null)
+            throw new IllegalArgumentException("corpus: null");
+
+        return top(Arrays.asList(corpus), k);
     }
 
     /**
-     * 주어진 {@code text}에 대해 {@link #KoreanTextMatcher(String)}에서 지정해 둔
-     * {@code pattern}의 모든 출현을 찾는다.
+     * {@link #top(String[], int)}와 같지만 문자열 리스트를 검색한다.
      *
-     * @param text 검색 대상 문자열
-     * @param startIndex 검색을 시작할 {@code text} 내 위치
-     * @return 검색 결과를 담은 {@code Iterable<KoreanTextMatch>} 인스턴스.
-     * @throws IllegalArgumentException {@code text}가 {@code null}일 때,
-     *         또는 {@code startIndex}가 {@code 0}보다 작거나
-     *         {@link KoreanTextMatch#length() text.length()}보다 클 때.
+     * @param corpus 검색 대상 문자열 리스트
+     * @param k 찾을 문자열의 최대 개수
+     * @return 가장 잘 부합하는 문자열의 번호를 앞서는 것부터 담은 배열. 길이는
+     *         {@code k}와 패턴이 존재하는 문자열의 개수 중 작은 것과 같다.
+     * @throws IllegalArgumentException {@code corpus} 또는 그 원소가 {@code null}일
+     *         때, 또는 {@code k}가 {@code 0}보다 작을 때.
      */
-    public Iterable<KoreanTextMatch> matches(final String text, final int startIndex) {
-        return new Iterable<KoreanTextMatch>() {
-            public Iterator<KoreanTextMatch> iterator() {
-                return new Iterator<KoreanTextMatch>() {
-                    KoreanTextMatch _match = match(text, startIndex);
+    public int[] top(List<String> corpus, int k) {
+        if (corpus == null)
+            throw new IllegalArgumentException("corpus: null");
+        if (k < 0)
+            throw new IllegalArgumentException("k: " + k + " is less than 0");
 
-                    @Override
-                    public boolean hasNext() {
-                        return _match.success();
-                    }
+        final KoreanTopHits hits = new KoreanTopHits(Math.min(k, corpus.size()));
+        final int patternLength = _pattern.length();
 
-                    @Override
-                    public KoreanTextMatch next() {
-                        KoreanTextMatch result = _match;
-                        _match = _match.nextMatch();
-                        return result;
-                    }
+        int id = 0;
+        for (String text : corpus) {
+            if (text == null)
+                throw new IllegalArgumentException("corpus[" + id + "]: null");
 
-                    @Override
-                    public void remove() {
-                        throw new UnsupportedOperationException();
-                    }
-                };
+            //
+            // The best a text can do is an exact prefix match, so once the
+            // heap is full, a text too long to beat the k-th entry even so
+            // isn't searched at all.
+            //
+            if (hits.accepts(score(PREFIX_RANK, patternLength, 0, text.length()))) {
+                final long result = searchEntry(text);
+                if (result != NOT_FOUND)
+                    hits.add(score(text, unpackIndex(result), unpackLength(result)), id);
             }
-        };
+            id++;
+        }
+
+        return hits.drain();
+    }
+
+    private static final int PREFIX_RANK = 2;
+    private static final int WORD_START_RANK = 1;
+    private static final int INFIX_RANK = 0;
+    private static final int MAX_SCORE_COUNT = (1 << 14) - 1;
+
+    //
+    // Packs the ranking criteria of top() into a long, most significant
+    // first, so that a higher score always ranks higher.
+    //
+    private static long score(int rank, int exactCount, int extraLength, int textLength) {
+        return (long)rank << 60
+            | (long)Math.min(exactCount, MAX_SCORE_COUNT) << 46
+            | (long)(MAX_SCORE_COUNT - Math.min(extraLength, MAX_SCORE_COUNT)) << 32
+            | (Integer.MAX_VALUE - textLength);
+    }
+
+    private long score(final String text, final int index, final int length) {
+        final int rank = (index == 0) ? PREFIX_RANK
+            : isWhitespace(text.charAt(index - 1)) ? WORD_START_RANK
+            : INFIX_RANK;
+
+        final int patternLength = _pattern.length();
+        int exactCount = 0;
+        for (int i = index, j = 0; i < index + length && j < patternLength; i++) {
+            final char c = text.charAt(i);
+            if (_ignoreWhitespace && isWhitespace(c))
+                continue;
+            if (_pattern.isExactMatch(j, c))
+                exactCount++;
+            j++;
+        }
+
+        return score(rank, exactCount, Math.max(0, length - patternLength), text.length());
     }
 
     /**
@@ -304,7 +1857,7 @@ public final class KoreanTextMatcher {
      * @throws IllegalArgumentException {@code text} 또는 {@code pattern}이 {@code null}일 때.
      */
     public static boolean isMatch(String text, String pattern, MatchingOptions... options) {
-        return isMatch(text, pattern, toEnumSet(options));
+        return isMatch(text, CACHE.get(pattern, options));
     }
 
     /**
@@ -320,7 +1873,11 @@ public final class KoreanTextMatcher {
      * @throws IllegalArgumentException {@code text} 또는 {@code pattern}이 {@code null}일 때.
      */
     public static boolean isMatch(String text, String pattern, EnumSet<MatchingOptions> options) {
-        return match(text, pattern, options).success();
+        return isMatch(text, CACHE.get(pattern, options));
+    }
+
+    private static boolean isMatch(String text, KoreanTextMatcher matcher) {
+        return matcher.search(text, 0) != NOT_FOUND;
     }
 
    /**
@@ -340,7 +1897,7 @@ public final class KoreanTextMatcher {
      * @throws IllegalArgumentException {@code text} 또는 {@code pattern}이 {@code null}일 때.
      */
     public static KoreanTextMatch match(String text, String pattern, MatchingOptions... options) {
-        return match(text, pattern, toEnumSet(options));
+        return CACHE.get(pattern, options).match(text);
     }
 
     /**
@@ -361,7 +1918,7 @@ public final class KoreanTextMatcher {
      *         {@code null}일 때.
      */
     public static KoreanTextMatch match(String text, String pattern, EnumSet<MatchingOptions> options) {
-        return new KoreanTextMatcher(pattern, options).match(text);
+        return CACHE.get(pattern, options).match(text);
     }
 
     /**
@@ -380,7 +1937,7 @@ public final class KoreanTextMatcher {
      *         {@code null}일 때.
      */
     public static Iterable<KoreanTextMatch> matches(String text, String pattern, MatchingOptions... options) {
-        return matches(text, pattern, toEnumSet(options));
+        return CACHE.get(pattern, options).matches(text);
     }
 
     /**
@@ -398,7 +1955,49 @@ public final class KoreanTextMatcher {
      * @throws IllegalArgumentException {@code text} 또는 {@code pattern}이 {@code null}일 때.
      */
     public static Iterable<KoreanTextMatch> matches(String text, String pattern, EnumSet<MatchingOptions> options) {
-        return new KoreanTextMatcher(pattern, options).matches(text);
+        return CACHE.get(pattern, options).matches(text);
+    }
+
+    private static final KoreanMatcherCache CACHE = new KoreanMatcherCache(KoreanMatcherCache.DEFAULT_CAPACITY);
+
+    /**
+     * {@link #isMatch(String, String, MatchingOptions...)},
+     * {@link #match(String, String, MatchingOptions...)},
+     * {@link #matches(String, String, MatchingOptions...)}가 컴파일한 패턴을
+     * 재사용하기 위해 공유하는 캐시를 구한다. 캐시의 크기를 바꾸거나 통계를 볼 때
+     * 사용한다.
+     *
+     * @return 공유 캐시
+     */
+    public static KoreanMatcherCache cache() {
+        return CACHE;
+    }
+
+    /**
+     * 이 인스턴스를 초기화할 때 지정한 패턴을 구한다.
+     *
+     * @return 앵커를 포함한 패턴
+     */
+    public String pattern() {
+        return _source;
+    }
+
+    /**
+     * 이 인스턴스를 초기화할 때 지정한 검색 옵션을 구한다.
+     *
+     * @return 검색 옵션의 복사본
+     */
+    public EnumSet<MatchingOptions> options() {
+        return EnumSet.copyOf(_options);
+    }
+
+    /**
+     * 이 인스턴스가 허용하는 최대 편집 횟수를 구한다.
+     *
+     * @return 생성할 때 지정한 최대 편집 횟수. 편집을 허용하지 않으면 {@code 0}.
+     */
+    public int maxEdits() {
+        return _maxEdits;
     }
 
     private String stripAnchors(String pattern) {
@@ -410,38 +2009,107 @@ public final class KoreanTextMatcher {
         return pattern.substring(startIndex, startIndex + length);
     }
 
-    private record SearchRange(int startIndex, int length) {}
-
-    private SearchRange getSearchRange(String text, final int hintIndex, final int hintLength) {
+    private long getSearchRange(CharSequence text, final int hintIndex, final int hintLength) {
         int startIndex = hintIndex;
         int length = text.length() - hintIndex;
 
+        //
+        // With edits, a match may be shorter or longer than the pattern, so
+        // the jamo search takes care of the anchors over the whole text.
+        //
+        if (_jamoPattern != null)
+            return (_hasStartAnchor && hintIndex != 0) ? NOT_FOUND : pack(startIndex, length);
+
         if (length < hintLength)
-            return null;
+            return NOT_FOUND;
 
         if (_hasStartAnchor && _hasEndAnchor) {
             if (text.length() != hintLength)
-                return null;
+                return NOT_FOUND;
         } else if (_hasEndAnchor) {
             startIndex = text.length() - hintLength;
             length = hintLength;
         } else if (_hasStartAnchor) {
             if (hintIndex != 0)
-                return null;
+                return NOT_FOUND;
 
-            length = (_options.contains(MatchingOptions.DubeolsikInput)
-                      && _splitPattern != null)
-                ? hintLength + 1
+            length = (_splitPattern != null)
+                ? Math.min(hintLength + 1, text.length())
                 : hintLength;
         }
-        return new SearchRange(startIndex, length);
+        return pack(startIndex, length);
+    }
+
+    int patternLength() {
+        return _pattern.length();
+    }
+
+    boolean hasJamoPattern() {
+        return _jamoPattern != null;
+    }
+
+    boolean isBitParallel() {
+        return _bitParallel;
+    }
+
+    KoreanTextPattern getPattern() {
+        return _pattern;
+    }
+
+    boolean hasSplitPattern() {
+        return _splitPattern != null;
     }
 
-    private static boolean isLatinAlphabet(char c) {
-        return (c >= 'A' && c <= 'Z') || (c >= 'a' && c <= 'z');
+    KoreanTextPattern getSplitPattern() {
+        return _splitPattern;
     }
 
-    private static boolean isWhitespace(char c) {
-        return c == ' ' || c == '\t' || c == '\n' || c == '\r';
+    boolean hasStartAnchor() {
+        return _hasStartAnchor;
+    }
+
+    boolean hasEndAnchor() {
+        return _hasEndAnchor;
+    }
+
+    boolean ignoresWhitespace() {
+        return _ignoreWhitespace;
+    }
+
+    static long pack(int index, int length) {
+        return ((long)index << 32) | length;
+    }
+
+    static int unpackIndex(long packed) {
+        return (int)(packed >>> 32);
+    }
+
+    static int unpackLength(long packed) {
+        return (int)packed;
+    }
+
+    //
+    // Reads text[index] with String and CharArraySequence dispatched
+    // statically. Both are final, so the type checks are exact, and the
+    // virtual call at the end is never taken by the engines above.
+    //
+    static char charAt(CharSequence text, int index) {
+        if (text instanceof String string)
+            return string.charAt(index);
+        if (text instanceof CharArraySequence array)
+            return array.charAt(index);
+
+        return text.charAt(index);
+    }
+
+    //
+    // One bit test instead of a chain of four compares, which mispredicts
+    // badly on text where whitespace and other chars are mixed at random.
+    //
+    private static final long WHITESPACE_BITS =
+        (1L << ' ') | (1L << '\t') | (1L << '\n') | (1L << '\r');
+
+    static boolean isWhitespace(char c) {
+        return c <= ' ' && (WHITESPACE_BITS & (1L << c)) != 0;
     }
 }
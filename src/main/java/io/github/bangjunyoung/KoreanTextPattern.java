@@ -0,0 +1,186 @@
+/*
+ * Copyright 2026 Bang Jun-young
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions
+ * are met:
+ * 1. Redistributions of source code must retain the above copyright
+ *    notice, this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright
+ *    notice, this list of conditions and the following disclaimer in the
+ *    documentation and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE AUTHOR ``AS IS'' AND ANY EXPRESS OR
+ * IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES
+ * OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED.
+ * IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY DIRECT, INDIRECT,
+ * INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT
+ * NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF
+ * THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.github.bangjunyoung;
+
+/**
+ * 검색 패턴을 위치별 매칭 조건으로 컴파일한 결과를 담고 있는 클래스.
+ * <p>
+ * 패턴의 각 문자는 생성 시점에 한 번만 분류되어 다음 두 가지 조건으로 바뀐다.
+ * <ul>
+ * <li>문자 비교: {@code (c | caseMask) == expected}. 대소문자를 구분하지 않는
+ *     영문자는 {@code caseMask}가 {@code 0x20}이고 그 외에는 {@code 0}이다.
+ * <li>음절 근사 비교: {@code (jamoCode(c) & jamoMask) == jamoCode}. 자모 코드가
+ *     없는 문자는 이 조건이 항상 거짓이 되도록 컴파일된다.
+ * </ul>
+ * 이 클래스의 인스턴스는 불변이며 여러 스레드에서 공유할 수 있다.
+ *
+ * @author 방준영 &lt;bang.junyoung@gmail.com&gt;
+ */
+final class KoreanTextPattern {
+
+    private final char[] _chars;
+    private final char[] _expectedChars;
+    private final char[] _caseMasks;
+    private final int[] _jamoCodes;
+    private final int[] _jamoMasks;
+
+    KoreanTextPattern(String pattern, boolean ignoreCase) {
+        final int length = pattern.length();
+
+        _chars = pattern.toCharArray();
+        _expectedChars = new char[length];
+        _caseMasks = new char[length];
+        _jamoCodes = new int[length];
+        _jamoMasks = new int[length];
+
+        for (int i = 0; i < length; i++) {
+            final char c = _chars[i];
+
+            if (ignoreCase && isLatinAlphabet(c)) {
+                _caseMasks[i] = 0x20;
+                _expectedChars[i] = (char)(c | 0x20);
+            } else
+                _expectedChars[i] = c;
+
+            final int jamoCode = KoreanCharApproxMatcher.jamoCode(c);
+            if (jamoCode != 0) {
+                _jamoCodes[i] = jamoCode;
+                _jamoMasks[i] = KoreanCharApproxMatcher.jamoMask(jamoCode);
+            } else {
+                _jamoCodes[i] = -1;
+                _jamoMasks[i] = 0;
+            }
+        }
+    }
+
+    /**
+     * 두벌식 키보드에서 마지막 음절의 종성이 다음 음절의 초성으로 넘어간 형태의
+     * 패턴을 만든다. 예를 들어 {@code "한국"}은 {@code "한구ㄱ"}이 된다.
+     *
+     * @return 마지막 문자가 종성이 있는 음절이면 새 패턴, 아니면 {@code null}.
+     */
+    static KoreanTextPattern splitLastSyllable(String pattern, boolean ignoreCase) {
+        final int length = pattern.length();
+        if (length == 0)
+            return null;
+
+        final char last = pattern.charAt(length - 1);
+        if (!KoreanChar.isSyllable(last) || !KoreanChar.hasJongseong(last))
+            return null;
+
+        return new KoreanTextPattern(
+            pattern.substring(0, length - 1) + KoreanChar.splitTrailingConsonant(last), ignoreCase);
+    }
+
+    private KoreanTextPattern(int length) {
+        _chars = new char[length];
+        _expectedChars = new char[length];
+        _caseMasks = new char[length];
+        _jamoCodes = new int[length];
+        _jamoMasks = new int[length];
+    }
+
+    /**
+     * 이 패턴 뒤에 {@code other}의 {@code from}번째 위치부터 끝까지를 이어붙인
+     * 새 패턴을 만든다.
+     */
+    KoreanTextPattern append(KoreanTextPattern other, int from) {
+        final int length = _chars.length;
+        final int otherLength = other._chars.length - from;
+
+        final KoreanTextPattern result = new KoreanTextPattern(length + otherLength);
+        copy(this, 0, result, 0, length);
+        copy(other, from, result, length, otherLength);
+
+        return result;
+    }
+
+    private static void copy(KoreanTextPattern source, int sourceIndex,
+            KoreanTextPattern destination, int destinationIndex, int length) {
+        System.arraycopy(source._chars, sourceIndex, destination._chars, destinationIndex, length);
+        System.arraycopy(source._expectedChars, sourceIndex, destination._expectedChars, destinationIndex, length);
+        System.arraycopy(source._caseMasks, sourceIndex, destination._caseMasks, destinationIndex, length);
+        System.arraycopy(source._jamoCodes, sourceIndex, destination._jamoCodes, destinationIndex, length);
+        System.arraycopy(source._jamoMasks, sourceIndex, destination._jamoMasks, destinationIndex, length);
+    }
+
+    int length() {
+        return _chars.length;
+    }
+
+    char charAt(int index) {
+        return _chars[index];
+    }
+
+    boolean isMatch(int index, char c) {
+        return (c | _caseMasks[index]) == _expectedChars[index]
+            || (KoreanCharApproxMatcher.jamoCode(c) & _jamoMasks[index]) == _jamoCodes[index];
+    }
+
+    /**
+     * 이 패턴에 매치되는 모든 문자열이 {@code other}에도 매치되는지 조사한다.
+     * 이 패턴이 {@code other}보다 짧지 않고, {@code other}의 각 위치에 대해 이
+     * 패턴의 같은 위치가 받아들이는 문자가 모두 {@code other}도 받아들이는
+     * 문자일 때 참이다.
+     */
+    boolean narrows(KoreanTextPattern other) {
+        final int otherLength = other._chars.length;
+        if (_chars.length < otherLength)
+            return false;
+
+        for (int i = 0; i < otherLength; i++) {
+            if (_expectedChars[i] == other._expectedChars[i] && _caseMasks[i] == other._caseMasks[i])
+                continue;
+
+            //
+            // A jamo code that extends other's code, such as '한' over '하'
+            // or 'ㄲ' over 'ㄱ', only accepts chars other accepts too.
+            //
+            if (_jamoCodes[i] == -1 || other._jamoCodes[i] == -1
+                || (_jamoCodes[i] & other._jamoMasks[i]) != other._jamoCodes[i])
+                return false;
+        }
+
+        return true;
+    }
+
+    /**
+     * {@link #isMatch(int, char)}와 같지만 {@code c}의 자모 코드를 새로 구하지
+     * 않고 주어진 {@code jamoCode}를 사용한다.
+     */
+    boolean isMatch(int index, char c, int jamoCode) {
+        return (c | _caseMasks[index]) == _expectedChars[index]
+            || (jamoCode & _jamoMasks[index]) == _jamoCodes[index];
+    }
+
+    boolean isExactMatch(int index, char c) {
+        return (c | _caseMasks[index]) == _expectedChars[index];
+    }
+
+    static boolean isLatinAlphabet(char c) {
+        return (c >= 'A' && c <= 'Z') || (c >= 'a' && c <= 'z');
+    }
+}
@@ -0,0 +1,114 @@
+/*
+ * Copyright 2026 Bang Jun-young
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions
+ * are met:
+ * 1. Redistributions of source code must retain the above copyright
+ *    notice, this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright
+ *    notice, this list of conditions and the following disclaimer in the
+ *    documentation and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE AUTHOR ``AS IS'' AND ANY EXPRESS OR
+ * IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES
+ * OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED.
+ * IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY DIRECT, INDIRECT,
+ * INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT
+ * NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF
+ * THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.github.bangjunyoung;
+
+/**
+ * 점수가 가장 높은 {@code k}개의 항목만 남기는 힙.
+ * <p>
+ * 점수와 번호를 기본형 배열에 담은 최소 힙으로, 루트에는 지금까지 남은 항목 중
+ * 가장 낮은 {@code k}번째 항목이 있다. 점수가 같으면 번호가 작은 항목이 앞선다.
+ *
+ * @author 방준영 &lt;bang.junyoung@gmail.com&gt;
+ */
+final class KoreanTopHits {
+
+    private final long[] _scores;
+    private final int[] _ids;
+    private int _size;
+
+    KoreanTopHits(int k) {
+        _scores = new long[k];
+        _ids = new int[k];
+    }
+
+    boolean isFull() {
+        return _size == _scores.length;
+    }
+
+    /**
+     * 주어진 점수와 번호의 항목이 힙에 들어갈 수 있는지 조사한다. 번호는 오름차순으로
+     * 주어진다고 가정하므로, 힙이 꽉 찼을 때는 {@code k}번째 항목보다 점수가 높아야
+     * 한다.
+     */
+    boolean accepts(long score) {
+        return !isFull() || (_size > 0 && score > _scores[0]);
+    }
+
+    void add(long score, int id) {
+        if (!isFull()) {
+            int i = _size++;
+            while (i > 0) {
+                final int parent = (i - 1) >>> 1;
+                if (!isWorse(score, id, _scores[parent], _ids[parent]))
+                    break;
+                _scores[i] = _scores[parent];
+                _ids[i] = _ids[parent];
+                i = parent;
+            }
+            _scores[i] = score;
+            _ids[i] = id;
+        } else if (_size > 0 && isWorse(_scores[0], _ids[0], score, id))
+            siftDown(score, id);
+    }
+
+    /**
+     * 남은 항목의 번호를 점수가 높은 것부터 꺼낸다. 힙은 빈다.
+     */
+    int[] drain() {
+        final int[] result = new int[_size];
+        for (int i = _size - 1; i >= 0; i--) {
+            result[i] = _ids[0];
+            final long lastScore = _scores[--_size];
+            final int lastId = _ids[_size];
+            if (_size > 0)
+                siftDown(lastScore, lastId);
+        }
+
+        return result;
+    }
+
+    private void siftDown(long score, int id) {
+        int i = 0;
+        while (true) {
+            int child = 2 * i + 1;
+            if (child >= _size)
+                break;
+            if (child + 1 < _size && isWorse(_scores[child + 1], _ids[child + 1], _scores[child], _ids[child]))
+                child++;
+            if (!isWorse(_scores[child], _ids[child], score, id))
+                break;
+            _scores[i] = _scores[child];
+            _ids[i] = _ids[child];
+            i = child;
+        }
+        _scores[i] = score;
+        _ids[i] = id;
+    }
+
+    private static boolean isWorse(long score, int id, long otherScore, int otherId) {
+        return score < otherScore || (score == otherScore && id > otherId);
+    }
+}
@@ -0,0 +1,277 @@
+/*
+ * Copyright 2026 Bang Jun-young
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions
+ * are met:
+ * 1. Redistributions of source code must retain the above copyright
+ *    notice, this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright
+ *    notice, this list of conditions and the following disclaimer in the
+ *    documentation and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE AUTHOR ``AS IS'' AND ANY EXPRESS OR
+ * IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES
+ * OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED.
+ * IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY DIRECT, INDIRECT,
+ * INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT
+ * NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF
+ * THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.github.bangjunyoung;
+
+import java.nio.ByteBuffer;
+
+/**
+ * UTF-8로 인코딩된 바이트열을 UTF-16 문자열로 디코딩하지 않고 그 자리에서
+ * 검색하는 Shift-And 스캐너.
+ * <p>
+ * 바이트열을 한 문자씩 디코딩하면서 곧바로 {@link KoreanPatternMasks}를 조회하며,
+ * 매치의 위치와 길이는 바이트 단위로 알려준다. 바이트열을 여러 번에 나누어
+ * 넘겨도 되며, 이때는 앞 조각에서 만든 매칭 상태를 그대로 이어서 검색한다.
+ * <p>
+ * 앵커는 문자 수 대신 매치의 위치에 적용된다. 즉 {@code ^}는 매치가 입력의
+ * 처음에서 시작해야 하고 {@code $}는 입력의 끝에서 끝나야 한다는 뜻이다.
+ * <p>
+ * 이 클래스의 인스턴스는 검색 상태를 담고 있으므로 스레드 안전하지 않다.
+ *
+ * @author 방준영 &lt;bang.junyoung@gmail.com&gt;
+ */
+final class KoreanUtf8Scanner {
+
+    private static final char REPLACEMENT_CHAR = '�';
+
+    private final KoreanPatternMasks _masks;
+    private final int _patternLength;
+    private final boolean _dubeolsikInput;
+    private final boolean _ignoreWhitespace;
+    private final boolean _hasStartAnchor, _hasEndAnchor;
+
+    private final long _acceptBit, _patternBits, _splitBit, _splitEndBit;
+
+    //
+    // Start offsets and line numbers of the last chars that took part in
+    // matching, enough to find where a match of the split pattern began.
+    //
+    private final long[] _starts, _lines;
+    private final int _startsMask;
+    private long _charCount;
+    private long _lineCount;
+    private long _state;
+
+    private long _matchIndex, _matchLength, _matchLine;
+    private int _position;
+
+    // With an end anchor, the last match seen so far, which counts only if
+    // the input ends right after it.
+    private long _candidateIndex = -1, _candidateLength, _candidateLine;
+
+    KoreanUtf8Scanner(KoreanTextMatcher matcher) {
+        if (!matcher.isBitParallel())
+            throw new IllegalArgumentException("pattern: too long to match against UTF-8 input");
+        if (matcher.hasJamoPattern())
+            throw new IllegalArgumentException("matcher: edits or jamo streams are not supported on UTF-8 input");
+
+        _masks = matcher.getMasks();
+        _patternLength = matcher.patternLength();
+        _dubeolsikInput = matcher.hasSplitPattern();
+        _ignoreWhitespace = matcher.ignoresWhitespace();
+        _hasStartAnchor = matcher.hasStartAnchor();
+        _hasEndAnchor = matcher.hasEndAnchor();
+
+        _acceptBit = 1L << (_patternLength - 1);
+        _patternBits = (_acceptBit << 1) - 1;
+        _splitBit = _acceptBit << 1;
+        _splitEndBit = _acceptBit << 2;
+
+        final int window = _patternLength + 1;
+        _starts = new long[Integer.highestOneBit(window) << 1];
+        _lines = new long[_starts.length];
+        _startsMask = _starts.length - 1;
+    }
+
+    long matchIndex() {
+        return _matchIndex;
+    }
+
+    long matchLength() {
+        return _matchLength;
+    }
+
+    /**
+     * 매치가 시작하는 줄의 번호를 구한다. 줄 번호는 지금까지 읽은 바이트열에서
+     * 매치 앞에 나온 {@code '\n'}의 개수다.
+     */
+    long matchLine() {
+        return _matchLine;
+    }
+
+    /**
+     * 마지막 {@link #scan} 호출이 검색을 멈춘 버퍼 내 위치를 구한다. 매치를
+     * 찾았으면 매치 바로 뒤, 아니면 아직 읽지 않은 첫 바이트의 위치다.
+     */
+    int position() {
+        return _position;
+    }
+
+    /**
+     * {@code buffer[from .. to)}를 이어서 검색하다가 매치를 찾으면 멈춘다.
+     *
+     * @param base 버퍼 내 위치에 더해 절대 위치를 구하는 값
+     * @param endOfInput 이 조각이 입력의 마지막이면 {@code true}. 마지막이 아니면
+     *        조각 끝에 걸친 UTF-8 바이트열은 읽지 않고 남겨둔다.
+     * @return 매치를 찾았으면 {@code true}.
+     */
+    boolean scan(ByteBuffer buffer, int from, int to, long base, boolean endOfInput) {
+        int p = from;
+        while (p < to) {
+            final int b0 = buffer.get(p) & 0xFF;
+
+            //
+            // Decodes one code point. A malformed sequence decodes to
+            // U+FFFD one byte at a time; a sequence cut off by the end of
+            // the piece is left for the next call unless the input ends.
+            //
+            int c = REPLACEMENT_CHAR;
+            int n = 1;
+            if (b0 < 0x80) {
+                c = b0;
+            } else if (b0 >= 0xC2 && b0 < 0xE0) {
+                if (p + 1 >= to && !endOfInput)
+                    break;
+                if (p + 1 < to && isContinuation(buffer.get(p + 1))) {
+                    c = (b0 & 0x1F) << 6 | (buffer.get(p + 1) & 0x3F);
+                    n = 2;
+                }
+            } else if (b0 >= 0xE0 && b0 < 0xF0) {
+                if (p + 2 >= to && !endOfInput)
+                    break;
+                if (p + 2 < to && isContinuation(buffer.get(p + 1)) && isContinuation(buffer.get(p + 2))) {
+                    final int cp = (b0 & 0x0F) << 12 | (buffer.get(p + 1) & 0x3F) << 6 | (buffer.get(p + 2) & 0x3F);
+                    if (cp >= 0x800 && !Character.isSurrogate((char)cp)) {
+                        c = cp;
+                        n = 3;
+                    }
+                }
+            } else if (b0 >= 0xF0 && b0 < 0xF5) {
+                if (p + 3 >= to && !endOfInput)
+                    break;
+                if (p + 3 < to && isContinuation(buffer.get(p + 1))
+                    && isContinuation(buffer.get(p + 2)) && isContinuation(buffer.get(p + 3))) {
+                    final int cp = (b0 & 0x07) << 18 | (buffer.get(p + 1) & 0x3F) << 12
+                        | (buffer.get(p + 2) & 0x3F) << 6 | (buffer.get(p + 3) & 0x3F);
+                    if (cp >= 0x10000 && cp <= Character.MAX_CODE_POINT) {
+                        c = cp;
+                        n = 4;
+                    }
+                }
+            }
+
+            final long start = base + p;
+            final long end = start + n;
+            p += n;
+
+            final boolean found = (c < Character.MIN_SUPPLEMENTARY_CODE_POINT)
+                ? step((char)c, start, end)
+                : step(Character.highSurrogate(c), start, end) || step(Character.lowSurrogate(c), start, end);
+            if (c == '\n')
+                _lineCount++;
+            if (found) {
+                _position = p;
+                return true;
+            }
+        }
+
+        _position = p;
+
+        if (endOfInput && p == to && _candidateIndex >= 0) {
+            final boolean atEnd = _candidateIndex + _candidateLength == base + to;
+            _matchIndex = _candidateIndex;
+            _matchLength = _candidateLength;
+            _matchLine = _candidateLine;
+            _candidateIndex = -1;
+            return atEnd;
+        }
+
+        return false;
+    }
+
+    //
+    // Feeds one char to the Shift-And automaton, as bitParallelSearch() in
+    // KoreanTextMatcher does, except that whitespace leaves the state as it
+    // is with IgnoreWhitespace.
+    //
+    private boolean step(char c, long start, long end) {
+        if (_ignoreWhitespace && KoreanTextMatcher.isWhitespace(c))
+            return false;
+
+        _starts[(int)_charCount & _startsMask] = start;
+        _lines[(int)_charCount & _startsMask] = _lineCount;
+        _charCount++;
+
+        final long mask = _masks.get(c);
+        final long shifted = (_state << 1) | ((!_hasStartAnchor || start == 0) ? 1 : 0);
+
+        if (_dubeolsikInput && (_state & _splitBit) != 0 && (mask & _splitEndBit) != 0
+            && accept((int)(_charCount - _patternLength - 1) & _startsMask, end))
+            return true;
+
+        long next = shifted & mask & _patternBits;
+        if ((next & _acceptBit) != 0
+            && accept((int)(_charCount - _patternLength) & _startsMask, end))
+            return true;
+
+        if (_dubeolsikInput)
+            next |= (shifted << 1) & mask & _splitBit;
+        _state = next;
+        return false;
+    }
+
+    private boolean accept(int slot, long end) {
+        final long start = _starts[slot];
+        if (_hasEndAnchor) {
+            //
+            // Keep going: only a match that the input ends right after
+            // counts. Of two candidates ending together, the first one
+            // seen starts earlier.
+            //
+            if (_candidateIndex < 0 || _candidateIndex + _candidateLength != end) {
+                _candidateIndex = start;
+                _candidateLength = end - start;
+                _candidateLine = _lines[slot];
+            }
+            return false;
+        }
+
+        _matchIndex = start;
+        _matchLength = end - start;
+        _matchLine = _lines[slot];
+        _state = 0;
+        return true;
+    }
+
+    /**
+     * 주어진 바이트로 시작하는 UTF-8 바이트열의 길이를 구한다. 올바른 시작
+     * 바이트가 아니면 {@code 1}을 반환한다.
+     */
+    static int sequenceLength(byte b0) {
+        final int b = b0 & 0xFF;
+        if (b >= 0xC2 && b < 0xE0)
+            return 2;
+        if (b >= 0xE0 && b < 0xF0)
+            return 3;
+        if (b >= 0xF0 && b < 0xF5)
+            return 4;
+
+        return 1;
+    }
+
+    private static boolean isContinuation(byte b) {
+        return (b & 0xC0) == 0x80;
+    }
+}
@@ -0,0 +1,107 @@
+/*
+ * Copyright 2026 Bang Jun-young
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions
+ * are met:
+ * 1. Redistributions of source code must retain the above copyright
+ *    notice, this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright
+ *    notice, this list of conditions and the following disclaimer in the
+ *    documentation and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE AUTHOR ``AS IS'' AND ANY EXPRESS OR
+ * IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES
+ * OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED.
+ * IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY DIRECT, INDIRECT,
+ * INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT
+ * NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF
+ * THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.github.bangjunyoung;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+import static org.junit.jupiter.params.provider.Arguments.arguments;
+
+import java.util.stream.Stream;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+class KoreanCandidateScannerTests {
+
+    static Stream<Arguments> rangesTestParameters() {
+        return Stream.of(
+            arguments("한", false, false, 1),
+            arguments("ㅎ", false, false, 3),
+            arguments("ㄱ", false, false, 3),
+            arguments("가", false, false, 1),
+            arguments("갃", false, false, 1),
+            arguments("k", false, false, 1),
+            arguments("k", true, false, 2),
+            arguments("1", true, false, 1),
+            arguments("한", false, true, 1),
+            arguments("하나", false, true, 1),
+            arguments("ᄒ", false, false, 3),
+            arguments("ㅏ", false, false, 1)
+        );
+    }
+
+    @ParameterizedTest(name = "ranges❨{0}❩ with ignoreCase = {1}, dubeolsikInput = {2} makes {3} range(s)")
+    @MethodSource("rangesTestParameters")
+    void rangesTest(String pattern, boolean ignoreCase, boolean dubeolsikInput, int expectedCount) {
+        final KoreanTextPattern textPattern = new KoreanTextPattern(pattern, ignoreCase);
+        final KoreanTextPattern splitPattern = dubeolsikInput && pattern.length() == 1
+            ? KoreanTextPattern.splitLastSyllable(pattern, ignoreCase)
+            : null;
+
+        final char[] ranges = KoreanCandidateScanner.ranges(textPattern, splitPattern);
+
+        assertThat(ranges).hasSize(expectedCount * 2);
+        for (int c = Character.MIN_VALUE; c <= Character.MAX_VALUE; c++) {
+            final boolean expected = textPattern.isMatch(0, (char)c)
+                || (splitPattern != null && splitPattern.isMatch(0, (char)c));
+            assertThat(isInRanges((char)c, ranges)).as("U+%04X", c).isEqualTo(expected);
+        }
+    }
+
+    static Stream<Arguments> nextTestParameters() {
+        return Stream.of(
+            arguments("가나다라마바사아자차카타파하".repeat(10) + "한", "한", 140),
+            arguments("abc".repeat(100), "한", 300),
+            arguments("abc".repeat(100) + "ㅎ", "ㅎ", 300),
+            arguments("abcK", "k", 4),
+            arguments("abcK", "K", 3),
+            arguments("", "한", 0),
+            arguments("x".repeat(40) + "핞" + "x".repeat(40), "한", 40)
+        );
+    }
+
+    @ParameterizedTest(name = "next❨ ❩ finds {1} at {2}")
+    @MethodSource("nextTestParameters")
+    void nextTest(String text, String pattern, int expected) {
+        final KoreanCandidateScanner scanner = KoreanCandidateScanner.INSTANCE;
+        assumeTrue(scanner != null, "the Vector API prefilter isn't available");
+
+        final char[] ranges = KoreanCandidateScanner.ranges(new KoreanTextPattern(pattern, false), null);
+        final char[] buffer = ("__" + text + "__").toCharArray();
+
+        assertThat(scanner.next(buffer, 2, 2 + text.length(), ranges) - 2).isEqualTo(expected);
+    }
+
+    private static boolean isInRanges(char c, char[] ranges) {
+        for (int i = 0; i < ranges.length; i += 2) {
+            if (ranges[i] <= c && c <= ranges[i + 1])
+                return true;
+        }
+
+        return false;
+    }
+}
@@ -54,10 +54,18 @@ class KoreanCharApproxMatcherTests {
             arguments('꽜', '꽈', true),
             arguments('꽜', '꽛', true),
             arguments('꽜', '꽜', true),
+            arguments('ㄲ', 'ㄱ', true),
+            arguments('ᄁ', 'ㄱ', true),
+            arguments('까', 'ㄱ', true),
+            arguments('갂', '각', true),
             arguments('H', 'h', false),
             arguments('하', '한', false),
             arguments('한', 'ㅏ', false),
-            arguments('한', '핞', false)
+            arguments('한', '핞', false),
+            arguments('까', '가', false),
+            arguments('ㄳ', 'ㄱ', false),
+            arguments('ㅘ', 'ㅗ', false),
+            arguments('a', 'ㅏ', false)
         );
     }
 
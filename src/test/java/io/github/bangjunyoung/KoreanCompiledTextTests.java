@@ -0,0 +1,127 @@
+/*
+ * Copyright 2026 Bang Jun-young
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions
+ * are met:
+ * 1. Redistributions of source code must retain the above copyright
+ *    notice, this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright
+ *    notice, this list of conditions and the following disclaimer in the
+ *    documentation and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE AUTHOR ``AS IS'' AND ANY EXPRESS OR
+ * IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES
+ * OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED.
+ * IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY DIRECT, INDIRECT,
+ * INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT
+ * NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF
+ * THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.github.bangjunyoung;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.params.provider.Arguments.arguments;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import io.github.bangjunyoung.KoreanTextMatcher.MatchingOptions;
+
+class KoreanCompiledTextTests {
+
+    @Test
+    void constructorExceptionTest() {
+        assertThatThrownBy(() -> new KoreanCompiledText(null)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    static Stream<Arguments> charSequenceTestParameters() {
+        return Stream.of(
+            arguments(""),
+            arguments("한글"),
+            arguments("한글 음절 근사 매칭\n")
+        );
+    }
+
+    @ParameterizedTest(name = "KoreanCompiledText❨\"{0}\"❩ reads the same as the original")
+    @MethodSource("charSequenceTestParameters")
+    void charSequenceTest(String text) {
+        final KoreanCompiledText compiled = new KoreanCompiledText(text);
+
+        assertThat(compiled.length()).isEqualTo(text.length());
+        assertThat(compiled.toString()).isSameAs(text);
+        assertThat(compiled).hasToString(text);
+        for (int i = 0; i < text.length(); i++)
+            assertThat(compiled.charAt(i)).isEqualTo(text.charAt(i));
+        if (text.length() > 1)
+            assertThat(compiled.subSequence(1, text.length()).toString()).isEqualTo(text.substring(1));
+    }
+
+    static Stream<Arguments> matchesTestParameters() {
+        return Stream.of(
+            arguments("", "", MatchingOptions.Default),
+            arguments("하늘", "", MatchingOptions.Default),
+            arguments("바다 하늘 바다", "바다", MatchingOptions.Default),
+            arguments("바다 하늘 바다", "^바다", MatchingOptions.Default),
+            arguments("바다 하늘 바다", "바다$", MatchingOptions.Default),
+            arguments("한글 음절 근사 매칭", "음ㅈ ㄱㅅ", MatchingOptions.Default),
+            arguments("한구기 한국어 한구ㄱ", "한국", MatchingOptions.DubeolsikInput),
+            arguments("한국", "^한", MatchingOptions.DubeolsikInput),
+            arguments("Tik Tak TIK tak", "tik", MatchingOptions.IgnoreCase),
+            arguments("하\n늘       하\t늘 하늘", "하늘", MatchingOptions.IgnoreWhitespace),
+            arguments(" 하 늘 ", "^하늘", MatchingOptions.IgnoreWhitespace),
+            arguments("한 구 기 한구", "한국", MatchingOptions.IgnoreWhitespace),
+            arguments("가나다라 ".repeat(100) + "한글 음절 근사 매칭", "음ㅈ", MatchingOptions.Default),
+            arguments("가나다라 ".repeat(100) + "한 글 음 절", "글음", MatchingOptions.IgnoreWhitespace)
+        );
+    }
+
+    @ParameterizedTest(name = "matches❨{1}, {2}❩ agrees with matching the original")
+    @MethodSource("matchesTestParameters")
+    void matchesTest(String text, String pattern, MatchingOptions option) {
+        final KoreanTextMatcher matcher = new KoreanTextMatcher(pattern, option);
+
+        final List<String> expected = new ArrayList<>();
+        for (KoreanTextMatch match : matcher.matches(text))
+            expected.add(match.index() + ":" + match.value());
+
+        final List<String> actual = new ArrayList<>();
+        for (KoreanTextMatch match : matcher.matches(new KoreanCompiledText(text)))
+            actual.add(match.index() + ":" + match.value());
+
+        assertThat(actual).isEqualTo(expected);
+    }
+
+    static Stream<Arguments> tablesTestParameters() {
+        final String longText = "가나다라마바사".repeat(100) + "한글음절근사매칭";
+
+        return Stream.of(
+            arguments(longText, "음ㅈ", MatchingOptions.Default, false),
+            arguments(longText, "음ㅈ", MatchingOptions.IgnoreWhitespace, false),
+            arguments(longText, "한그", MatchingOptions.DubeolsikInput, false),
+            arguments("한글 음절 근사 매칭", "음ㅈ", MatchingOptions.Default, true)
+        );
+    }
+
+    @ParameterizedTest(name = "match❨{1}, {2}❩ builds the tables: {3}")
+    @MethodSource("tablesTestParameters")
+    void tablesTest(String text, String pattern, MatchingOptions option, boolean expected) {
+        final KoreanCompiledText compiled = new KoreanCompiledText(text);
+        final KoreanTextMatch match = new KoreanTextMatcher(pattern, option).match(compiled);
+
+        assertThat(match.success()).isTrue();
+        assertThat(compiled.hasTables()).isEqualTo(expected);
+    }
+}
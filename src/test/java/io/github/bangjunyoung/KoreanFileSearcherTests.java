@@ -0,0 +1,152 @@
+/*
+ * Copyright 2026 Bang Jun-young
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions
+ * are met:
+ * 1. Redistributions of source code must retain the above copyright
+ *    notice, this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright
+ *    notice, this list of conditions and the following disclaimer in the
+ *    documentation and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE AUTHOR ``AS IS'' AND ANY EXPRESS OR
+ * IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES
+ * OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED.
+ * IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY DIRECT, INDIRECT,
+ * INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT
+ * NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF
+ * THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.github.bangjunyoung;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.params.provider.Arguments.arguments;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.assertj.core.api.ThrowableAssert.ThrowingCallable;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import io.github.bangjunyoung.KoreanTextMatcher.MatchingOptions;
+
+class KoreanFileSearcherTests {
+
+    @TempDir
+    static Path tempDir;
+
+    static Stream<Arguments> constructorExceptionTestParameters() {
+        return Stream.of(
+            arguments((ThrowingCallable) () -> new KoreanFileSearcher(null), "matcher = null"),
+            arguments((ThrowingCallable) () -> new KoreanFileSearcher(new KoreanTextMatcher(""), 0), "windowSize = 0"),
+            arguments((ThrowingCallable) () -> new KoreanFileSearcher(new KoreanTextMatcher("가".repeat(65))), "pattern.length❨ ❩ > 64"),
+            arguments((ThrowingCallable) () -> new KoreanFileSearcher(new KoreanTextMatcher("가", 1)), "maxEdits > 0"),
+            arguments((ThrowingCallable) () -> new KoreanFileSearcher(new KoreanTextMatcher("가", MatchingOptions.JamoStream)), "JamoStream")
+        );
+    }
+
+    @ParameterizedTest(name = "new KoreanFileSearcher❨ ❩ with {1} throws IllegalArgumentException")
+    @MethodSource("constructorExceptionTestParameters")
+    void constructorExceptionTest(ThrowingCallable func, String description) {
+        assertThatThrownBy(func).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    static Stream<Arguments> searchTestParameters() {
+        return Stream.of(
+            arguments("", "", MatchingOptions.Default, List.of("0:0@1")),
+            arguments("하\n늘", "", MatchingOptions.Default, List.of("0:0@1", "3:0@1", "4:0@2", "7:0@2")),
+            arguments("하\n늘", "^", MatchingOptions.Default, List.of("0:0@1")),
+            arguments("하\n늘", "$", MatchingOptions.Default, List.of("7:0@2")),
+            arguments("바다\n하늘\n바다", "바다", MatchingOptions.Default, List.of("0:6@1", "14:6@3")),
+            arguments("바다\n하늘\n바다", "^바다", MatchingOptions.Default, List.of("0:6@1")),
+            arguments("바다\n하늘\n바다", "바다$", MatchingOptions.Default, List.of("14:6@3")),
+            arguments("하\n늘\n\n하늘", "하늘", MatchingOptions.IgnoreWhitespace, List.of("0:7@1", "9:6@4")),
+            arguments("한구기\n한국어", "한국", MatchingOptions.DubeolsikInput, List.of("0:9@1", "10:6@2")),
+            arguments("café\n😀 Tik", "tik", MatchingOptions.IgnoreCase, List.of("11:3@2"))
+        );
+    }
+
+    @ParameterizedTest(name = "search❨{0}, {1}, {2}❩ returns {3}")
+    @MethodSource("searchTestParameters")
+    void searchTest(String text, String pattern, MatchingOptions option, List<String> expected) throws IOException {
+        final Path file = Files.write(tempDir.resolve("search.txt"), text.getBytes(StandardCharsets.UTF_8));
+
+        final List<String> actual = new ArrayList<>();
+        final long count = new KoreanFileSearcher(new KoreanTextMatcher(pattern, option))
+            .search(file, (offset, length, lineNumber) -> actual.add(offset + ":" + length + "@" + lineNumber));
+
+        assertThat(actual).isEqualTo(expected);
+        assertThat(count).isEqualTo(expected.size());
+    }
+
+    static Stream<Arguments> searchWindowTestParameters() {
+        final String text = "가나다라마바사\n".repeat(2000) + "한글 음절 근사\n매칭" + "\n가나다라 😀".repeat(2000);
+
+        return Stream.of(
+            arguments(text, "음ㅈ ㄱㅅ", MatchingOptions.Default, 1),
+            arguments(text, "ㅈㄱㅅ매", MatchingOptions.IgnoreWhitespace, 4096),
+            arguments(text, "다라마", MatchingOptions.Default, 4096),
+            arguments(text, "다라마", MatchingOptions.Default, 5000),
+            arguments(text, "ㄹ😀", MatchingOptions.IgnoreWhitespace, 4096),
+            arguments(text, "라마밧", MatchingOptions.DubeolsikInput, 4096),
+            arguments(text, "😀$", MatchingOptions.Default, 4096)
+        );
+    }
+
+    @ParameterizedTest(name = "search❨{1}, {2}❩ with window size {3} agrees with KoreanTextMatcher.findUtf8")
+    @MethodSource("searchWindowTestParameters")
+    void searchWindowTest(String text, String pattern, MatchingOptions option, int windowSize) throws IOException {
+        final byte[] bytes = text.getBytes(StandardCharsets.UTF_8);
+        final Path file = Files.write(tempDir.resolve("window.txt"), bytes);
+        final KoreanTextMatcher matcher = new KoreanTextMatcher(pattern, option);
+
+        final List<String> expected = new ArrayList<>();
+        final KoreanMatchCursor cursor = new KoreanMatchCursor();
+        int lineNumber = 1, lineCounted = 0;
+        for (boolean found = matcher.findUtf8(bytes, 0, cursor); found; found = matcher.findNextUtf8(bytes, cursor)) {
+            for (; lineCounted < cursor.index(); lineCounted++) {
+                if (bytes[lineCounted] == '\n')
+                    lineNumber++;
+            }
+            expected.add(cursor.index() + ":" + cursor.length() + "@" + lineNumber);
+        }
+
+        final List<String> actual = new ArrayList<>();
+        new KoreanFileSearcher(matcher, windowSize)
+            .search(file, (offset, length, line) -> actual.add(offset + ":" + length + "@" + line));
+
+        assertThat(actual).isNotEmpty().isEqualTo(expected);
+    }
+
+    static Stream<Arguments> searchExceptionTestParameters() {
+        final KoreanFileSearcher searcher = new KoreanFileSearcher(new KoreanTextMatcher("가"));
+
+        return Stream.of(
+            arguments((ThrowingCallable) () -> searcher.search((Path)null, (offset, length, lineNumber) -> {}), "file = null"),
+            arguments((ThrowingCallable) () -> searcher.search(tempDir, null), "listener = null"),
+            arguments((ThrowingCallable) () -> searcher.search((FileChannel)null, (offset, length, lineNumber) -> {}), "channel = null")
+        );
+    }
+
+    @ParameterizedTest(name = "search❨ ❩ with {1} throws IllegalArgumentException")
+    @MethodSource("searchExceptionTestParameters")
+    void searchExceptionTest(ThrowingCallable func, String description) {
+        assertThatThrownBy(func).isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,149 @@
+/*
+ * Copyright 2026 Bang Jun-young
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions
+ * are met:
+ * 1. Redistributions of source code must retain the above copyright
+ *    notice, this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright
+ *    notice, this list of conditions and the following disclaimer in the
+ *    documentation and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE AUTHOR ``AS IS'' AND ANY EXPRESS OR
+ * IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES
+ * OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED.
+ * IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY DIRECT, INDIRECT,
+ * INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT
+ * NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF
+ * THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.github.bangjunyoung;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.params.provider.Arguments.arguments;
+
+import java.util.EnumSet;
+import java.util.stream.Stream;
+
+import org.assertj.core.api.ThrowableAssert.ThrowingCallable;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import io.github.bangjunyoung.KoreanTextMatcher.MatchingOptions;
+
+class KoreanMatcherCacheTests {
+
+    static Stream<Arguments> exceptionTestParameters() {
+        final KoreanMatcherCache cache = new KoreanMatcherCache(1);
+
+        return Stream.of(
+            arguments((ThrowingCallable) () -> new KoreanMatcherCache(-1), "capacity = -1"),
+            arguments((ThrowingCallable) () -> cache.setCapacity(-1), "capacity = -1"),
+            arguments((ThrowingCallable) () -> cache.get(null), "pattern = null"),
+            arguments((ThrowingCallable) () -> cache.get(null, EnumSet.noneOf(MatchingOptions.class)), "pattern = null"),
+            arguments((ThrowingCallable) () -> KoreanTextMatcher.isMatch(null, "가"), "text = null"),
+            arguments((ThrowingCallable) () -> KoreanTextMatcher.isMatch("가", null), "pattern = null")
+        );
+    }
+
+    @ParameterizedTest(name = "method call with {1} throws IllegalArgumentException")
+    @MethodSource("exceptionTestParameters")
+    void exceptionTest(ThrowingCallable func, String description) {
+        assertThatThrownBy(func).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    static Stream<Arguments> getTestParameters() {
+        return Stream.of(
+            arguments("한글", new MatchingOptions[0], new MatchingOptions[] { MatchingOptions.Default }, true),
+            arguments("한글", new MatchingOptions[] { MatchingOptions.IgnoreCase, MatchingOptions.DubeolsikInput },
+                new MatchingOptions[] { MatchingOptions.DubeolsikInput, MatchingOptions.IgnoreCase }, true),
+            arguments("한글", new MatchingOptions[0], new MatchingOptions[] { MatchingOptions.IgnoreWhitespace }, false),
+            arguments("^한글", new MatchingOptions[0], new MatchingOptions[0], true),
+            arguments("^한글", new MatchingOptions[0], new MatchingOptions[] { MatchingOptions.DubeolsikInput }, false)
+        );
+    }
+
+    @ParameterizedTest(name = "get❨{0}❩ with options {1} and {2} shares the matcher: {3}")
+    @MethodSource("getTestParameters")
+    void getTest(String pattern, MatchingOptions[] options, MatchingOptions[] otherOptions, boolean shared) {
+        final KoreanMatcherCache cache = new KoreanMatcherCache(8);
+
+        final KoreanTextMatcher matcher = cache.get(pattern, options);
+        final KoreanTextMatcher other = cache.get(pattern, otherOptions);
+
+        assertThat(other == matcher).isEqualTo(shared);
+        assertThat(cache.hitCount()).isEqualTo(shared ? 1 : 0);
+        assertThat(cache.missCount()).isEqualTo(shared ? 1 : 2);
+        assertThat(cache.get(pattern, KoreanTextMatcher.toEnumSet(options))).isSameAs(matcher);
+    }
+
+    static Stream<Arguments> capacityTestParameters() {
+        return Stream.of(
+            arguments(1, 10),
+            arguments(4, 3),
+            arguments(4, 100),
+            arguments(64, 1000)
+        );
+    }
+
+    @ParameterizedTest(name = "cache of capacity {0} holds at most {0} of {1} patterns")
+    @MethodSource("capacityTestParameters")
+    void capacityTest(int capacity, int patternCount) {
+        final KoreanMatcherCache cache = new KoreanMatcherCache(capacity);
+
+        for (int round = 0; round < 2; round++) {
+            for (int i = 0; i < patternCount; i++) {
+                final KoreanTextMatcher matcher = cache.get("가" + i);
+                assertThat(matcher.match("가" + i).success()).isTrue();
+                assertThat(cache.size()).isLessThanOrEqualTo(capacity);
+            }
+        }
+
+        assertThat(cache.hitCount() + cache.missCount()).isEqualTo(2L * patternCount);
+        assertThat(cache.evictionCount()).isEqualTo(cache.missCount() - cache.size());
+        if (patternCount <= capacity)
+            assertThat(cache.hitCount()).isEqualTo(patternCount);
+
+        cache.setCapacity(1);
+        assertThat(cache.size()).isLessThanOrEqualTo(1);
+    }
+
+    @Test
+    void disabledTest() {
+        final KoreanMatcherCache cache = new KoreanMatcherCache(4);
+        final KoreanTextMatcher matcher = cache.get("한글");
+
+        cache.setCapacity(0);
+
+        assertThat(cache.size()).isZero();
+        assertThat(cache.get("한글")).isNotSameAs(matcher);
+        assertThat(cache.get("한글")).isNotSameAs(cache.get("한글"));
+        assertThat(cache.hitCount()).isZero();
+
+        cache.resetStats();
+        assertThat(cache.missCount()).isZero();
+    }
+
+    @Test
+    void sharedCacheTest() {
+        final KoreanMatcherCache cache = KoreanTextMatcher.cache();
+        final String pattern = "공유 캐시 " + System.nanoTime();
+
+        final long hitCount = cache.hitCount();
+        assertThat(KoreanTextMatcher.isMatch("공유 캐시를 쓴다", pattern)).isFalse();
+        assertThat(KoreanTextMatcher.match("공유 캐시를 쓴다", pattern).success()).isFalse();
+        assertThat(KoreanTextMatcher.matches("공유 캐시를 쓴다", pattern)).isEmpty();
+
+        assertThat(cache.capacity()).isEqualTo(KoreanMatcherCache.DEFAULT_CAPACITY);
+        assertThat(cache.hitCount() - hitCount).isGreaterThanOrEqualTo(2);
+    }
+}
@@ -0,0 +1,156 @@
+/*
+ * Copyright 2026 Bang Jun-young
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions
+ * are met:
+ * 1. Redistributions of source code must retain the above copyright
+ *    notice, this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright
+ *    notice, this list of conditions and the following disclaimer in the
+ *    documentation and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE AUTHOR ``AS IS'' AND ANY EXPRESS OR
+ * IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES
+ * OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED.
+ * IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY DIRECT, INDIRECT,
+ * INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT
+ * NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF
+ * THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.github.bangjunyoung;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.params.provider.Arguments.arguments;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.assertj.core.api.ThrowableAssert.ThrowingCallable;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import io.github.bangjunyoung.KoreanTextMatcher.MatchingOptions;
+
+class KoreanMultiMatcherTests {
+
+    static Stream<Arguments> constructorExceptionTestParameters() {
+        return Stream.of(
+            arguments((ThrowingCallable) () -> new KoreanMultiMatcher(null), "patterns = null"),
+            arguments((ThrowingCallable) () -> new KoreanMultiMatcher(Arrays.asList("가", null)), "patterns[1] = null"),
+            arguments((ThrowingCallable) () -> new KoreanMultiMatcher(List.of("")), "patterns[0] = \"\""),
+            arguments((ThrowingCallable) () -> new KoreanMultiMatcher(List.of("^$")), "patterns[0] = \"^$\""),
+            arguments((ThrowingCallable) () -> new KoreanMultiMatcher(List.of("가"), MatchingOptions.JamoStream), "JamoStream")
+        );
+    }
+
+    @ParameterizedTest(name = "new KoreanMultiMatcher() with {1} throws IllegalArgumentException")
+    @MethodSource("constructorExceptionTestParameters")
+    void constructorExceptionTest(ThrowingCallable func, String description) {
+        assertThatThrownBy(func).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    static Stream<Arguments> matchesTestParameters() {
+        return Stream.of(
+            arguments("김치찌개와 김치", List.of("ㄱㅊ", "김치"), MatchingOptions.Default,
+                List.of("0:0:2", "1:0:2", "0:6:2", "1:6:2")),
+            arguments("가가가", List.of("가가"), MatchingOptions.Default,
+                List.of("0:0:2", "0:1:2")),
+            arguments("한국어", List.of("한국", "국어", "ㅎㄱㅇ", "한국어사전"), MatchingOptions.Default,
+                List.of("0:0:2", "1:1:2", "2:0:3")),
+            arguments("xABCx", List.of("abc"), MatchingOptions.Default,
+                List.of()),
+            arguments("xABCx", List.of("abc"), MatchingOptions.IgnoreCase,
+                List.of("0:1:3")),
+            arguments("한 국 어", List.of("한국어"), MatchingOptions.Default,
+                List.of()),
+            arguments("한 국 어", List.of("한국어", "국어"), MatchingOptions.IgnoreWhitespace,
+                List.of("0:0:5", "1:2:3")),
+            arguments("한구기", List.of("한국"), MatchingOptions.Default,
+                List.of()),
+            arguments("한구기", List.of("한국"), MatchingOptions.DubeolsikInput,
+                List.of("0:0:3")),
+            arguments("한국기", List.of("한국"), MatchingOptions.DubeolsikInput,
+                List.of("0:0:2")),
+            arguments("김치 김치", List.of("^김", "치$", "^김치 김치$"), MatchingOptions.Default,
+                List.of("0:0:1", "1:4:1", "2:0:5")),
+            arguments("가구각", List.of("국$", "각$"), MatchingOptions.DubeolsikInput,
+                List.of("1:2:1")),
+            arguments("까 달나", List.of("^ㄲ다", "^까"), MatchingOptions.IgnoreWhitespace,
+                List.of("1:0:1"))
+        );
+    }
+
+    @ParameterizedTest(name = "\"{0}\" with patterns {1} and option {2} has matches {3}")
+    @MethodSource("matchesTestParameters")
+    void matchesTest(String text, List<String> patterns, MatchingOptions option, List<String> expected) {
+        final KoreanMultiMatcher matcher = new KoreanMultiMatcher(patterns, option);
+
+        final List<String> actual = new ArrayList<>();
+        for (KoreanMultiMatcher.Match match : matcher.matches(text))
+            actual.add(match.patternId() + ":" + match.index() + ":" + match.length());
+
+        assertThat(actual).containsExactlyInAnyOrderElementsOf(expected);
+    }
+
+    static Stream<Arguments> matchesConsistencyTestParameters() {
+        return Stream.of(
+            arguments("그 누구도 사랑할 수 없었던 그날", List.of("ㄴㄱ", "사랑", "ㅅ", "그날", "수없")),
+            arguments("ABC abc aBc", List.of("abc", "B", "c a")),
+            arguments("한국 한구기 한국인", List.of("한국", "ㅎㄱ", "국인")),
+            arguments("가구각", List.of("국$", "^가구", "^가국", "^가구각$", "구각$")),
+            arguments("까 달나", List.of("^ㄲ다", "^까 다", "달나$", "ㄷ나$", "^ㄲ 달나$"))
+        );
+    }
+
+    @ParameterizedTest(name = "matches(\"{0}\") with patterns {1} agrees with KoreanTextMatcher")
+    @MethodSource("matchesConsistencyTestParameters")
+    void matchesConsistencyTest(String text, List<String> patterns) {
+        for (MatchingOptions option : MatchingOptions.values()) {
+            if (option == MatchingOptions.JamoStream)
+                continue;
+
+            final List<String> expected = new ArrayList<>();
+            for (int id = 0; id < patterns.size(); id++) {
+                final KoreanTextMatcher matcher = new KoreanTextMatcher(patterns.get(id), option);
+                for (int i = 0; i < text.length(); i++) {
+                    final KoreanTextMatch match = matcher.match(text, i);
+                    if (match.success() && match.index() == i)
+                        expected.add(id + ":" + i + ":" + match.length());
+                }
+            }
+
+            final List<String> actual = new ArrayList<>();
+            new KoreanMultiMatcher(patterns, option).match(text,
+                (patternId, index, length) -> actual.add(patternId + ":" + index + ":" + length));
+
+            assertThat(actual).containsExactlyInAnyOrderElementsOf(expected);
+        }
+    }
+
+    static Stream<Arguments> matchExceptionTestParameters() {
+        final KoreanMultiMatcher matcher = new KoreanMultiMatcher(List.of("가"));
+
+        return Stream.of(
+            arguments((ThrowingCallable) () -> matcher.matches(null), "text = null"),
+            arguments((ThrowingCallable) () -> matcher.match("", null), "handler = null"),
+            arguments((ThrowingCallable) () -> matcher.match("", 1, (id, index, length) -> {}), "startIndex = 1"),
+            arguments((ThrowingCallable) () -> matcher.pattern(1), "patternId = 1")
+        );
+    }
+
+    @ParameterizedTest(name = "KoreanMultiMatcher with {1} throws IllegalArgumentException")
+    @MethodSource("matchExceptionTestParameters")
+    void matchExceptionTest(ThrowingCallable func, String description) {
+        assertThatThrownBy(func).isInstanceOf(IllegalArgumentException.class);
+    }
+}
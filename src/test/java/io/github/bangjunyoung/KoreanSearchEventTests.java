@@ -0,0 +1,125 @@
+/*
+ * Copyright 2026 Bang Jun-young
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions
+ * are met:
+ * 1. Redistributions of source code must retain the above copyright
+ *    notice, this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright
+ *    notice, this list of conditions and the following disclaimer in the
+ *    documentation and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE AUTHOR ``AS IS'' AND ANY EXPRESS OR
+ * IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES
+ * OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED.
+ * IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY DIRECT, INDIRECT,
+ * INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT
+ * NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF
+ * THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.github.bangjunyoung;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.params.provider.Arguments.arguments;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import io.github.bangjunyoung.KoreanTextMatcher.MatchingOptions;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+class KoreanSearchEventTests {
+
+    static Stream<Arguments> searchEventTestParameters() {
+        final String text = "가나다라 ".repeat(300) + "한글 검색";
+
+        return Stream.of(
+            arguments("하늘", "ㅎㄴ", MatchingOptions.Default, 0, 0, 0),
+            arguments(text, "바다", MatchingOptions.Default, 1, text.length(), 0),
+            arguments(text, "ㅎㄱ", MatchingOptions.Default, 1, 1501, 1),
+            arguments(text, "한글검색", MatchingOptions.IgnoreWhitespace, 1, 1501, 1)
+        );
+    }
+
+    @ParameterizedTest(name = "match❨{1}, {2}❩ records {3} event(s)")
+    @MethodSource("searchEventTestParameters")
+    void searchEventTest(String text, String pattern, MatchingOptions option,
+            int eventCount, int searchedLength, int matchCount) throws IOException {
+        final KoreanTextMatcher matcher = new KoreanTextMatcher(pattern, option);
+        final List<RecordedEvent> events = recordSearchEvents(() -> matcher.match(text));
+
+        assertThat(events).hasSize(eventCount);
+        if (eventCount > 0) {
+            final RecordedEvent event = events.get(0);
+            assertThat(event.getInt("patternLength")).isEqualTo(matcher.patternLength());
+            assertThat(event.getString("options")).isEqualTo(matcher.options().toString());
+            assertThat(event.getInt("textLength")).isEqualTo(text.length());
+            assertThat(event.getInt("searchedLength")).isEqualTo(searchedLength);
+            assertThat(event.getInt("matchCount")).isEqualTo(matchCount);
+        }
+    }
+
+    static Stream<Arguments> walkEventTestParameters() {
+        final String text = "한글 검색 ".repeat(300);
+
+        return Stream.of(
+            arguments("matches", text, "ㅎㄱ", 300),
+            arguments("stream", text, "ㅎㄱ", 300),
+            arguments("matches", text, "바다", 0),
+            arguments("stream", text, "", text.length() + 1)
+        );
+    }
+
+    @ParameterizedTest(name = "{0}❨{2}❩ records one event with {3} match(es)")
+    @MethodSource("walkEventTestParameters")
+    void walkEventTest(String method, String text, String pattern, int matchCount) throws IOException {
+        final KoreanTextMatcher matcher = new KoreanTextMatcher(pattern);
+        final List<RecordedEvent> events = recordSearchEvents(() -> {
+            if (method.equals("matches"))
+                matcher.matches(text).forEach(match -> {});
+            else
+                matcher.stream(text).forEach(match -> {});
+        });
+
+        assertThat(events).hasSize(1);
+        final RecordedEvent event = events.get(0);
+        assertThat(event.getInt("textLength")).isEqualTo(text.length());
+        assertThat(event.getInt("searchedLength")).isEqualTo(text.length());
+        assertThat(event.getInt("matchCount")).isEqualTo(matchCount);
+    }
+
+    private static List<RecordedEvent> recordSearchEvents(Runnable search) throws IOException {
+        final Path file = Files.createTempFile("KoreanSearchEventTests", ".jfr");
+        try {
+            try (Recording recording = new Recording()) {
+                recording.enable("io.github.bangjunyoung.Search").withThreshold(Duration.ZERO);
+                recording.start();
+                search.run();
+                recording.stop();
+                recording.dump(file);
+            }
+
+            return RecordingFile.readAllEvents(file).stream()
+                .filter(event -> event.getEventType().getName().equals("io.github.bangjunyoung.Search"))
+                .toList();
+        } finally {
+            Files.delete(file);
+        }
+    }
+}
@@ -0,0 +1,200 @@
+/*
+ * Copyright 2026 Bang Jun-young
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions
+ * are met:
+ * 1. Redistributions of source code must retain the above copyright
+ *    notice, this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright
+ *    notice, this list of conditions and the following disclaimer in the
+ *    documentation and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE AUTHOR ``AS IS'' AND ANY EXPRESS OR
+ * IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES
+ * OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED.
+ * IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY DIRECT, INDIRECT,
+ * INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT
+ * NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF
+ * THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.github.bangjunyoung;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.params.provider.Arguments.arguments;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.assertj.core.api.ThrowableAssert.ThrowingCallable;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import io.github.bangjunyoung.KoreanTextMatcher.MatchingOptions;
+
+class KoreanSearchSessionTests {
+
+    static final String[] CORPUS = {
+        "",
+        "한글",
+        "한국어",
+        "한구기",
+        "하나 둘",
+        "하늘",
+        "학교",
+        "바다 한가운데",
+        "Tik Tak",
+        "TIK tak",
+        "한 글",
+        "ㄱㄴㄷ",
+        "가글",
+    };
+
+    static Stream<Arguments> constructorExceptionTestParameters() {
+        return Stream.of(
+            arguments((ThrowingCallable) () -> new KoreanSearchSession((String[]) null), "corpus = null"),
+            arguments((ThrowingCallable) () -> new KoreanSearchSession((List<String>) null), "corpus = null"),
+            arguments((ThrowingCallable) () -> new KoreanSearchSession(new String[] { "가", null }), "corpus[1] = null")
+        );
+    }
+
+    @ParameterizedTest(name = "new KoreanSearchSession❨ ❩ with {1} throws IllegalArgumentException")
+    @MethodSource("constructorExceptionTestParameters")
+    void constructorExceptionTest(ThrowingCallable func, String description) {
+        assertThatThrownBy(func).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    static Stream<Arguments> searchTestParameters() {
+        return Stream.of(
+            arguments(MatchingOptions.Default, new String[] { "ㅎ", "하", "한", "한ㄱ", "한그", "한글" }),
+            arguments(MatchingOptions.Default, new String[] { "한글", "한그", "한ㄱ", "한", "" }),
+            arguments(MatchingOptions.Default, new String[] { "한", "한ㄱ", "학", "하", "한국" }),
+            arguments(MatchingOptions.DubeolsikInput, new String[] { "ㅎ", "하", "한", "하나", "한", "한ㄱ", "한구", "한국" }),
+            arguments(MatchingOptions.DubeolsikInput, new String[] { "^", "^ㄱ", "^ㄱ한", "^ㄱㄴ" }),
+            arguments(MatchingOptions.DubeolsikInput, new String[] { "글", "^글" }),
+            arguments(MatchingOptions.IgnoreWhitespace, new String[] { "ㅎ", "한", "한ㄱ", "한그", "한글" }),
+            arguments(MatchingOptions.IgnoreWhitespace, new String[] { "^하", "^한", "^한ㄱ", "^한글" }),
+            arguments(MatchingOptions.IgnoreCase, new String[] { "t", "ti", "tik", "TIK", "tik$", "tik" }),
+            arguments(MatchingOptions.Default, new String[] { "^한", "^한ㄱ", "한ㄱ", "ㄱ$", "ㄱㄴㄷ$", "^ㄱㄴㄷ$" })
+        );
+    }
+
+    @ParameterizedTest(name = "search❨ ❩ over {1} with {0} agrees with KoreanTextMatcher.match")
+    @MethodSource("searchTestParameters")
+    void searchTest(MatchingOptions option, String[] patterns) {
+        final KoreanSearchSession session = new KoreanSearchSession(CORPUS, option);
+
+        for (String pattern : patterns) {
+            final KoreanTextMatcher matcher = new KoreanTextMatcher(pattern, option);
+            final List<Integer> expected = new ArrayList<>();
+            final List<String> expectedMatches = new ArrayList<>();
+            for (int id = 0; id < CORPUS.length; id++) {
+                final KoreanTextMatch match = matcher.match(CORPUS[id]);
+                if (match.success()) {
+                    expected.add(id);
+                    expectedMatches.add(match.index() + ":" + match.length());
+                }
+            }
+
+            final int[] ids = session.search(pattern);
+            final List<String> actualMatches = new ArrayList<>();
+            for (int id : ids) {
+                final KoreanTextMatch match = session.match(id);
+                actualMatches.add(match.index() + ":" + match.length());
+            }
+
+            assertThat(ids).as(pattern).containsExactly(
+                expected.stream().mapToInt(Integer::intValue).toArray());
+            assertThat(actualMatches).as(pattern).isEqualTo(expectedMatches);
+        }
+    }
+
+    static Stream<Arguments> narrowsTestParameters() {
+        return Stream.of(
+            arguments("", "ㅎ", MatchingOptions.Default, true),
+            arguments("ㅎ", "하", MatchingOptions.Default, true),
+            arguments("하", "한", MatchingOptions.Default, true),
+            arguments("한", "한ㄱ", MatchingOptions.Default, true),
+            arguments("한ㄱ", "한그", MatchingOptions.Default, true),
+            arguments("ㄱ", "ㄲ", MatchingOptions.Default, true),
+            arguments("한", "하", MatchingOptions.Default, false),
+            arguments("한", "하나", MatchingOptions.Default, false),
+            arguments("한", "하나", MatchingOptions.DubeolsikInput, true),
+            arguments("한ㄱ", "학", MatchingOptions.Default, false),
+            arguments("t", "T", MatchingOptions.Default, false),
+            arguments("t", "T", MatchingOptions.IgnoreCase, true),
+            arguments("^한", "^한글", MatchingOptions.Default, true),
+            arguments("^한", "한글", MatchingOptions.Default, false),
+            arguments("한", "^한글$", MatchingOptions.Default, true),
+            arguments("한$", "한글", MatchingOptions.Default, false),
+            arguments("^한", "^한ㄱ", MatchingOptions.IgnoreWhitespace, false),
+            arguments("^ㄱ", "^ㄱ한", MatchingOptions.DubeolsikInput, false),
+            arguments("글", "^글", MatchingOptions.DubeolsikInput, false)
+        );
+    }
+
+    @ParameterizedTest(name = "narrows❨{1}, {0}❩ with {2} returns {3}")
+    @MethodSource("narrowsTestParameters")
+    void narrowsTest(String previous, String next, MatchingOptions option, boolean expected) {
+        final boolean actual = KoreanSearchSession.narrows(
+            new KoreanTextMatcher(next, option), new KoreanTextMatcher(previous, option));
+
+        assertThat(actual).isEqualTo(expected);
+    }
+
+    static Stream<Arguments> narrowsEditsTestParameters() {
+        return Stream.of(
+            arguments("한", 0, "한글", 1, false),
+            arguments("한", 1, "한글", 0, false),
+            arguments("한", 1, "한글", 1, false)
+        );
+    }
+
+    @ParameterizedTest(name = "narrows❨{2} with {3} edits, {0} with {1} edits❩ returns {4}")
+    @MethodSource("narrowsEditsTestParameters")
+    void narrowsEditsTest(String previous, int previousEdits, String next, int nextEdits, boolean expected) {
+        final boolean actual = KoreanSearchSession.narrows(
+            new KoreanTextMatcher(next, nextEdits), new KoreanTextMatcher(previous, previousEdits));
+
+        assertThat(actual).isEqualTo(expected);
+    }
+
+    @ParameterizedTest(name = "reset❨ ❩ after {1} keeps search❨ ❩ consistent")
+    @MethodSource("searchTestParameters")
+    void resetTest(MatchingOptions option, String[] patterns) {
+        final KoreanSearchSession session = new KoreanSearchSession(List.of(CORPUS), option);
+        final String last = patterns[patterns.length - 1];
+
+        session.search(patterns[0]);
+        final int[] expected = session.search(last);
+        session.reset();
+
+        assertThat(session.search(last)).containsExactly(expected);
+        assertThat(session.size()).isEqualTo(CORPUS.length);
+    }
+
+    static Stream<Arguments> methodExceptionTestParameters() {
+        final KoreanSearchSession session = new KoreanSearchSession(CORPUS);
+
+        return Stream.of(
+            arguments((ThrowingCallable) () -> session.search(null), "pattern = null"),
+            arguments((ThrowingCallable) () -> session.match(-1), "id = -1"),
+            arguments((ThrowingCallable) () -> session.match(CORPUS.length), "id = size()"),
+            arguments((ThrowingCallable) () -> session.get(CORPUS.length), "id = size()")
+        );
+    }
+
+    @ParameterizedTest(name = "method call with {1} throws IllegalArgumentException")
+    @MethodSource("methodExceptionTestParameters")
+    void methodExceptionTest(ThrowingCallable func, String description) {
+        assertThatThrownBy(func).isInstanceOf(IllegalArgumentException.class);
+    }
+}
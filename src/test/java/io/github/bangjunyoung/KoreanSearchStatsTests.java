@@ -0,0 +1,133 @@
+/*
+ * Copyright 2026 Bang Jun-young
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions
+ * are met:
+ * 1. Redistributions of source code must retain the above copyright
+ *    notice, this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright
+ *    notice, this list of conditions and the following disclaimer in the
+ *    documentation and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE AUTHOR ``AS IS'' AND ANY EXPRESS OR
+ * IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES
+ * OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED.
+ * IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY DIRECT, INDIRECT,
+ * INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT
+ * NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF
+ * THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.github.bangjunyoung;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+import static org.junit.jupiter.params.provider.Arguments.arguments;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import io.github.bangjunyoung.KoreanTextMatcher.MatchingOptions;
+
+class KoreanSearchStatsTests {
+
+    @AfterEach
+    void resetListener() {
+        KoreanSearchStats.setListener(KoreanSearchStats.NO_LISTENER);
+    }
+
+    @Test
+    void setListenerExceptionTest() {
+        assertThatThrownBy(() -> KoreanSearchStats.setListener(null)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void getListenerTest() {
+        assertThat(KoreanSearchStats.getListener()).isSameAs(KoreanSearchStats.NO_LISTENER);
+
+        final KoreanSearchStats.Listener listener = (matcher, stats) -> {};
+        KoreanSearchStats.setListener(listener);
+
+        assertThat(KoreanSearchStats.getListener()).isSameAs(listener);
+    }
+
+    static Stream<Arguments> statsTestParameters() {
+        return Stream.of(
+            arguments("하늘", "바다", MatchingOptions.Default, 0, false, false),
+            arguments("바다 하늘 바다", "하늘", MatchingOptions.Default, 1, false, false),
+            arguments("하\n늘", "하늘", MatchingOptions.IgnoreWhitespace, 1, true, false),
+            arguments("한구기", "한국", MatchingOptions.DubeolsikInput, 1, false, true),
+            arguments("가나다라 ".repeat(100) + "한글", "ㅎㄱ", MatchingOptions.Default, 1, false, false),
+            arguments("가나다라 ".repeat(100) + "한 글", "한글", MatchingOptions.IgnoreWhitespace, 1, true, false)
+        );
+    }
+
+    @ParameterizedTest(name = "match❨\"{0}\"❩ for \"{1}\" with {2} reports its cost")
+    @MethodSource("statsTestParameters")
+    void statsTest(String text, String pattern, MatchingOptions option,
+            int matchCount, boolean skipsWhitespace, boolean triesDubeolsik) {
+        assumeTrue(KoreanSearchStats.isEnabled());
+
+        final KoreanTextMatcher matcher = new KoreanTextMatcher(pattern, option);
+        final List<String> reports = new ArrayList<>();
+        KoreanSearchStats.setListener((m, stats) -> {
+            assertThat(m).isSameAs(matcher);
+            assertThat(stats.textLength()).isEqualTo(text.length());
+            assertThat(stats.positionCount()).isPositive();
+            assertThat(stats.comparisonCount()).isPositive();
+            assertThat(stats.whitespaceCount() > 0).isEqualTo(skipsWhitespace);
+            assertThat(stats.dubeolsikAttemptCount() > 0).isEqualTo(triesDubeolsik);
+            assertThat(stats.elapsedNanos()).isNotNegative();
+            reports.add(stats.toString());
+            assertThat(stats.matchCount()).isEqualTo(matchCount);
+        });
+
+        matcher.match(text);
+
+        assertThat(reports).hasSize(1);
+    }
+
+    @Test
+    void matchesTest() {
+        assumeTrue(KoreanSearchStats.isEnabled());
+
+        final List<Integer> matchCounts = new ArrayList<>();
+        KoreanSearchStats.setListener((matcher, stats) -> matchCounts.add(stats.matchCount()));
+
+        for (KoreanTextMatch match : KoreanTextMatcher.matches("바다 하늘 바다 하늘", "바다"))
+            assertThat(match.success()).isTrue();
+
+        assertThat(matchCounts).containsExactly(1, 1, 0);
+    }
+
+    @Test
+    void nestedSearchTest() {
+        assumeTrue(KoreanSearchStats.isEnabled());
+
+        final KoreanTextMatcher inner = new KoreanTextMatcher("바다");
+        final List<String> reports = new ArrayList<>();
+        KoreanSearchStats.setListener((matcher, stats) -> {
+            final int textLength = stats.textLength();
+            if (matcher != inner)
+                inner.match("바다");
+            reports.add(matcher.pattern() + ":" + textLength + ":" + stats.textLength());
+        });
+
+        new KoreanTextMatcher("하늘").match("바다 하늘 바다");
+
+        assertThat(reports).containsExactly("바다:2:2", "하늘:8:8");
+    }
+}
@@ -0,0 +1,140 @@
+/*
+ * Copyright 2026 Bang Jun-young
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions
+ * are met:
+ * 1. Redistributions of source code must retain the above copyright
+ *    notice, this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright
+ *    notice, this list of conditions and the following disclaimer in the
+ *    documentation and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE AUTHOR ``AS IS'' AND ANY EXPRESS OR
+ * IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES
+ * OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED.
+ * IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY DIRECT, INDIRECT,
+ * INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT
+ * NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF
+ * THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.github.bangjunyoung;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.params.provider.Arguments.arguments;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.assertj.core.api.ThrowableAssert.ThrowingCallable;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import io.github.bangjunyoung.KoreanTextMatcher.MatchingOptions;
+
+class KoreanStreamMatcherTests {
+
+    static Stream<Arguments> constructorExceptionTestParameters() {
+        return Stream.of(
+            arguments((ThrowingCallable) () -> new KoreanStreamMatcher(null), "matcher = null"),
+            arguments((ThrowingCallable) () -> new KoreanStreamMatcher(new KoreanTextMatcher(""), 0), "chunkSize = 0"),
+            arguments((ThrowingCallable) () -> new KoreanStreamMatcher(new KoreanTextMatcher("가", 1)), "maxEdits > 0"),
+            arguments((ThrowingCallable) () -> new KoreanStreamMatcher(new KoreanTextMatcher("가", MatchingOptions.JamoStream)), "JamoStream")
+        );
+    }
+
+    @ParameterizedTest(name = "new KoreanStreamMatcher❨ ❩ with {1} throws IllegalArgumentException")
+    @MethodSource("constructorExceptionTestParameters")
+    void constructorExceptionTest(ThrowingCallable func, String description) {
+        assertThatThrownBy(func).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    static Stream<Arguments> matchesTestParameters() {
+        return Stream.of(
+            arguments("", "", MatchingOptions.Default, 1),
+            arguments("하늘", "", MatchingOptions.Default, 1),
+            arguments("하늘", "^", MatchingOptions.Default, 1),
+            arguments("하늘", "$", MatchingOptions.Default, 1),
+            arguments("", "^$", MatchingOptions.Default, 1),
+            arguments("바다 하늘 바다", "바다", MatchingOptions.Default, 1),
+            arguments("바다 하늘 바다", "바다", MatchingOptions.Default, 2),
+            arguments("바다 하늘 바다", "^바다", MatchingOptions.Default, 1),
+            arguments("바다 하늘 바다", "바다$", MatchingOptions.Default, 3),
+            arguments("바다 하늘 바다", "^바다 하늘 바다$", MatchingOptions.Default, 4),
+            arguments("한국", "^한", MatchingOptions.DubeolsikInput, 1),
+            arguments("가가가가가가가가가가가각", "가가각", MatchingOptions.Default, 5),
+            arguments("하늘하늘하늘", "ㅎㄴ", MatchingOptions.Default, 1),
+            arguments("하\n늘       하\t늘 하늘", "하늘", MatchingOptions.IgnoreWhitespace, 2),
+            arguments("가" + " ".repeat(1000) + "나", "가나", MatchingOptions.IgnoreWhitespace, 7),
+            arguments("가 " + "\n".repeat(500) + "나다 " + " \t".repeat(300) + "라 가나", "가나다라", MatchingOptions.IgnoreWhitespace, 16),
+            arguments("한구기 한국어 한구ㄱ", "한국", MatchingOptions.DubeolsikInput, 1),
+            arguments("한구기 한국어 한구ㄱ", "한국", MatchingOptions.DubeolsikInput, 3),
+            arguments("Tik Tak TIK tak", "tik", MatchingOptions.IgnoreCase, 2),
+            arguments("가나다라 ".repeat(300) + "한글 음절 근사 매칭", "음ㅈ ㄱㅅ", MatchingOptions.Default, 500),
+            arguments("가".repeat(1000) + "가가각" + "가".repeat(1000), "가가각", MatchingOptions.Default, 300)
+        );
+    }
+
+    @ParameterizedTest(name = "matches❨{1}, {2}❩ with chunk size {3} agrees with KoreanTextMatcher.matches")
+    @MethodSource("matchesTestParameters")
+    void matchesTest(String text, String pattern, MatchingOptions option, int chunkSize) throws IOException {
+        final KoreanTextMatcher matcher = new KoreanTextMatcher(pattern, option);
+        final List<String> expected = new ArrayList<>();
+        for (KoreanTextMatch match : matcher.matches(text))
+            expected.add(match.index() + ":" + match.length());
+
+        final List<String> actual = new ArrayList<>();
+        final long count = new KoreanStreamMatcher(matcher, chunkSize)
+            .matches(new StringReader(text), (index, length) -> actual.add(index + ":" + length));
+
+        assertThat(actual).isEqualTo(expected);
+        assertThat(count).isEqualTo(expected.size());
+    }
+
+    @ParameterizedTest(name = "matches❨channel, {1}, {2}❩ with chunk size {3} agrees with KoreanTextMatcher.matches")
+    @MethodSource("matchesTestParameters")
+    void matchesChannelTest(String text, String pattern, MatchingOptions option, int chunkSize) throws IOException {
+        final KoreanTextMatcher matcher = new KoreanTextMatcher(pattern, option);
+        final List<String> expected = new ArrayList<>();
+        for (KoreanTextMatch match : matcher.matches(text))
+            expected.add(match.index() + ":" + match.length());
+
+        final List<String> actual = new ArrayList<>();
+        new KoreanStreamMatcher(matcher, chunkSize).matches(
+            Channels.newChannel(new ByteArrayInputStream(text.getBytes(StandardCharsets.UTF_8))),
+            StandardCharsets.UTF_8,
+            (index, length) -> actual.add(index + ":" + length));
+
+        assertThat(actual).isEqualTo(expected);
+    }
+
+    static Stream<Arguments> matchesExceptionTestParameters() {
+        final KoreanStreamMatcher matcher = new KoreanStreamMatcher(new KoreanTextMatcher("가"));
+
+        return Stream.of(
+            arguments((ThrowingCallable) () -> matcher.matches(null, (index, length) -> {}), "reader = null"),
+            arguments((ThrowingCallable) () -> matcher.matches(new StringReader(""), null), "listener = null"),
+            arguments((ThrowingCallable) () -> matcher.matches(null, StandardCharsets.UTF_8, (index, length) -> {}), "channel = null"),
+            arguments((ThrowingCallable) () -> matcher.matches(Channels.newChannel(new ByteArrayInputStream(new byte[0])), null, (index, length) -> {}), "charset = null")
+        );
+    }
+
+    @ParameterizedTest(name = "matches❨ ❩ with {1} throws IllegalArgumentException")
+    @MethodSource("matchesExceptionTestParameters")
+    void matchesExceptionTest(ThrowingCallable func, String description) {
+        assertThatThrownBy(func).isInstanceOf(IllegalArgumentException.class);
+    }
+}
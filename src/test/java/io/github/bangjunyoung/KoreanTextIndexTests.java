@@ -0,0 +1,176 @@
+/*
+ * Copyright 2026 Bang Jun-young
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions
+ * are met:
+ * 1. Redistributions of source code must retain the above copyright
+ *    notice, this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright
+ *    notice, this list of conditions and the following disclaimer in the
+ *    documentation and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE AUTHOR ``AS IS'' AND ANY EXPRESS OR
+ * IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES
+ * OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED.
+ * IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY DIRECT, INDIRECT,
+ * INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT
+ * NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF
+ * THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.github.bangjunyoung;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.params.provider.Arguments.arguments;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.assertj.core.api.ThrowableAssert.ThrowingCallable;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import io.github.bangjunyoung.KoreanTextMatcher.MatchingOptions;
+
+class KoreanTextIndexTests {
+
+    static final String[] CORPUS = {
+        "",
+        "김국민",
+        "김 국 민",
+        "까치 까마귀",
+        "한국어 한구기",
+        "한구ㄱ",
+        "Tik Tak",
+        "TIK tak",
+        "하\n늘       하\t늘",
+        "한글 음절 근사 매칭",
+        "가가가가가가각",
+        "ㄱㄴㄷ",
+    };
+
+    static Stream<Arguments> constructorExceptionTestParameters() {
+        return Stream.of(
+            arguments((ThrowingCallable) () -> new KoreanTextIndex((String[]) null), "corpus = null"),
+            arguments((ThrowingCallable) () -> new KoreanTextIndex((List<String>) null), "corpus = null"),
+            arguments((ThrowingCallable) () -> new KoreanTextIndex(new String[] { "가", null }), "corpus[1] = null")
+        );
+    }
+
+    @ParameterizedTest(name = "new KoreanTextIndex❨ ❩ with {1} throws IllegalArgumentException")
+    @MethodSource("constructorExceptionTestParameters")
+    void constructorExceptionTest(ThrowingCallable func, String description) {
+        assertThatThrownBy(func).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    static Stream<Arguments> searchTestParameters() {
+        return Stream.of(
+            arguments("", MatchingOptions.Default),
+            arguments("^", MatchingOptions.Default),
+            arguments("^$", MatchingOptions.Default),
+            arguments("국민", MatchingOptions.Default),
+            arguments("ㄱㅁ", MatchingOptions.Default),
+            arguments("김국", MatchingOptions.IgnoreWhitespace),
+            arguments("ㄲㅊ", MatchingOptions.Default),
+            arguments("ㄱㄱ", MatchingOptions.Default),
+            arguments("까", MatchingOptions.Default),
+            arguments("한국", MatchingOptions.DubeolsikInput),
+            arguments("^한국", MatchingOptions.DubeolsikInput),
+            arguments("구ㄱ", MatchingOptions.Default),
+            arguments("tik", MatchingOptions.Default),
+            arguments("tik", MatchingOptions.IgnoreCase),
+            arguments("TIK$", MatchingOptions.IgnoreCase),
+            arguments("하늘하늘", MatchingOptions.IgnoreWhitespace),
+            arguments("음ㅈ ㄱㅅ", MatchingOptions.Default),
+            arguments("가가각", MatchingOptions.Default),
+            arguments("ㄴㄷ", MatchingOptions.Default),
+            arguments("없음", MatchingOptions.Default)
+        );
+    }
+
+    @ParameterizedTest(name = "search❨{0}, {1}❩ agrees with KoreanTextMatcher.match")
+    @MethodSource("searchTestParameters")
+    void searchTest(String pattern, MatchingOptions option) {
+        final KoreanTextMatcher matcher = new KoreanTextMatcher(pattern, option);
+        final List<Integer> expected = new ArrayList<>();
+        for (int id = 0; id < CORPUS.length; id++) {
+            if (matcher.match(CORPUS[id]).success())
+                expected.add(id);
+        }
+
+        final KoreanTextIndex index = new KoreanTextIndex(Arrays.asList(CORPUS));
+
+        assertThat(index.search(pattern, option)).containsExactly(
+            expected.stream().mapToInt(Integer::intValue).toArray());
+        assertThat(index.search(matcher)).containsExactly(
+            expected.stream().mapToInt(Integer::intValue).toArray());
+    }
+
+    static Stream<Arguments> searchEditsTestParameters() {
+        return Stream.of(
+            arguments("김국만", 1, MatchingOptions.Default),
+            arguments("한국어", 2, MatchingOptions.Default),
+            arguments("김국민", 1, MatchingOptions.IgnoreWhitespace),
+            arguments("tok", 1, MatchingOptions.IgnoreCase),
+            arguments("ㄱㅜㄱ", 0, MatchingOptions.JamoStream)
+        );
+    }
+
+    @ParameterizedTest(name = "search❨{0}, {1} edits, {2}❩ agrees with KoreanTextMatcher.match")
+    @MethodSource("searchEditsTestParameters")
+    void searchEditsTest(String pattern, int maxEdits, MatchingOptions option) {
+        final KoreanTextMatcher matcher = new KoreanTextMatcher(pattern, maxEdits, option);
+        final List<Integer> expected = new ArrayList<>();
+        for (int id = 0; id < CORPUS.length; id++) {
+            if (matcher.match(CORPUS[id]).success())
+                expected.add(id);
+        }
+
+        assertThat(expected).isNotEmpty();
+        assertThat(new KoreanTextIndex(CORPUS).search(matcher)).containsExactly(
+            expected.stream().mapToInt(Integer::intValue).toArray());
+    }
+
+    static Stream<Arguments> getTestParameters() {
+        return Stream.of(
+            arguments(0, ""),
+            arguments(1, "김국민"),
+            arguments(CORPUS.length - 1, "ㄱㄴㄷ")
+        );
+    }
+
+    @ParameterizedTest(name = "get❨{0}❩ returns \"{1}\"")
+    @MethodSource("getTestParameters")
+    void getTest(int id, String expected) {
+        final KoreanTextIndex index = new KoreanTextIndex(CORPUS);
+
+        assertThat(index.size()).isEqualTo(CORPUS.length);
+        assertThat(index.get(id)).isEqualTo(expected);
+    }
+
+    static Stream<Arguments> methodExceptionTestParameters() {
+        final KoreanTextIndex index = new KoreanTextIndex(CORPUS);
+
+        return Stream.of(
+            arguments((ThrowingCallable) () -> index.get(-1), "id = -1"),
+            arguments((ThrowingCallable) () -> index.get(CORPUS.length), "id = size()"),
+            arguments((ThrowingCallable) () -> index.search((String) null), "pattern = null"),
+            arguments((ThrowingCallable) () -> index.search((KoreanTextMatcher) null), "matcher = null")
+        );
+    }
+
+    @ParameterizedTest(name = "method call with {1} throws IllegalArgumentException")
+    @MethodSource("methodExceptionTestParameters")
+    void methodExceptionTest(ThrowingCallable func, String description) {
+        assertThatThrownBy(func).isInstanceOf(IllegalArgumentException.class);
+    }
+}
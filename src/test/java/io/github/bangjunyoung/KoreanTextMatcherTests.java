@@ -29,8 +29,17 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.junit.jupiter.params.provider.Arguments.arguments;
 
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.EnumSet;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.concurrent.ForkJoinPool;
 import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import org.assertj.core.api.ThrowableAssert.ThrowingCallable;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -43,7 +52,12 @@ class KoreanTextMatcherTests {
 
     static Stream<Arguments> constructorTestParameters() {
         return Stream.of(
-            arguments((ThrowingCallable) () -> new KoreanTextMatcher(null), "pattern = null")
+            arguments((ThrowingCallable) () -> new KoreanTextMatcher(null), "pattern = null"),
+            arguments((ThrowingCallable) () -> new KoreanTextMatcher(null, 1), "pattern = null, maxEdits = 1"),
+            arguments((ThrowingCallable) () -> new KoreanTextMatcher("한글", -1), "maxEdits = -1"),
+            arguments((ThrowingCallable) () -> new KoreanTextMatcher("한글", KoreanTextMatcher.MAX_EDITS + 1), "maxEdits > MAX_EDITS"),
+            arguments((ThrowingCallable) () -> new KoreanTextMatcher("한".repeat(22), 1), "65 jamos or more with edits"),
+            arguments((ThrowingCallable) () -> new KoreanTextMatcher("한".repeat(22), MatchingOptions.JamoStream), "65 jamos or more with JamoStream")
         );
     }
 
@@ -101,6 +115,21 @@ class KoreanTextMatcherTests {
         assertThat(count).isEqualTo(expectedMatchCount);
     }
 
+    @ParameterizedTest(name = "find❨{0}, {1}, {2}❩ finds {3} matches")
+    @MethodSource("matchesTestParameters")
+    void findTest(String text, String pattern, EnumSet<MatchingOptions> options, int expectedMatchCount) {
+        KoreanTextMatcher matcher = new KoreanTextMatcher(pattern, options);
+        KoreanMatchCursor cursor = new KoreanMatchCursor();
+        int count = 0;
+        for (boolean found = matcher.find(text, 0, cursor); found; found = matcher.findNext(text, cursor)) {
+            count++;
+            assertThat(cursor.success()).isTrue();
+            assertThat(text).contains(text.substring(cursor.index(), cursor.index() + cursor.length()));
+        }
+        assertThat(cursor.success()).isFalse();
+        assertThat(count).isEqualTo(expectedMatchCount);
+    }
+
     static Stream<Arguments> isMatchTestParameters() {
         return Stream.of(
             arguments("", "", true),
@@ -169,7 +198,9 @@ class KoreanTextMatcherTests {
             arguments("ABC", "abc", EnumSet.of(MatchingOptions.IgnoreCase), true),
             arguments("ABC", "abz", EnumSet.of(MatchingOptions.IgnoreCase), false),
             arguments("ABC", "ab1", EnumSet.of(MatchingOptions.IgnoreCase), false),
-            arguments("AB1", "ab1", EnumSet.of(MatchingOptions.IgnoreCase), true)
+            arguments("AB1", "ab1", EnumSet.of(MatchingOptions.IgnoreCase), true),
+            arguments("HAN강", "hanㄱㅏㅇ", EnumSet.of(MatchingOptions.IgnoreCase, MatchingOptions.JamoStream), true),
+            arguments("HAN강", "hanㄱㅏㅇ", EnumSet.of(MatchingOptions.JamoStream), false)
         );
     }
 
@@ -238,7 +269,12 @@ class KoreanTextMatcherTests {
             arguments("바닥에 남은  차가운   껍질에", "ㅊㄱㅇㄲㅈㅇ", MatchingOptions.Default, true, "차가운   껍질에", 8, 9),
             arguments("바닥에 남은 차가운 껍질   ", "ㅊㄱㅇㄲㅈㅇ", MatchingOptions.Default, false, "", 0, 0),
             arguments("바닥에 남은 차가운 껍질", "바닥엔", MatchingOptions.DubeolsikInput, true, "바닥에 남", 0, 5),
-            arguments(" 바닥에  남은  차가운", "바닥엔", MatchingOptions.DubeolsikInput, true, "바닥에  남", 1, 6)
+            arguments(" 바닥에  남은  차가운", "바닥엔", MatchingOptions.DubeolsikInput, true, "바닥에  남", 1, 6),
+            arguments("가 나", "가나다", MatchingOptions.Default, false, "", 0, 0),
+            arguments("가 바", "가받", MatchingOptions.DubeolsikInput, false, "", 0, 0),
+            arguments("바닥 ".repeat(200) + "바닥에    ㄴ", "바닥엔", MatchingOptions.DubeolsikInput, true, "바닥에    ㄴ", 600, 8),
+            arguments("가나다 ".repeat(100) + "한\t\t\t구기", "한국", MatchingOptions.DubeolsikInput, true, "한\t\t\t구기", 400, 6),
+            arguments("가나다 ".repeat(100) + "한\t\t\t구", "한국", MatchingOptions.DubeolsikInput, false, "", 0, 0)
         );
     }
 
@@ -273,7 +309,8 @@ class KoreanTextMatcherTests {
             arguments("하늘", "하", MatchingOptions.DubeolsikInput, true, 0, 1),
             arguments("하늘", "한", MatchingOptions.DubeolsikInput, true, 0, 2),
             arguments("하늘", "한", MatchingOptions.Default, false, 0, 0),
-            arguments("하늘", "한강", MatchingOptions.DubeolsikInput, false, 0, 0)
+            arguments("하늘", "한강", MatchingOptions.DubeolsikInput, false, 0, 0),
+            arguments("하", "^한", MatchingOptions.DubeolsikInput, false, 0, 0)
         );
     }
 
@@ -286,6 +323,456 @@ class KoreanTextMatcherTests {
         assertThat(match.length()).isEqualTo(expectedLength);
     }
 
+    @ParameterizedTest(name = "match❨StringBuilder {0}, {1}❩ agrees with match❨String {0}, {1}❩")
+    @MethodSource("matchTestParameters")
+    void matchStringBuilderTest(String text, String pattern, MatchingOptions option,
+            boolean expectedSuccess, int expectedIndex, int expectedLength) {
+        KoreanTextMatcher matcher = new KoreanTextMatcher(pattern, option);
+        KoreanTextMatch expected = matcher.match(text);
+        KoreanTextMatch actual = matcher.match(new StringBuilder(text));
+        assertThat(actual.success()).isEqualTo(expected.success()).isEqualTo(expectedSuccess);
+        assertThat(actual.index()).isEqualTo(expected.index());
+        assertThat(actual.length()).isEqualTo(expected.length());
+    }
+
+    static Stream<Arguments> matchEditsTestParameters() {
+        return Stream.of(
+            arguments("한굴", "한글", 0, MatchingOptions.Default, false, 0, 0),
+            arguments("한굴", "한글", 1, MatchingOptions.Default, true, 0, 2),
+            arguments("우리 한굴날", "한글", 1, MatchingOptions.Default, true, 3, 2),
+            arguments("한국", "한극", 1, MatchingOptions.Default, true, 0, 2),
+            arguments("하글", "한글", 1, MatchingOptions.Default, true, 0, 2),
+            arguments("한구ㄱ", "한국", 1, MatchingOptions.Default, true, 0, 3),
+            arguments("한글", "ㅎㄱ", 1, MatchingOptions.Default, true, 0, 2),
+            arguments("곽", "ㅘ", 1, MatchingOptions.Default, true, 0, 1),
+            arguments("ㄱ곽", "ㅘ", 1, MatchingOptions.Default, true, 1, 1),
+            arguments("괄", "ㅏㄹ", 1, MatchingOptions.Default, false, 0, 0),
+            arguments("괄", "ㅏㄹ", 2, MatchingOptions.Default, true, 0, 1),
+            arguments("가나다", "가다", 0, MatchingOptions.Default, false, 0, 0),
+            arguments("가나다", "가다", 1, MatchingOptions.Default, true, 0, 2),
+            arguments("가나", "가다", 1, MatchingOptions.Default, true, 0, 2),
+            arguments("한국어", "하구거", 2, MatchingOptions.Default, true, 0, 2),
+            arguments("바다 하늘", "하늘", 3, MatchingOptions.Default, true, 3, 2),
+            arguments("한 굴", "한글", 1, MatchingOptions.IgnoreWhitespace, true, 0, 3),
+            arguments("한 굴", "한글", 1, MatchingOptions.Default, false, 0, 0),
+            arguments("HAM", "han", 1, MatchingOptions.IgnoreCase, true, 0, 2),
+            arguments("우리 한굴", "^한글", 1, MatchingOptions.Default, false, 0, 0),
+            arguments("한굴 우리", "^한글", 1, MatchingOptions.Default, true, 0, 2),
+            arguments("한굴 우리", "한글$", 1, MatchingOptions.Default, false, 0, 0),
+            arguments("우리 한굴", "한글$", 1, MatchingOptions.Default, true, 3, 2)
+        );
+    }
+
+    @ParameterizedTest(name = "new KoreanTextMatcher❨{1}, {2}, {3}❩.match❨{0}❩ returns success={4}, index={5}, length={6}")
+    @MethodSource("matchEditsTestParameters")
+    void matchEditsTest(String text, String pattern, int maxEdits, MatchingOptions option,
+            boolean expectedSuccess, int expectedIndex, int expectedLength) {
+        KoreanTextMatcher matcher = new KoreanTextMatcher(pattern, maxEdits, option);
+        KoreanTextMatch match = matcher.match(text);
+
+        assertThat(matcher.maxEdits()).isEqualTo(maxEdits);
+        assertThat(match.success()).isEqualTo(expectedSuccess);
+        assertThat(match.index()).isEqualTo(expectedIndex);
+        assertThat(match.length()).isEqualTo(expectedLength);
+    }
+
+    static Stream<Arguments> matchesEditsTestParameters() {
+        return Stream.of(
+            arguments("가나다라", "ㅏ", 1, List.of("0:1", "1:1", "2:1", "3:1")),
+            arguments("나다라", "가", 1, List.of("0:1", "1:1", "2:1")),
+            arguments("한그한글", "한글", 1, List.of("0:2", "2:2")),
+            arguments("한굴 한글", "한글", 1, List.of("0:2", "3:2"))
+        );
+    }
+
+    @ParameterizedTest(name = "new KoreanTextMatcher❨{1}, {2}❩.matches❨{0}❩ returns {3}")
+    @MethodSource("matchesEditsTestParameters")
+    void matchesEditsTest(String text, String pattern, int maxEdits, List<String> expected) {
+        List<String> actual = new ArrayList<>();
+        for (KoreanTextMatch match : new KoreanTextMatcher(pattern, maxEdits).matches(text))
+            actual.add(match.index() + ":" + match.length());
+
+        assertThat(actual).isEqualTo(expected);
+    }
+
+    static Stream<Arguments> matchJamoStreamTestParameters() {
+        return Stream.of(
+            arguments("강", "ㄱㅏㅇ", MatchingOptions.Default, false, 0, 0),
+            arguments("강", "ㄱㅏㅇ", MatchingOptions.JamoStream, true, 0, 1),
+            arguments("강", "가ㅇ", MatchingOptions.JamoStream, true, 0, 1),
+            arguments("강", "강", MatchingOptions.JamoStream, true, 0, 1),
+            arguments("가ㅇ", "강", MatchingOptions.JamoStream, true, 0, 2),
+            arguments("한강", "ㄱㅏㅇ", MatchingOptions.JamoStream, true, 1, 1),
+            arguments("한글", "ㅎㄱ", MatchingOptions.JamoStream, true, 0, 2),
+            arguments("한글", "ㅎㅏㄴㄱ", MatchingOptions.JamoStream, true, 0, 2),
+            arguments("한구기", "한국", MatchingOptions.JamoStream, true, 0, 3),
+            arguments("닭", "ㄷㅏㄺ", MatchingOptions.JamoStream, true, 0, 1),
+            arguments("강", "ㅏㅇ", MatchingOptions.JamoStream, false, 0, 0),
+            arguments("가나", "강", MatchingOptions.JamoStream, false, 0, 0),
+            arguments("우리 강", "^ㄱㅏㅇ", MatchingOptions.JamoStream, false, 0, 0),
+            arguments("우리 강", "ㄱㅏㅇ$", MatchingOptions.JamoStream, true, 3, 1)
+        );
+    }
+
+    @ParameterizedTest(name = "new KoreanTextMatcher❨{1}, {2}❩.match❨{0}❩ returns success={3}, index={4}, length={5}")
+    @MethodSource("matchJamoStreamTestParameters")
+    void matchJamoStreamTest(String text, String pattern, MatchingOptions option,
+            boolean expectedSuccess, int expectedIndex, int expectedLength) {
+        KoreanTextMatch match = new KoreanTextMatcher(pattern, option).match(text);
+
+        assertThat(match.success()).isEqualTo(expectedSuccess);
+        assertThat(match.index()).isEqualTo(expectedIndex);
+        assertThat(match.length()).isEqualTo(expectedLength);
+    }
+
+    static Stream<Arguments> matchEditsAgreementTestParameters() {
+        return Stream.of(
+            arguments("한글", 1, MatchingOptions.Default),
+            arguments("김미나", 2, MatchingOptions.Default),
+            arguments("ㄱㅁㅅ", 1, MatchingOptions.IgnoreWhitespace),
+            arguments("^박민", 1, MatchingOptions.Default),
+            arguments("kin", 1, MatchingOptions.IgnoreCase),
+            arguments("김ㅁㅣㄴ", 0, MatchingOptions.JamoStream),
+            arguments("하ㄴ구", 1, MatchingOptions.JamoStream)
+        );
+    }
+
+    @ParameterizedTest(name = "filter❨ ❩, top❨ ❩, stream❨ ❩ and parallelMatches❨ ❩ with {0}, {1} edits and {2} agree with match❨ ❩")
+    @MethodSource("matchEditsAgreementTestParameters")
+    void matchEditsAgreementTest(String pattern, int maxEdits, MatchingOptions option) {
+        String[] names = { "김민수", "김 민 수", "김미나", "Kim Minsu", "KIM", "박민수", "김미니", "이소민", "", "ㄱㅁㅅ", "한굴", "한국 한글" };
+        String[] corpus = new String[500];
+        for (int i = 0; i < corpus.length; i++)
+            corpus[i] = names[i * 7 % names.length] + (i % 3 == 0 ? "" : " " + names[i % names.length]);
+
+        KoreanTextMatcher matcher = new KoreanTextMatcher(pattern, maxEdits, option);
+        long[] expected = new long[(corpus.length + 63) / 64];
+        int expectedCount = 0;
+        for (int i = 0; i < corpus.length; i++) {
+            if (matcher.match(corpus[i]).success()) {
+                expected[i >>> 6] |= 1L << i;
+                expectedCount++;
+            }
+        }
+
+        long[] bitmap = new long[expected.length];
+        assertThat(matcher.filter(corpus, bitmap)).isEqualTo(expectedCount);
+        assertThat(bitmap).isEqualTo(expected);
+        assertThat(matcher.top(corpus, corpus.length)).hasSize(expectedCount);
+
+        String text = String.join(" ", corpus);
+        List<String> matches = new ArrayList<>();
+        for (KoreanTextMatch match : matcher.matches(text))
+            matches.add(match.index() + ":" + match.length());
+
+        assertThat(matcher.stream(text).map(match -> match.index() + ":" + match.length()).toList())
+            .isEqualTo(matches);
+
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            List<String> actual = new ArrayList<>();
+            for (KoreanTextMatch match : matcher.parallelMatches(text, pool))
+                actual.add(match.index() + ":" + match.length());
+
+            assertThat(actual).isEqualTo(matches);
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    static Stream<Arguments> matchLongTextTestParameters() {
+        return Stream.of(
+            arguments("가나다라 ".repeat(100) + "한글 음절 근사 매칭", "음ㅈ ㄱㅅ", MatchingOptions.Default, true, 503, 5),
+            arguments("가".repeat(1000) + "각", "가가각", MatchingOptions.Default, true, 998, 3),
+            arguments("ㄱ".repeat(300), "ㄱㄱㄴ", MatchingOptions.Default, false, 0, 0),
+            arguments("바닥".repeat(200) + "바닥에남은", "바닥엔", MatchingOptions.DubeolsikInput, true, 400, 4),
+            arguments("x".repeat(500) + "Tik Tak", "K TA", MatchingOptions.IgnoreCase, true, 502, 4),
+            arguments("가".repeat(2000) + "가가가난", "가가가ㄴ", MatchingOptions.Default, true, 2000, 4),
+            arguments("가".repeat(2000) + "가가가난", "ㅎ", MatchingOptions.Default, false, 0, 0),
+            arguments("가".repeat(300) + "나", "가".repeat(70) + "ㄴ", MatchingOptions.Default, true, 230, 71),
+            arguments("가".repeat(300) + "난다", "가".repeat(61) + "낟", MatchingOptions.DubeolsikInput, true, 239, 63),
+            arguments("가나다라 ".repeat(100) + "한 \t 글\n\n\n음", "한글음", MatchingOptions.IgnoreWhitespace, true, 500, 9),
+            arguments("가" + " ".repeat(1000) + "나", "가나", MatchingOptions.IgnoreWhitespace, true, 0, 1002),
+            arguments("가" + " ".repeat(1000) + "나", "가나다", MatchingOptions.IgnoreWhitespace, false, 0, 0),
+            arguments("가 ".repeat(300) + "나", "가".repeat(70) + "ㄴ", MatchingOptions.IgnoreWhitespace, true, 460, 141)
+        );
+    }
+
+    @ParameterizedTest(name = "new KoreanTextMatcher❨{1}, {2}❩.match❨long text❩ returns success={3}, index={4}, length={5}")
+    @MethodSource("matchLongTextTestParameters")
+    void matchLongTextTest(String text, String pattern, MatchingOptions option,
+            boolean expectedSuccess, int expectedIndex, int expectedLength) {
+        KoreanTextMatch match = new KoreanTextMatcher(pattern, option).match(text);
+        assertThat(match.success()).isEqualTo(expectedSuccess);
+        if (match.success()) {
+            assertThat(match.index()).isEqualTo(expectedIndex);
+            assertThat(match.length()).isEqualTo(expectedLength);
+        }
+    }
+
+    @ParameterizedTest(name = "new KoreanTextMatcher❨{1}, {2}❩.match❨long text❩ gives the same result for every text type")
+    @MethodSource("matchLongTextTestParameters")
+    void matchCharSequenceTest(String text, String pattern, MatchingOptions option,
+            boolean expectedSuccess, int expectedIndex, int expectedLength) {
+        KoreanTextMatcher matcher = new KoreanTextMatcher(pattern, option);
+        char[] buffer = ("앞" + text + "뒤").toCharArray();
+        KoreanTextMatch[] matches = {
+            matcher.match(new StringBuilder(text)),
+            matcher.match(CharBuffer.wrap(text)),
+            matcher.match(CharBuffer.wrap(buffer, 1, text.length())),
+            matcher.match(CharBuffer.wrap(buffer).position(1).slice().limit(text.length())),
+            matcher.match(ByteBuffer.allocateDirect(2 * text.length()).asCharBuffer().put(text).flip()),
+            matcher.match(buffer, 1, text.length())
+        };
+        for (KoreanTextMatch match : matches) {
+            assertThat(match.success()).isEqualTo(expectedSuccess);
+            if (match.success()) {
+                assertThat(match.index()).isEqualTo(expectedIndex);
+                assertThat(match.length()).isEqualTo(expectedLength);
+                assertThat(match.value()).isEqualTo(text.substring(expectedIndex, expectedIndex + expectedLength));
+            }
+        }
+    }
+
+    static Stream<Arguments> parallelMatchesTestParameters() {
+        String text = "가나다라 ".repeat(50000) + "한글 음절\n근사 매칭" + "한구기 한국어 ".repeat(30000);
+        String spaced = ("하" + " ".repeat(70000) + "늘 ").repeat(8);
+
+        return Stream.of(
+            arguments(text, "다라 ㄱ", MatchingOptions.Default),
+            arguments(text, "ㄹ ㄱㄴ", MatchingOptions.Default),
+            arguments(text, "ㄱㄴㄷ", MatchingOptions.IgnoreWhitespace),
+            arguments(text, "음ㅈㄱㅅ", MatchingOptions.IgnoreWhitespace),
+            arguments(text, "한국", MatchingOptions.DubeolsikInput),
+            arguments(text, "^가나", MatchingOptions.Default),
+            arguments(text, "", MatchingOptions.Default),
+            arguments(spaced, "하늘", MatchingOptions.IgnoreWhitespace),
+            arguments("가".repeat(300000), "가가", MatchingOptions.Default),
+            arguments("가".repeat(300000), "가".repeat(70), MatchingOptions.Default)
+        );
+    }
+
+    @ParameterizedTest(name = "parallelMatches❨{1}, {2}❩ agrees with matches❨ ❩")
+    @MethodSource("parallelMatchesTestParameters")
+    void parallelMatchesTest(String text, String pattern, MatchingOptions option) {
+        KoreanTextMatcher matcher = new KoreanTextMatcher(pattern, option);
+        List<String> expected = new ArrayList<>();
+        for (KoreanTextMatch match : matcher.matches(text))
+            expected.add(match.index() + ":" + match.length());
+
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            List<String> actual = new ArrayList<>();
+            for (KoreanTextMatch match : matcher.parallelMatches(text, pool))
+                actual.add(match.index() + ":" + match.length());
+
+            assertThat(actual).isEqualTo(expected);
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    static Stream<Arguments> filterTestParameters() {
+        return Stream.of(
+            arguments("ㄱㅁ", MatchingOptions.Default, 10),
+            arguments("김미", MatchingOptions.Default, 1000),
+            arguments("^ㄱ", MatchingOptions.Default, 1000),
+            arguments("ㅅ$", MatchingOptions.Default, 1000),
+            arguments("", MatchingOptions.Default, 70),
+            arguments("kIM", MatchingOptions.IgnoreCase, 1000),
+            arguments("김민", MatchingOptions.DubeolsikInput, 1000),
+            arguments("ㄱㅁㅅ", MatchingOptions.IgnoreWhitespace, 10000)
+        );
+    }
+
+    @ParameterizedTest(name = "filter❨{0}, {1}❩ over {2} entries agrees with match❨ ❩")
+    @MethodSource("filterTestParameters")
+    void filterTest(String pattern, MatchingOptions option, int corpusSize) {
+        String[] names = { "김민수", "김 민 수", "김미나", "Kim Minsu", "KIM", "박민수", "김미니", "이소민", "", "ㄱㅁㅅ" };
+        String[] corpus = new String[corpusSize];
+        for (int i = 0; i < corpusSize; i++)
+            corpus[i] = names[i * 7 % names.length] + (i % 3 == 0 ? "" : " " + names[i % names.length]);
+
+        KoreanTextMatcher matcher = new KoreanTextMatcher(pattern, option);
+        long[] expected = new long[(corpusSize + 63) / 64];
+        int expectedCount = 0;
+        for (int i = 0; i < corpusSize; i++) {
+            if (matcher.match(corpus[i]).success()) {
+                expected[i >>> 6] |= 1L << i;
+                expectedCount++;
+            }
+        }
+
+        long[] bitmap = new long[expected.length];
+        Arrays.fill(bitmap, -1);
+        assertThat(matcher.filter(corpus, bitmap)).isEqualTo(expectedCount);
+        assertThat(bitmap).isEqualTo(expected);
+
+        Arrays.fill(bitmap, -1);
+        assertThat(matcher.filter(Arrays.asList(corpus), bitmap)).isEqualTo(expectedCount);
+        assertThat(bitmap).isEqualTo(expected);
+
+        Arrays.fill(bitmap, -1);
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            assertThat(matcher.filter(corpus, bitmap, pool)).isEqualTo(expectedCount);
+        } finally {
+            pool.shutdown();
+        }
+        assertThat(bitmap).isEqualTo(expected);
+    }
+
+    static Stream<Arguments> topTestParameters() {
+        String[] corpus = { "바다 한가운데", "한글", "하늘", "한 글", "우리 한글", "핝", "큰한글", "한국어 한글", "한글날", "kim", "KIM lee" };
+
+        return Stream.of(
+            arguments(corpus, "한글", MatchingOptions.Default, 3, new int[] { 1, 8, 4 }),
+            arguments(corpus, "한글", MatchingOptions.Default, 10, new int[] { 1, 8, 4, 7, 6 }),
+            arguments(corpus, "한글", MatchingOptions.IgnoreWhitespace, 10, new int[] { 1, 8, 3, 4, 7, 6 }),
+            arguments(corpus, "한", MatchingOptions.Default, 4, new int[] { 1, 3, 8, 7 }),
+            arguments(corpus, "ㅎ", MatchingOptions.Default, 3, new int[] { 5, 1, 2 }),
+            arguments(corpus, "한ㄱ", MatchingOptions.DubeolsikInput, 2, new int[] { 1, 8 }),
+            arguments(corpus, "kim", MatchingOptions.IgnoreCase, 5, new int[] { 9, 10 }),
+            arguments(corpus, "", MatchingOptions.Default, 2, new int[] { 5, 1 }),
+            arguments(corpus, "한글", MatchingOptions.Default, 0, new int[0]),
+            arguments(corpus, "없음", MatchingOptions.Default, 5, new int[0])
+        );
+    }
+
+    @ParameterizedTest(name = "top❨{1}, {3}❩ with {2} returns {4}")
+    @MethodSource("topTestParameters")
+    void topTest(String[] corpus, String pattern, MatchingOptions option, int k, int[] expected) {
+        KoreanTextMatcher matcher = new KoreanTextMatcher(pattern, option);
+
+        assertThat(matcher.top(corpus, k)).containsExactly(expected);
+        assertThat(matcher.top(Arrays.asList(corpus), k)).containsExactly(expected);
+    }
+
+    @ParameterizedTest(name = "matches❨char[], {1}, {2}❩ returns {3}")
+    @MethodSource("matchesTestParameters")
+    void matchesCharArrayTest(String text, String pattern, EnumSet<MatchingOptions> options, int expectedMatchCount) {
+        char[] buffer = ("하늘" + text + "하늘").toCharArray();
+        int count = 0;
+        for (KoreanTextMatch match : new KoreanTextMatcher(pattern, options).matches(buffer, 2, text.length())) {
+            count++;
+            assertThat(match.index() + match.length()).isLessThanOrEqualTo(text.length());
+            assertThat(text).contains(match.value());
+        }
+        assertThat(count).isEqualTo(expectedMatchCount);
+    }
+
+    @ParameterizedTest(name = "findUtf8❨{0}, {1}, {2}❩ finds {3} matches")
+    @MethodSource("matchesTestParameters")
+    void findUtf8CountTest(String text, String pattern, EnumSet<MatchingOptions> options, int expectedMatchCount) {
+        KoreanTextMatcher matcher = new KoreanTextMatcher(pattern, options);
+        byte[] bytes = text.getBytes(StandardCharsets.UTF_8);
+        KoreanMatchCursor cursor = new KoreanMatchCursor();
+        int count = 0;
+        for (boolean found = matcher.findUtf8(bytes, 0, cursor); found; found = matcher.findNextUtf8(bytes, cursor)) {
+            count++;
+            String value = new String(bytes, cursor.index(), cursor.length(), StandardCharsets.UTF_8);
+            assertThat(text).contains(value);
+        }
+        assertThat(count).isEqualTo(expectedMatchCount);
+    }
+
+    static Stream<Arguments> findUtf8TestParameters() {
+        return Stream.of(
+            arguments("푸른 하늘", "ㅎㄴ", MatchingOptions.Default, true, 7, 6),
+            arguments("a😀하늘", "하", MatchingOptions.Default, true, 5, 3),
+            arguments("café 한글", "é 한", MatchingOptions.Default, true, 3, 6),
+            arguments("하 늘", "하늘", MatchingOptions.IgnoreWhitespace, true, 0, 7),
+            arguments("한구기", "한국", MatchingOptions.DubeolsikInput, true, 0, 9),
+            arguments("하늘 하늘", "^하늘", MatchingOptions.Default, true, 0, 6),
+            arguments("하늘 하늘", "하늘$", MatchingOptions.Default, true, 7, 6),
+            arguments("하늘 하늘 ", "하늘$", MatchingOptions.Default, false, 0, 0),
+            arguments("하늘", "ㅂ", MatchingOptions.Default, false, 0, 0)
+        );
+    }
+
+    @ParameterizedTest(name = "findUtf8❨{0}, {1}, {2}❩ returns success={3}, index={4}, length={5}")
+    @MethodSource("findUtf8TestParameters")
+    void findUtf8Test(String text, String pattern, MatchingOptions option,
+            boolean expectedSuccess, int expectedIndex, int expectedLength) {
+        KoreanTextMatcher matcher = new KoreanTextMatcher(pattern, option);
+        byte[] bytes = ("앞" + text).getBytes(StandardCharsets.UTF_8);
+        KoreanMatchCursor cursor = new KoreanMatchCursor();
+        boolean found = matcher.findUtf8(ByteBuffer.wrap(bytes, 3, bytes.length - 3), 0, cursor);
+        assertThat(found).isEqualTo(expectedSuccess);
+        if (found) {
+            assertThat(cursor.index()).isEqualTo(expectedIndex);
+            assertThat(cursor.length()).isEqualTo(expectedLength);
+        }
+    }
+
+    @ParameterizedTest(name = "stream❨{1}, {2}❩ agrees with matches❨ ❩")
+    @MethodSource("parallelMatchesTestParameters")
+    void streamTest(String text, String pattern, MatchingOptions option) {
+        KoreanTextMatcher matcher = new KoreanTextMatcher(pattern, option);
+        List<String> expected = new ArrayList<>();
+        for (KoreanTextMatch match : matcher.matches(text))
+            expected.add(match.index() + ":" + match.length());
+
+        assertThat(matcher.stream(text).map(match -> match.index() + ":" + match.length()).toList())
+            .isEqualTo(expected);
+        assertThat(matcher.stream(text).parallel().map(match -> match.index() + ":" + match.length()).toList())
+            .isEqualTo(expected);
+        assertThat(StreamSupport.stream(matcher.matches(text).spliterator(), true)
+            .map(match -> match.index() + ":" + match.length()).toList())
+            .isEqualTo(expected);
+    }
+
+    static Stream<Arguments> streamSplitTestParameters() {
+        String text = "가나다라 ".repeat(50000) + "한글 음절\n근사 매칭";
+
+        return Stream.of(
+            arguments(text, "다라 ㄱ", MatchingOptions.Default, true),
+            arguments(text, "ㄱㄴㄷ", MatchingOptions.IgnoreWhitespace, true),
+            arguments(text, "한국", MatchingOptions.DubeolsikInput, true),
+            arguments(text, "^가나", MatchingOptions.Default, false),
+            arguments(text, "", MatchingOptions.Default, false),
+            arguments("하늘", "하늘", MatchingOptions.Default, false),
+            arguments("가".repeat(300000), "가가", MatchingOptions.Default, false),
+            arguments("가".repeat(300000), "가".repeat(70) + "나", MatchingOptions.Default, false)
+        );
+    }
+
+    @ParameterizedTest(name = "stream❨{1}, {2}❩.spliterator❨ ❩.trySplit❨ ❩ splits: {3}")
+    @MethodSource("streamSplitTestParameters")
+    void streamSplitTest(String text, String pattern, MatchingOptions option, boolean expected) {
+        KoreanTextMatcher matcher = new KoreanTextMatcher(pattern, option);
+        Spliterator<KoreanTextMatch> suffix = matcher.stream(text).spliterator();
+        Spliterator<KoreanTextMatch> prefix = suffix.trySplit();
+
+        assertThat(prefix != null).isEqualTo(expected);
+        assertThat(suffix.hasCharacteristics(Spliterator.ORDERED | Spliterator.NONNULL)).isTrue();
+        if (prefix != null) {
+            assertThat(prefix.estimateSize() + suffix.estimateSize()).isLessThanOrEqualTo(text.length());
+
+            List<Integer> indices = new ArrayList<>();
+            prefix.forEachRemaining(match -> indices.add(match.index()));
+            suffix.forEachRemaining(match -> indices.add(match.index()));
+            assertThat(indices).isEqualTo(matcher.stream(text).map(KoreanTextMatch::index).toList());
+        }
+    }
+
+    static Stream<Arguments> patternTestParameters() {
+        return Stream.of(
+            arguments("", new MatchingOptions[] {}),
+            arguments("^한글$", new MatchingOptions[] { MatchingOptions.IgnoreCase }),
+            arguments("ㅎㄱ", new MatchingOptions[] { MatchingOptions.DubeolsikInput, MatchingOptions.IgnoreWhitespace })
+        );
+    }
+
+    @ParameterizedTest(name = "pattern❨ ❩ and options❨ ❩ of \"{0}\" return what was given")
+    @MethodSource("patternTestParameters")
+    void patternTest(String pattern, MatchingOptions[] options) {
+        final KoreanTextMatcher matcher = new KoreanTextMatcher(pattern, options);
+
+        assertThat(matcher.pattern()).isEqualTo(pattern);
+        assertThat(matcher.options()).containsExactlyInAnyOrder(options);
+    }
+
     static Stream<Arguments> matchExceptionTestParameters() {
         return Stream.of(
             arguments((ThrowingCallable) () -> KoreanTextMatcher.match(null, ""), "text = null"),
@@ -293,7 +780,34 @@ class KoreanTextMatcherTests {
             arguments((ThrowingCallable) () -> new KoreanTextMatcher("").match(null), "text = null"),
             arguments((ThrowingCallable) () -> new KoreanTextMatcher(null).match(""), "pattern = null"),
             arguments((ThrowingCallable) () -> new KoreanTextMatcher("").match("", -1), "startIndex < 0"),
-            arguments((ThrowingCallable) () -> new KoreanTextMatcher("").match("", 1), "startIndex > text.length❨ ❩")
+            arguments((ThrowingCallable) () -> new KoreanTextMatcher("").match("", 1), "startIndex > text.length❨ ❩"),
+            arguments((ThrowingCallable) () -> new KoreanTextMatcher("").find(null, 0, new KoreanMatchCursor()), "text = null"),
+            arguments((ThrowingCallable) () -> new KoreanTextMatcher("").find("", 0, null), "cursor = null"),
+            arguments((ThrowingCallable) () -> new KoreanTextMatcher("").find("", 1, new KoreanMatchCursor()), "startIndex > text.length❨ ❩"),
+            arguments((ThrowingCallable) () -> new KoreanTextMatcher("").findNext("", null), "cursor = null"),
+            arguments((ThrowingCallable) () -> new KoreanTextMatcher("").match(null, 0, 0), "buffer = null"),
+            arguments((ThrowingCallable) () -> new KoreanTextMatcher("").match(new char[2], -1, 1), "offset < 0"),
+            arguments((ThrowingCallable) () -> new KoreanTextMatcher("").match(new char[2], 3, 0), "offset > buffer.length"),
+            arguments((ThrowingCallable) () -> new KoreanTextMatcher("").match(new char[2], 1, 2), "offset + length > buffer.length"),
+            arguments((ThrowingCallable) () -> new KoreanTextMatcher("").findUtf8((byte[])null, 0, new KoreanMatchCursor()), "bytes = null"),
+            arguments((ThrowingCallable) () -> new KoreanTextMatcher("").parallelMatches(null, ForkJoinPool.commonPool()), "text = null"),
+            arguments((ThrowingCallable) () -> new KoreanTextMatcher("").parallelMatches("", null), "pool = null"),
+            arguments((ThrowingCallable) () -> new KoreanTextMatcher("").filter((String[])null, new long[1]), "corpus = null"),
+            arguments((ThrowingCallable) () -> new KoreanTextMatcher("").filter(new String[1], new long[1]), "corpus[0] = null"),
+            arguments((ThrowingCallable) () -> new KoreanTextMatcher("").filter(new String[] { "" }, null), "bitmap = null"),
+            arguments((ThrowingCallable) () -> new KoreanTextMatcher("").filter(new String[65], new long[1]), "bitmap.length < 2"),
+            arguments((ThrowingCallable) () -> new KoreanTextMatcher("").filter(Arrays.asList((String)null), new long[1]), "list corpus[0] = null"),
+            arguments((ThrowingCallable) () -> new KoreanTextMatcher("").filter(new String[] { "" }, new long[1], null), "pool = null"),
+            arguments((ThrowingCallable) () -> new KoreanTextMatcher("").stream(null), "stream text = null"),
+            arguments((ThrowingCallable) () -> new KoreanTextMatcher("").stream("", 1), "stream startIndex > text.length❨ ❩"),
+            arguments((ThrowingCallable) () -> new KoreanTextMatcher("").matches((String)null).spliterator(), "spliterator text = null"),
+            arguments((ThrowingCallable) () -> new KoreanTextMatcher("").top((String[])null, 1), "corpus = null"),
+            arguments((ThrowingCallable) () -> new KoreanTextMatcher("").top(new String[1], 1), "corpus[0] = null"),
+            arguments((ThrowingCallable) () -> new KoreanTextMatcher("").top(new String[] { "" }, -1), "k < 0"),
+            arguments((ThrowingCallable) () -> new KoreanTextMatcher("").findUtf8(new byte[1], 2, new KoreanMatchCursor()), "startIndex > bytes.length"),
+            arguments((ThrowingCallable) () -> new KoreanTextMatcher("가".repeat(65)).findUtf8(new byte[1], 0, new KoreanMatchCursor()), "pattern.length❨ ❩ > 64"),
+            arguments((ThrowingCallable) () -> new KoreanTextMatcher("가", 1).findUtf8(new byte[1], 0, new KoreanMatchCursor()), "maxEdits > 0"),
+            arguments((ThrowingCallable) () -> new KoreanTextMatcher("가", MatchingOptions.JamoStream).findUtf8(new byte[1], 0, new KoreanMatchCursor()), "JamoStream")
         );
     }
 
@@ -0,0 +1,88 @@
+/*
+ * Copyright 2026 Bang Jun-young
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions
+ * are met:
+ * 1. Redistributions of source code must retain the above copyright
+ *    notice, this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright
+ *    notice, this list of conditions and the following disclaimer in the
+ *    documentation and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE AUTHOR ``AS IS'' AND ANY EXPRESS OR
+ * IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES
+ * OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED.
+ * IN NO EVENT SHALL THE AUTHOR BE LIABLE FOR ANY DIRECT, INDIRECT,
+ * INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT
+ * NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF
+ * THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.github.bangjunyoung;
+
+import jdk.incubator.vector.ShortVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * {@code jdk.incubator.vector} 모듈의 Vector API로 구현한
+ * {@link KoreanCandidateScanner}.
+ * <p>
+ * 플랫폼이 지원하는 가장 넓은 벡터 단위로, 예를 들어 AVX2에서는 16자씩,
+ * AVX-512에서는 32자씩 텍스트를 읽어 각 범위와 한꺼번에 비교한다.
+ *
+ * @author 방준영 &lt;bang.junyoung@gmail.com&gt;
+ */
+final class KoreanVectorCandidateScanner extends KoreanCandidateScanner {
+
+    private static final VectorSpecies<Short> SPECIES = ShortVector.SPECIES_PREFERRED;
+
+    KoreanVectorCandidateScanner() {
+        //
+        // Fails here rather than on the first search if the incubator
+        // module isn't there after all.
+        //
+        SPECIES.length();
+    }
+
+    //
+    // c is in [first, last] if and only if c - first, taken unsigned, is at
+    // most last - first, which takes one subtraction and one comparison per
+    // range.
+    //
+    @Override
+    int next(char[] text, int from, int to, char[] ranges) {
+        final int rangeCount = ranges.length / 2;
+        final short first0 = (short)ranges[0];
+        final short span0 = (short)(ranges[1] - ranges[0]);
+
+        int i = from;
+        final int vectorEnd = from + SPECIES.loopBound(to - from);
+        for (; i < vectorEnd; i += SPECIES.length()) {
+            final ShortVector chars = ShortVector.fromCharArray(SPECIES, text, i);
+            VectorMask<Short> hits = chars.sub(first0).compare(VectorOperators.UNSIGNED_LE, span0);
+            for (int r = 1; r < rangeCount; r++) {
+                hits = hits.or(chars.sub((short)ranges[2 * r])
+                    .compare(VectorOperators.UNSIGNED_LE, (short)(ranges[2 * r + 1] - ranges[2 * r])));
+            }
+            if (hits.anyTrue())
+                return i + hits.firstTrue();
+        }
+
+        for (; i < to; i++) {
+            final char c = text[i];
+            for (int r = 0; r < rangeCount; r++) {
+                if ((char)(c - ranges[2 * r]) <= (char)(ranges[2 * r + 1] - ranges[2 * r]))
+                    return i;
+            }
+        }
+
+        return to;
+    }
+}